@@ -0,0 +1,24 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for creating and updating many products in one request.
+ */
+@Schema(description = "Batch of product creations and updates processed in a single unit of work")
+public record BatchProductRequest(
+    @Schema(description = "Products to create")
+    @Valid
+    @Size(max = 1000, message = "At most 1000 products can be created per batch")
+    List<CreateProductRequest> create,
+
+    @Schema(description = "Products to update")
+    @Valid
+    @Size(max = 1000, message = "At most 1000 products can be updated per batch")
+    List<BatchUpdateProductRequest> update
+) {
+}
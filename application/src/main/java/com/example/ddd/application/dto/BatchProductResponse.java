@@ -0,0 +1,15 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for the per-item results of a batch request.
+ */
+@Schema(description = "Per-item results of a product batch, creations first and then updates")
+public record BatchProductResponse(
+    @Schema(description = "One result per submitted item")
+    List<BatchProductResult> results
+) {
+}
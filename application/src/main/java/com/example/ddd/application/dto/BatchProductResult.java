@@ -0,0 +1,37 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the outcome of one item of a batch request.
+ */
+@Schema(description = "Outcome of a single batch item")
+public record BatchProductResult(
+    @Schema(description = "Operation the item belongs to", example = "CREATE", allowableValues = {"CREATE", "UPDATE"})
+    String operation,
+
+    @Schema(description = "Position of the item within its operation list", example = "0")
+    int index,
+
+    @Schema(description = "Item status", example = "CREATED", allowableValues = {"CREATED", "UPDATED", "REJECTED"})
+    String status,
+
+    @Schema(description = "Resulting product; null when the item was rejected")
+    ProductResponse product,
+
+    @Schema(description = "Reason the item was rejected; null on success", example = "Product with name 'Laptop' already exists")
+    String error
+) {
+
+    public static BatchProductResult created(int index, ProductResponse product) {
+        return new BatchProductResult("CREATE", index, "CREATED", product, null);
+    }
+
+    public static BatchProductResult updated(int index, ProductResponse product) {
+        return new BatchProductResult("UPDATE", index, "UPDATED", product, null);
+    }
+
+    public static BatchProductResult rejected(String operation, int index, String error) {
+        return new BatchProductResult(operation, index, "REJECTED", null, error);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO for a single product update inside a batch.
+ */
+@Schema(description = "Update of one product's name and description within a batch")
+public record BatchUpdateProductRequest(
+    @Schema(description = "ID of the product to update", example = "550e8400e29b41d4a716446655440000", required = true)
+    @NotBlank(message = "Product ID is required")
+    String id,
+
+    @Schema(description = "Updated product name", example = "Updated Laptop", required = true)
+    @NotBlank(message = "Product name is required")
+    String name,
+
+    @Schema(description = "Updated product description", example = "Updated high-performance laptop")
+    String description
+) {
+}
@@ -0,0 +1,28 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for a product's stock at a location near a requested position.
+ */
+@Schema(description = "Stock of a product at a location near the requested position")
+public record LocationAvailabilityResponse(
+    @Schema(description = "Location code", example = "AMS-1")
+    String locationCode,
+
+    @Schema(description = "Location name", example = "Amsterdam warehouse")
+    String name,
+
+    @Schema(description = "Latitude in decimal degrees", example = "52.3676")
+    double latitude,
+
+    @Schema(description = "Longitude in decimal degrees", example = "4.9041")
+    double longitude,
+
+    @Schema(description = "Distance from the requested position in kilometres", example = "3.2")
+    double distanceKm,
+
+    @Schema(description = "Units in stock at the location", example = "12")
+    int quantity
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the result of a stock adjustment at one location.
+ */
+@Schema(description = "Stock quantity at a location before and after an adjustment")
+public record LocationStockAdjustmentResponse(
+    @Schema(description = "Product identifier", example = "550e8400-e29b-41d4-a716-446655440000")
+    String productId,
+
+    @Schema(description = "Location code", example = "AMS-1")
+    String locationCode,
+
+    @Schema(description = "Stock quantity at the location before the adjustment", example = "10")
+    int previousQuantity,
+
+    @Schema(description = "Stock quantity at the location after the adjustment", example = "8")
+    int stockQuantity
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for a cursor-paginated page of products.
+ */
+@Schema(description = "A page of products with an opaque cursor for the next page")
+public record ProductPageResponse(
+    @Schema(description = "Products on this page, ordered by creation time")
+    List<ProductResponse> items,
+
+    @Schema(description = "Cursor to pass as 'cursor' to fetch the next page; null when this is the last page",
+        example = "MTc2MDUyNDIwMDowOjU1MGU4NDAwZTI5YjQxZDRhNzE2NDQ2NjU1NDQwMDAw")
+    String nextCursor
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for one page of product search results.
+ */
+@Schema(description = "A page of products matching a name search, most relevant first")
+public record ProductSearchResponse(
+    @Schema(description = "Search query as submitted", example = "laptop")
+    String query,
+
+    @Schema(description = "Zero-based page number", example = "0")
+    int page,
+
+    @Schema(description = "Maximum number of results per page", example = "20")
+    int size,
+
+    @Schema(description = "Matching products on this page")
+    List<ProductResponse> items,
+
+    @Schema(description = "Whether another page of results follows", example = "true")
+    boolean hasMore
+) {
+}
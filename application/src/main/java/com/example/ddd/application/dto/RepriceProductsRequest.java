@@ -0,0 +1,41 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for discounting many products at once.
+ * Products must match every criterion given; with none, the whole catalog is repriced.
+ * A repricing that failed part way is resumed by sending the same request, repricing ID included, again.
+ */
+@Schema(description = "Request to apply a percentage discount to a selection of products")
+public record RepriceProductsRequest(
+    @Schema(description = "Caller-chosen ID of this repricing; retrying with the same ID resumes a failed repricing "
+        + "instead of discounting products twice", example = "spring-sale-2026", required = true)
+    @NotBlank(message = "Repricing ID is required")
+    @Size(max = 100, message = "Repricing ID must be at most 100 characters")
+    String repricingId,
+
+    @Schema(description = "Only products with this status", example = "ACTIVE")
+    String status,
+
+    @Schema(description = "Only products whose name matches, ignoring case; * matches any characters", example = "*laptop*")
+    String namePattern,
+
+    @Schema(description = "Only these products")
+    List<String> ids,
+
+    @Schema(description = "Discount in percent, with at most two decimals (at most 50)", example = "15", required = true)
+    @NotNull(message = "Discount percentage is required")
+    @DecimalMin(value = "0", message = "Discount percentage must be non-negative")
+    @DecimalMax(value = "100", message = "Discount percentage must be at most 100")
+    BigDecimal discountPercentage
+) {
+}
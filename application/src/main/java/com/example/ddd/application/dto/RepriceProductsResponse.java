@@ -0,0 +1,16 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the outcome of a bulk repricing.
+ */
+@Schema(description = "Number of products selected and repriced")
+public record RepriceProductsResponse(
+    @Schema(description = "Products that matched the selection", example = "1200")
+    long selected,
+
+    @Schema(description = "Products whose price changed", example = "1187")
+    long repriced
+) {
+}
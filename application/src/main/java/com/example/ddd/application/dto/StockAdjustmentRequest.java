@@ -0,0 +1,19 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for adding stock to a product or removing stock from it.
+ */
+@Schema(description = "Request to adjust a product's stock quantity")
+public record StockAdjustmentRequest(
+    @Schema(description = "Units to add, or to remove when negative", example = "-2", required = true)
+    @NotNull(message = "Delta is required")
+    @Min(value = -1_000_000, message = "Delta must be at least -1000000")
+    @Max(value = 1_000_000, message = "Delta must be at most 1000000")
+    Integer delta
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the result of a stock adjustment.
+ */
+@Schema(description = "Stock quantity before and after an adjustment")
+public record StockAdjustmentResponse(
+    @Schema(description = "Product identifier", example = "550e8400-e29b-41d4-a716-446655440000")
+    String id,
+
+    @Schema(description = "Stock quantity before the adjustment", example = "10")
+    int previousQuantity,
+
+    @Schema(description = "Stock quantity after the adjustment", example = "8")
+    int stockQuantity
+) {
+}
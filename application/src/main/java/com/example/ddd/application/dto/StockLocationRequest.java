@@ -0,0 +1,30 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for creating or updating a stock location.
+ */
+@Schema(description = "Request to create or update a warehouse or store holding stock")
+public record StockLocationRequest(
+    @Schema(description = "Location name", example = "Amsterdam warehouse", required = true)
+    @NotBlank(message = "Location name is required")
+    String name,
+
+    @Schema(description = "Latitude in decimal degrees", example = "52.3676", required = true)
+    @NotNull(message = "Latitude is required")
+    @DecimalMin(value = "-90", message = "Latitude must be at least -90")
+    @DecimalMax(value = "90", message = "Latitude must be at most 90")
+    Double latitude,
+
+    @Schema(description = "Longitude in decimal degrees", example = "4.9041", required = true)
+    @NotNull(message = "Longitude is required")
+    @DecimalMin(value = "-180", message = "Longitude must be at least -180")
+    @DecimalMax(value = "180", message = "Longitude must be at most 180")
+    Double longitude
+) {
+}
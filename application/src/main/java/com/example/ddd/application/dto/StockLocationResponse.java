@@ -0,0 +1,22 @@
+package com.example.ddd.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for a stock location.
+ */
+@Schema(description = "A warehouse or store holding stock")
+public record StockLocationResponse(
+    @Schema(description = "Location code", example = "AMS-1")
+    String code,
+
+    @Schema(description = "Location name", example = "Amsterdam warehouse")
+    String name,
+
+    @Schema(description = "Latitude in decimal degrees", example = "52.3676")
+    double latitude,
+
+    @Schema(description = "Longitude in decimal degrees", example = "4.9041")
+    double longitude
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.ddd.application.inventory;
+
+import com.example.ddd.application.dto.StockAdjustmentResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Grants stock removals from the stock ledger, and adds stock with a conditional update as RepositoryStockAdjustment does.
+ * A removal's response reports the units the ledger held for the product before and after it, since the
+ * product's total only reflects the removal once the ledger flushes.
+ */
+@RequiredArgsConstructor
+public class LedgerStockAdjustment implements StockAdjustmentStrategy {
+
+    private final StockLedger stockLedger;
+    private final RepositoryStockAdjustment additions;
+
+    @Override
+    public StockAdjustmentResponse adjust(ProductId productId, int delta) {
+        // A zero delta is rejected by the repository with its usual message
+        if (delta >= 0) {
+            return additions.adjust(productId, delta);
+        }
+        StockLedger.Removal removal = stockLedger.removeStock(productId, -delta);
+        return new StockAdjustmentResponse(productId.value(), (int) removal.previousQuantity(), (int) removal.newQuantity());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.ddd.application.inventory;
+
+import com.example.ddd.application.dto.StockAdjustmentResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies every stock change as one conditional update of the product's row.
+ * The product is not loaded: the repository checks availability and applies the change in one
+ * statement, so concurrent orders for the same product neither lose updates nor retry.
+ */
+@RequiredArgsConstructor
+public class RepositoryStockAdjustment implements StockAdjustmentStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public StockAdjustmentResponse adjust(ProductId productId, int delta) {
+        // The stock-changed event is written to the outbox in the same transaction
+        ProductStockChangedEvent changed = productRepository.adjustStock(productId, delta);
+        return new StockAdjustmentResponse(changed.aggregateId().value(), changed.getOldQuantity(), changed.getNewQuantity());
+    }
+}
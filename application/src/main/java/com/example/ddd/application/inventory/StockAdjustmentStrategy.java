@@ -0,0 +1,17 @@
+package com.example.ddd.application.inventory;
+
+import com.example.ddd.application.dto.StockAdjustmentResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+
+/**
+ * How the adjust stock use case applies a change to a product's stock.
+ */
+public interface StockAdjustmentStrategy {
+
+    /**
+     * Add units to the product's stock, or remove them when {@code delta} is negative.
+     * Too little stock is rejected with InvalidDomainStateException, as Product.removeStock does, and so is any
+     * change to a product whose stock is kept per location, which only changes at its locations.
+     */
+    StockAdjustmentResponse adjust(ProductId productId, int delta);
+}
@@ -0,0 +1,24 @@
+package com.example.ddd.application.inventory;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+
+/**
+ * Grants stock removals in memory and writes them to the database later, in batches.
+ * Used for products whose stock is drawn down faster than single-row updates allow, such as during a flash sale.
+ */
+public interface StockLedger {
+
+    /**
+     * Remove units of a product's stock, granting or denying the request at once.
+     * Enforces the same rules as Product.removeStock and throws the same InvalidDomainStateException, which is also
+     * thrown for a product whose stock is kept per location; throws EntityNotFoundException when the product
+     * does not exist.
+     */
+    Removal removeStock(ProductId productId, int quantity);
+
+    /**
+     * Units the ledger held for the product just before and just after one granted removal.
+     */
+    record Removal(long previousQuantity, long newQuantity) {
+    }
+}
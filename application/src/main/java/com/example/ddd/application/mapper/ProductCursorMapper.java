@@ -0,0 +1,43 @@
+package com.example.ddd.application.mapper;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.repository.ProductKeyset;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Mapper between opaque pagination cursors and repository keyset positions.
+ * A cursor is the URL-safe Base64 encoding of {@code epochSecond:nano:id}.
+ */
+public class ProductCursorMapper {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String toCursor(ProductResponse last) {
+        String raw = last.createdAt().getEpochSecond() + ":" + last.createdAt().getNano() + ":" + last.id();
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductKeyset toKeyset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3) {
+                throw new InvalidDomainStateException("Invalid pagination cursor");
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new ProductKeyset(createdAt, ProductId.of(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidDomainStateException("Invalid pagination cursor");
+        }
+    }
+}
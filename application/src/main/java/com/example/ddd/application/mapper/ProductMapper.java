@@ -2,8 +2,10 @@ package com.example.ddd.application.mapper;
 
 import com.example.ddd.application.dto.CreateProductRequest;
 import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.model.CurrencyTable;
 import com.example.ddd.domain.model.Money;
 import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
 
 import java.util.Currency;
 
@@ -13,7 +15,7 @@ import java.util.Currency;
 public class ProductMapper {
 
     public static Product toDomain(CreateProductRequest request) {
-        Money price = Money.of(request.price(), Currency.getInstance(request.currency()));
+        Money price = Money.of(request.price(), currency(request.currency()));
         return Product.create(
             request.name(),
             request.description(),
@@ -22,6 +24,14 @@ public class ProductMapper {
         );
     }
 
+    private static Currency currency(String code) {
+        try {
+            return CurrencyTable.forCode(code);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDomainStateException("Unknown currency: " + code);
+        }
+    }
+
     public static ProductResponse toResponse(Product product) {
         return new ProductResponse(
             product.getId().value(),
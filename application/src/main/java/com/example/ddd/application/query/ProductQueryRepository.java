@@ -0,0 +1,40 @@
+package com.example.ddd.application.query;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.repository.ProductKeyset;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only query side for products.
+ * Returns response DTOs directly instead of reconstituting Product aggregates,
+ * so read use cases skip the domain model and the persistence context entirely.
+ */
+public interface ProductQueryRepository {
+
+    /**
+     * Find a product by its ID.
+     */
+    Optional<ProductResponse> findById(ProductId id);
+
+    /**
+     * Find a page of active products ordered by creation time and ID.
+     * Returns at most {@code limit} products positioned strictly after {@code after},
+     * or the first page when {@code after} is null.
+     */
+    List<ProductResponse> findActivePage(ProductKeyset after, int limit);
+
+    /**
+     * Find when a product was last updated, without reading the rest of the row.
+     */
+    Optional<Instant> findUpdatedAt(ProductId id);
+
+    /**
+     * Find the most recent update time across all products, or empty when there are none.
+     * Any create, change or status change moves it forward; hard deletes do not.
+     */
+    Optional<Instant> findLastUpdatedAt();
+}
@@ -0,0 +1,20 @@
+package com.example.ddd.application.query;
+
+import com.example.ddd.application.dto.LocationAvailabilityResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.GeoPoint;
+
+import java.util.List;
+
+/**
+ * Read-only query side for stock held at locations.
+ */
+public interface StockAvailabilityQueryRepository {
+
+    /**
+     * Find the locations within {@code radiusKm} of a position that hold at least {@code minQuantity}
+     * units of a product, nearest first, at most {@code limit} of them.
+     */
+    List<LocationAvailabilityResponse> findAvailableNear(ProductId productId, GeoPoint position, double radiusKm,
+                                                         int minQuantity, int limit);
+}
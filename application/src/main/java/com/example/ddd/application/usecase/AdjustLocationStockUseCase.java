@@ -0,0 +1,32 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.LocationStockAdjustmentResponse;
+import com.example.ddd.application.dto.StockAdjustmentRequest;
+import com.example.ddd.domain.aggregateroot.inventory.LocationStockChange;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.repository.StockLocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Use case for adding or removing a product's stock at one location.
+ * Only the location's own stock row is written, so movements at different locations never contend;
+ * the product's total catches up in the background.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdjustLocationStockUseCase {
+
+    private final StockLocationRepository stockLocationRepository;
+
+    public LocationStockAdjustmentResponse execute(String productId, String locationCode,
+                                                   StockAdjustmentRequest request) {
+        log.debug("Adjusting stock of product {} at {} by {}", productId, locationCode, request.delta());
+
+        LocationStockChange changed = stockLocationRepository.adjustStock(
+            ProductId.parse(productId), locationCode, request.delta());
+
+        return new LocationStockAdjustmentResponse(changed.productId().value(), changed.locationCode(),
+            changed.oldQuantity(), changed.newQuantity());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.StockAdjustmentRequest;
+import com.example.ddd.application.dto.StockAdjustmentResponse;
+import com.example.ddd.application.inventory.StockAdjustmentStrategy;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Use case for adding or removing stock.
+ * The change is applied by a StockAdjustmentStrategy: a conditional update of the products table, or,
+ * when a stock ledger is configured, a ledger grant for removals.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AdjustStockUseCase {
+
+    private final StockAdjustmentStrategy strategy;
+
+    public StockAdjustmentResponse execute(String productId, StockAdjustmentRequest request) {
+        log.debug("Adjusting stock of product {} by {}", productId, request.delta());
+        return strategy.adjust(ProductId.parse(productId), request.delta());
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.BatchProductRequest;
+import com.example.ddd.application.dto.BatchProductResponse;
+import com.example.ddd.application.dto.BatchProductResult;
+import com.example.ddd.application.dto.BatchUpdateProductRequest;
+import com.example.ddd.application.dto.CreateProductRequest;
+import com.example.ddd.application.mapper.ProductMapper;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.exception.InvalidIdentifierException;
+import com.example.ddd.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Use case for creating and updating many products at once.
+ * Name uniqueness is checked with one query per batch, and all changes are saved together
+ * with their domain events in one transaction.
+ * Items that violate domain rules are rejected individually without failing the batch. That includes
+ * a create or rename to a name another product already holds, or that an earlier item of the batch
+ * claimed; creates claim names before updates, each in item order. The unique constraint is checked
+ * row by row as the batch is written, so a name that one item renames away cannot be taken by another
+ * item of the same batch.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BatchProductsUseCase {
+
+    private final ProductRepository productRepository;
+
+    public BatchProductResponse execute(BatchProductRequest request) {
+        List<CreateProductRequest> creates = request.create() == null ? List.of() : request.create();
+        List<BatchUpdateProductRequest> updates = request.update() == null ? List.of() : request.update();
+        log.info("Processing product batch: {} creates, {} updates", creates.size(), updates.size());
+
+        List<BatchProductResult> results = new ArrayList<>(creates.size() + updates.size());
+        Map<Integer, ProductId> updateIds = parseUpdateIds(updates, results);
+        Map<ProductId, Product> existing = productRepository.findAllById(new HashSet<>(updateIds.values()))
+            .stream().collect(Collectors.toMap(Product::getId, Function.identity()));
+        NameClaims names = new NameClaims(productRepository.findExistingNames(requestedNames(creates, updates)),
+            existing.values());
+
+        Map<Integer, Product> created = prepareCreates(creates, names, results);
+        Map<Integer, Product> updated = prepareUpdates(updates, updateIds, existing, names, results);
+
+        // Several update items may target the same product; it is saved once
+        Set<Product> toSave = new LinkedHashSet<>(created.values());
+        toSave.addAll(updated.values());
+
+        productRepository.saveAll(toSave);
+
+        created.forEach((index, product) ->
+            results.add(BatchProductResult.created(index, ProductMapper.toResponse(product))));
+        updated.forEach((index, product) ->
+            results.add(BatchProductResult.updated(index, ProductMapper.toResponse(product))));
+        results.sort(Comparator.comparing(BatchProductResult::operation)
+            .thenComparingInt(BatchProductResult::index));
+
+        log.info("Product batch saved: {} created, {} updated, {} rejected",
+            created.size(), updated.size(), results.size() - created.size() - updated.size());
+
+        return new BatchProductResponse(results);
+    }
+
+    private static Set<String> requestedNames(List<CreateProductRequest> creates,
+                                              List<BatchUpdateProductRequest> updates) {
+        return Stream.concat(
+                creates.stream().map(CreateProductRequest::name),
+                updates.stream().map(BatchUpdateProductRequest::name))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private Map<Integer, Product> prepareCreates(List<CreateProductRequest> creates, NameClaims names,
+                                                 List<BatchProductResult> results) {
+        Map<Integer, Product> created = new LinkedHashMap<>();
+        for (int i = 0; i < creates.size(); i++) {
+            CreateProductRequest item = creates.get(i);
+            try {
+                Product product = ProductMapper.toDomain(item);
+                if (!names.claim(product.getName(), product.getId())) {
+                    throw nameTaken(product.getName());
+                }
+                created.put(i, product);
+            } catch (InvalidDomainStateException e) {
+                results.add(BatchProductResult.rejected("CREATE", i, e.getMessage()));
+            }
+        }
+        return created;
+    }
+
+    private static Map<Integer, ProductId> parseUpdateIds(List<BatchUpdateProductRequest> updates,
+                                                          List<BatchProductResult> results) {
+        Map<Integer, ProductId> ids = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            try {
+                ids.put(i, ProductId.parse(updates.get(i).id()));
+            } catch (InvalidIdentifierException e) {
+                results.add(BatchProductResult.rejected("UPDATE", i, e.getMessage()));
+            }
+        }
+        return ids;
+    }
+
+    private Map<Integer, Product> prepareUpdates(List<BatchUpdateProductRequest> updates,
+                                                 Map<Integer, ProductId> ids,
+                                                 Map<ProductId, Product> existing,
+                                                 NameClaims names,
+                                                 List<BatchProductResult> results) {
+        Map<Integer, Product> updated = new LinkedHashMap<>();
+        for (Map.Entry<Integer, ProductId> entry : ids.entrySet()) {
+            int i = entry.getKey();
+            BatchUpdateProductRequest item = updates.get(i);
+            Product product = existing.get(entry.getValue());
+            if (product == null) {
+                results.add(BatchProductResult.rejected("UPDATE", i,
+                    EntityNotFoundException.forId(Product.class, item.id()).getMessage()));
+                continue;
+            }
+            try {
+                if (!names.claim(item.name(), product.getId())) {
+                    throw nameTaken(item.name());
+                }
+                product.updateInfo(item.name(), item.description());
+                updated.put(i, product);
+            } catch (InvalidDomainStateException e) {
+                results.add(BatchProductResult.rejected("UPDATE", i, e.getMessage()));
+            }
+        }
+        return updated;
+    }
+
+    private static InvalidDomainStateException nameTaken(String name) {
+        return new InvalidDomainStateException("Product with name '" + name + "' already exists");
+    }
+
+    /**
+     * Names the batch may assign. A name held in the database can only be kept by the product holding it,
+     * and a name claimed by an item of the batch can only be claimed again for the same product.
+     */
+    private static final class NameClaims {
+
+        private final Set<String> taken;
+        private final Map<ProductId, String> currentNames;
+        private final Map<String, ProductId> claimed = new HashMap<>();
+
+        NameClaims(Set<String> taken, Collection<Product> products) {
+            this.taken = new HashSet<>(taken);
+            this.currentNames = products.stream().collect(Collectors.toMap(Product::getId, Product::getName));
+        }
+
+        boolean claim(String name, ProductId claimant) {
+            if (taken.contains(name) && !name.equals(currentNames.get(claimant))) {
+                return false;
+            }
+            ProductId holder = claimed.putIfAbsent(name, claimant);
+            return holder == null || holder.equals(claimant);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.mapper.ProductMapper;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting the whole product catalog.
+ * Products are read one keyset page at a time, each page in its own short query, and pushed to the sink
+ * one at a time. Memory use does not grow with catalog size, and no transaction or connection is held
+ * while the sink writes, so a slow client cannot pin a connection for the length of the export.
+ * A product created or changed during the export appears with whatever state its page reads.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExportProductsUseCase {
+
+    public static final int PAGE_SIZE = 500;
+
+    private final ProductRepository productRepository;
+
+    /**
+     * Stream every product to the sink and return how many were exported.
+     */
+    public long execute(Consumer<ProductResponse> sink) {
+        log.info("Exporting product catalog");
+
+        long exported = 0;
+        ProductId after = null;
+        List<Product> page;
+        do {
+            page = productRepository.findPage(after, PAGE_SIZE);
+            for (Product product : page) {
+                sink.accept(ProductMapper.toResponse(product));
+            }
+            exported += page.size();
+            after = page.isEmpty() ? after : page.getLast().getId();
+        } while (page.size() == PAGE_SIZE);
+
+        log.info("Exported {} products", exported);
+        return exported;
+    }
+}
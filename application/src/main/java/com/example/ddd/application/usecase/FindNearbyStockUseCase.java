@@ -0,0 +1,41 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.LocationAvailabilityResponse;
+import com.example.ddd.application.query.StockAvailabilityQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.GeoPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Use case for finding the locations near a position that have a product in stock.
+ * Reads from the query side; no aggregate is loaded.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FindNearbyStockUseCase {
+
+    public static final int MAX_LOCATIONS = 100;
+
+    private final StockAvailabilityQueryRepository stockAvailabilityQueryRepository;
+
+    public List<LocationAvailabilityResponse> execute(String productId, double latitude, double longitude,
+                                                      double radiusKm, int minQuantity, int limit) {
+        log.debug("Finding stock of product {} within {} km of {}, {}", productId, radiusKm, latitude, longitude);
+        if (!(radiusKm > 0)) {
+            throw new InvalidDomainStateException("Radius must be positive");
+        }
+        GeoPoint position;
+        try {
+            position = GeoPoint.of(latitude, longitude);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDomainStateException(e.getMessage());
+        }
+
+        return stockAvailabilityQueryRepository.findAvailableNear(ProductId.parse(productId),
+            position, radiusKm, Math.max(minQuantity, 1), Math.clamp(limit, 1, MAX_LOCATIONS));
+    }
+}
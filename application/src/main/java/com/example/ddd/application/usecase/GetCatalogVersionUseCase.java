@@ -0,0 +1,22 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.query.ProductQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * Use case for looking up when the product catalog last changed.
+ * An empty catalog reports the epoch.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GetCatalogVersionUseCase {
+
+    private final ProductQueryRepository productQueryRepository;
+
+    public Instant execute() {
+        return productQueryRepository.findLastUpdatedAt().orElse(Instant.EPOCH);
+    }
+}
@@ -1,29 +1,27 @@
 package com.example.ddd.application.usecase;
 
 import com.example.ddd.application.dto.ProductResponse;
-import com.example.ddd.application.mapper.ProductMapper;
+import com.example.ddd.application.query.ProductQueryRepository;
 import com.example.ddd.domain.exception.EntityNotFoundException;
 import com.example.ddd.domain.aggregateroot.product.Product;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
-import com.example.ddd.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Use case for retrieving a product by ID.
+ * Reads from the query side; no aggregate is loaded.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class GetProductUseCase {
 
-    private final ProductRepository productRepository;
+    private final ProductQueryRepository productQueryRepository;
 
     public ProductResponse execute(String productId) {
         log.debug("Fetching product with ID: {}", productId);
 
-        Product product = productRepository.findById(ProductId.of(productId))
+        return productQueryRepository.findById(ProductId.parse(productId))
             .orElseThrow(() -> EntityNotFoundException.forId(Product.class, productId));
-
-        return ProductMapper.toResponse(product);
     }
 }
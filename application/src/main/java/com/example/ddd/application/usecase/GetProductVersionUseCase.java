@@ -0,0 +1,28 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+
+/**
+ * Use case for looking up when a product last changed.
+ * Lets callers validate a cached copy without reading the whole product.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class GetProductVersionUseCase {
+
+    private final ProductQueryRepository productQueryRepository;
+
+    public Instant execute(String productId) {
+        log.debug("Fetching version of product with ID: {}", productId);
+
+        return productQueryRepository.findUpdatedAt(ProductId.parse(productId))
+            .orElseThrow(() -> EntityNotFoundException.forId(Product.class, productId));
+    }
+}
@@ -1,28 +1,42 @@
 package com.example.ddd.application.usecase;
 
+import com.example.ddd.application.dto.ProductPageResponse;
 import com.example.ddd.application.dto.ProductResponse;
-import com.example.ddd.application.mapper.ProductMapper;
-import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.application.mapper.ProductCursorMapper;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.repository.ProductKeyset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
- * Use case for listing all active products.
+ * Use case for listing active products one keyset page at a time.
+ * Reads from the query side; no aggregates are loaded.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class ListProductsUseCase {
 
-    private final ProductRepository productRepository;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
-    public List<ProductResponse> execute() {
-        log.debug("Fetching all active products");
+    private final ProductQueryRepository productQueryRepository;
 
-        return productRepository.findAllActive().stream()
-            .map(ProductMapper::toResponse)
-            .collect(Collectors.toList());
+    /**
+     * @param limit page size, clamped to 1..{@link #MAX_PAGE_SIZE}; {@link #DEFAULT_PAGE_SIZE} when null
+     */
+    public ProductPageResponse execute(String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        ProductKeyset after = ProductCursorMapper.toKeyset(cursor);
+        log.debug("Fetching active products page after {} (size {})", after, pageSize);
+
+        // Fetch one extra row to learn whether another page follows
+        List<ProductResponse> products = productQueryRepository.findActivePage(after, pageSize + 1);
+        boolean hasMore = products.size() > pageSize;
+        List<ProductResponse> items = hasMore ? products.subList(0, pageSize) : products;
+
+        String nextCursor = hasMore ? ProductCursorMapper.toCursor(items.getLast()) : null;
+        return new ProductPageResponse(items, nextCursor);
     }
 }
@@ -0,0 +1,71 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.RepriceProductsRequest;
+import com.example.ddd.application.dto.RepriceProductsResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.Discount;
+import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.domain.repository.ProductSelection;
+import com.example.ddd.domain.repository.RepricingSummary;
+import com.example.ddd.domain.service.ProductDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for applying a discount to a selection of products, such as a catalog-wide promotion.
+ * The discount rules come from ProductDomainService; the products are not loaded, but repriced
+ * by the repository in chunks of batched updates, with one price-changed event per product.
+ * The repository records progress under the request's repricing ID, so a retry resumes rather than repeats.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RepriceProductsUseCase {
+
+    private final ProductRepository productRepository;
+    private final ProductDomainService productDomainService;
+
+    public RepriceProductsResponse execute(RepriceProductsRequest request) {
+        Discount discount = discount(request);
+        ProductSelection selection = selection(request);
+        log.info("Repricing {} (status: {}, name: {}, ids: {}) with {}% off", request.repricingId(),
+            selection.status(), selection.namePattern(), selection.ids() == null ? "any" : selection.ids().size(),
+            discount.getPercentage());
+
+        RepricingSummary summary = productRepository.repriceAll(request.repricingId(), selection,
+            productDomainService.discountRepricer(discount));
+
+        log.info("Repricing done: {} selected, {} repriced", summary.selected(), summary.repriced());
+        return new RepriceProductsResponse(summary.selected(), summary.repriced());
+    }
+
+    private static Discount discount(RepriceProductsRequest request) {
+        try {
+            return Discount.ofPercentage(request.discountPercentage());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDomainStateException(e.getMessage());
+        }
+    }
+
+    private static ProductSelection selection(RepriceProductsRequest request) {
+        if (request.namePattern() != null && request.namePattern().isBlank()) {
+            throw new InvalidDomainStateException("Name pattern cannot be blank");
+        }
+        return new ProductSelection(
+            request.status() == null ? null : status(request.status()),
+            request.namePattern(),
+            request.ids() == null ? null : request.ids().stream().map(ProductId::parse).collect(Collectors.toSet()));
+    }
+
+    private static ProductStatus status(String status) {
+        try {
+            return ProductStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDomainStateException("Unknown product status: " + status);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.StockLocationRequest;
+import com.example.ddd.application.dto.StockLocationResponse;
+import com.example.ddd.domain.aggregateroot.inventory.StockLocation;
+import com.example.ddd.domain.model.GeoPoint;
+import com.example.ddd.domain.repository.StockLocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Use case for creating a stock location or updating the one with the same code.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SaveStockLocationUseCase {
+
+    private final StockLocationRepository stockLocationRepository;
+
+    public StockLocationResponse execute(String code, StockLocationRequest request) {
+        log.debug("Saving stock location {}", code);
+
+        GeoPoint position = GeoPoint.of(request.latitude(), request.longitude());
+        StockLocation location = stockLocationRepository.findByCode(code)
+            .map(existing -> {
+                existing.update(request.name(), position);
+                return existing;
+            })
+            .orElseGet(() -> StockLocation.create(code, request.name(), position));
+        StockLocation saved = stockLocationRepository.save(location);
+
+        return new StockLocationResponse(saved.getCode(), saved.getName(),
+            saved.getPosition().getLatitude(), saved.getPosition().getLongitude());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.dto.ProductSearchResponse;
+import com.example.ddd.application.mapper.ProductMapper;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for relevance-ranked product name search.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SearchProductsUseCase {
+
+    public static final int MAX_PAGE_SIZE = 50;
+    // Ranked results are paged by offset, so deep pages are capped to keep every query cheap
+    public static final int MAX_PAGE = 100;
+
+    private final ProductRepository productRepository;
+
+    public ProductSearchResponse execute(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidDomainStateException("Search query cannot be blank");
+        }
+        if (page < 0 || page > MAX_PAGE) {
+            throw new InvalidDomainStateException("Page must be between 0 and " + MAX_PAGE);
+        }
+        String term = query.strip();
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        log.debug("Searching products for '{}' (page {}, size {})", term, page, pageSize);
+
+        // Fetch one extra row to learn whether another page follows
+        List<Product> products = productRepository.searchActiveByName(term, page * pageSize, pageSize + 1);
+        boolean hasMore = products.size() > pageSize;
+
+        List<ProductResponse> items = products.stream()
+            .limit(pageSize)
+            .map(ProductMapper::toResponse)
+            .collect(Collectors.toList());
+
+        return new ProductSearchResponse(term, page, pageSize, items, hasMore);
+    }
+}
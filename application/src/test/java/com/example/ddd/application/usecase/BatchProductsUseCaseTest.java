@@ -0,0 +1,196 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.BatchProductRequest;
+import com.example.ddd.application.dto.BatchProductResponse;
+import com.example.ddd.application.dto.BatchProductResult;
+import com.example.ddd.application.dto.BatchUpdateProductRequest;
+import com.example.ddd.application.dto.CreateProductRequest;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BatchProductsUseCase Tests")
+class BatchProductsUseCaseTest {
+
+    private static final Money PRICE = Money.of(BigDecimal.TEN, Currency.getInstance("USD"));
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final BatchProductsUseCase useCase = new BatchProductsUseCase(productRepository);
+    private final Map<ProductId, Product> stored = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<ProductId> ids = invocation.getArgument(0);
+            return ids.stream().map(stored::get).filter(Objects::nonNull).toList();
+        });
+        when(productRepository.findExistingNames(any())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            Set<String> taken = stored.values().stream().map(Product::getName).collect(Collectors.toSet());
+            return names.stream().filter(taken::contains).collect(Collectors.toSet());
+        });
+    }
+
+    @Test
+    @DisplayName("should create and update products and save them together")
+    void shouldCreateAndUpdate() {
+        // Given
+        Product laptop = store("Laptop");
+
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(
+            List.of(create("Monitor"), create("Keyboard")),
+            List.of(new BatchUpdateProductRequest(laptop.getId().value(), "Gaming Laptop", "Fast"))));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status)
+            .containsExactly("CREATED", "CREATED", "UPDATED");
+        assertThat(savedNames()).containsExactlyInAnyOrder("Monitor", "Keyboard", "Gaming Laptop");
+    }
+
+    @Test
+    @DisplayName("should reject a create whose name another product holds and keep the rest")
+    void shouldRejectCreateOfTakenName() {
+        // Given
+        store("Laptop");
+
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(
+            List.of(create("Monitor"), create("Laptop")), null));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status).containsExactly("CREATED", "REJECTED");
+        assertThat(response.results().get(1).error()).isEqualTo("Product with name 'Laptop' already exists");
+        assertThat(savedNames()).containsExactly("Monitor");
+    }
+
+    @Test
+    @DisplayName("should reject the later of two creates with the same name")
+    void shouldRejectDuplicateCreatesInBatch() {
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(
+            List.of(create("Monitor"), create("Monitor")), null));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status).containsExactly("CREATED", "REJECTED");
+        assertThat(savedNames()).containsExactly("Monitor");
+    }
+
+    @Test
+    @DisplayName("should reject a rename to a name another product holds and keep the rest")
+    void shouldRejectRenameToTakenName() {
+        // Given
+        Product laptop = store("Laptop");
+        Product monitor = store("Monitor");
+        Product mouse = store("Mouse");
+
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(null, List.of(
+            new BatchUpdateProductRequest(laptop.getId().value(), "Monitor", null),
+            new BatchUpdateProductRequest(mouse.getId().value(), "Wireless Mouse", null))));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status).containsExactly("REJECTED", "UPDATED");
+        assertThat(laptop.getName()).isEqualTo("Laptop");
+        assertThat(monitor.getName()).isEqualTo("Monitor");
+        assertThat(savedNames()).containsExactly("Wireless Mouse");
+    }
+
+    @Test
+    @DisplayName("should reject the later of two renames to the same new name")
+    void shouldRejectDuplicateRenamesInBatch() {
+        // Given
+        Product laptop = store("Laptop");
+        Product notebook = store("Notebook");
+
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(null, List.of(
+            new BatchUpdateProductRequest(laptop.getId().value(), "Portable", null),
+            new BatchUpdateProductRequest(notebook.getId().value(), "Portable", null))));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status).containsExactly("UPDATED", "REJECTED");
+        assertThat(notebook.getName()).isEqualTo("Notebook");
+    }
+
+    @Test
+    @DisplayName("should give a name claimed by both a create and a rename to the create")
+    void shouldPreferCreateOverRename() {
+        // Given
+        Product laptop = store("Laptop");
+
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(
+            List.of(create("Portable")),
+            List.of(new BatchUpdateProductRequest(laptop.getId().value(), "Portable", null))));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::operation, BatchProductResult::status)
+            .containsExactly(tuple("CREATE", "CREATED"), tuple("UPDATE", "REJECTED"));
+    }
+
+    @Test
+    @DisplayName("should let a product keep its own name while its description changes")
+    void shouldAcceptUnchangedName() {
+        // Given
+        Product laptop = store("Laptop");
+
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(null, List.of(
+            new BatchUpdateProductRequest(laptop.getId().value(), "Laptop", "Now with more memory"))));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status).containsExactly("UPDATED");
+        assertThat(laptop.getDescription()).isEqualTo("Now with more memory");
+    }
+
+    @Test
+    @DisplayName("should reject malformed and unknown product IDs")
+    void shouldRejectUnknownIds() {
+        // When
+        BatchProductResponse response = useCase.execute(new BatchProductRequest(null, List.of(
+            new BatchUpdateProductRequest("not-an-id", "Laptop", null),
+            new BatchUpdateProductRequest(ProductId.generate().value(), "Laptop", null))));
+
+        // Then
+        assertThat(response.results()).extracting(BatchProductResult::status).containsExactly("REJECTED", "REJECTED");
+        assertThat(savedNames()).isEmpty();
+    }
+
+    private Product store(String name) {
+        Product product = Product.create(name, null, PRICE, 1);
+        product.markPersisted(0);
+        product.clearDomainEvents();
+        stored.put(product.getId(), product);
+        return product;
+    }
+
+    private static CreateProductRequest create(String name) {
+        return new CreateProductRequest(name, null, BigDecimal.TEN, "USD", 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> savedNames() {
+        ArgumentCaptor<Collection<Product>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(productRepository).saveAll(saved.capture());
+        return saved.getValue().stream().map(Product::getName).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ExportProductsUseCase Tests")
+class ExportProductsUseCaseTest {
+
+    private static final Money PRICE = Money.of(BigDecimal.TEN, Currency.getInstance("USD"));
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ExportProductsUseCase useCase = new ExportProductsUseCase(productRepository);
+    private final List<Product> catalog = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Serves pages from the catalog in ID order, as the repository does
+        when(productRepository.findPage(any(), anyInt())).thenAnswer(invocation -> {
+            ProductId after = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return catalog.stream()
+                .filter(product -> after == null || product.getId().value().compareTo(after.value()) > 0)
+                .limit(limit)
+                .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("should export every product once, in ID order, across several pages")
+    void shouldExportAllPages() {
+        // Given
+        store(ExportProductsUseCase.PAGE_SIZE * 2 + 7);
+        List<ProductResponse> exported = new ArrayList<>();
+
+        // When
+        long count = useCase.execute(exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(catalog.size());
+        assertThat(exported).extracting(ProductResponse::id)
+            .containsExactlyElementsOf(catalog.stream().map(product -> product.getId().value()).toList());
+        verify(productRepository, times(3)).findPage(any(), eq(ExportProductsUseCase.PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("should read each page after the last ID of the previous one")
+    void shouldContinueAfterLastId() {
+        // Given
+        store(ExportProductsUseCase.PAGE_SIZE + 1);
+
+        // When
+        useCase.execute(product -> { });
+
+        // Then
+        verify(productRepository).findPage(isNull(), eq(ExportProductsUseCase.PAGE_SIZE));
+        verify(productRepository).findPage(
+            eq(catalog.get(ExportProductsUseCase.PAGE_SIZE - 1).getId()), eq(ExportProductsUseCase.PAGE_SIZE));
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("should ask once more after an exactly full last page and stop on the empty one")
+    void shouldStopOnEmptyPage() {
+        // Given
+        store(ExportProductsUseCase.PAGE_SIZE);
+
+        // When
+        long count = useCase.execute(product -> { });
+
+        // Then
+        assertThat(count).isEqualTo(ExportProductsUseCase.PAGE_SIZE);
+        verify(productRepository, times(2)).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should export nothing from an empty catalog")
+    void shouldExportEmptyCatalog() {
+        assertThat(useCase.execute(product -> fail("No product expected"))).isZero();
+    }
+
+    private void store(int count) {
+        IntStream.range(0, count)
+            .mapToObj(i -> Product.create("Product " + i, null, PRICE, i))
+            .forEach(catalog::add);
+        catalog.sort(Comparator.comparing(product -> product.getId().value()));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.ddd.application.usecase;
+
+import com.example.ddd.application.dto.ProductPageResponse;
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.repository.ProductKeyset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ListProductsUseCase Tests")
+class ListProductsUseCaseTest {
+
+    private static final Comparator<ProductResponse> KEYSET_ORDER =
+        Comparator.comparing(ProductResponse::createdAt).thenComparing(ProductResponse::id);
+
+    private final InMemoryQueryRepository repository = new InMemoryQueryRepository();
+    private final ListProductsUseCase useCase = new ListProductsUseCase(repository);
+
+    @Test
+    @DisplayName("should use the default page size when no limit is given")
+    void shouldUseDefaultPageSize() {
+        // Given
+        repository.store(ListProductsUseCase.DEFAULT_PAGE_SIZE + 5);
+
+        // When
+        ProductPageResponse page = useCase.execute(null, null);
+
+        // Then
+        assertThat(page.items()).hasSize(ListProductsUseCase.DEFAULT_PAGE_SIZE);
+        assertThat(page.nextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should clamp the limit to 1..MAX_PAGE_SIZE")
+    void shouldClampLimit() {
+        // Given
+        repository.store(ListProductsUseCase.MAX_PAGE_SIZE + 5);
+
+        // When & Then
+        assertThat(useCase.execute(null, 1_000).items()).hasSize(ListProductsUseCase.MAX_PAGE_SIZE);
+        assertThat(useCase.execute(null, 0).items()).hasSize(1);
+        assertThat(useCase.execute(null, -3).items()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should walk every product exactly once by following nextCursor")
+    void shouldWalkAllPagesByCursor() {
+        // Given
+        List<ProductResponse> stored = repository.store(25);
+
+        // When
+        List<ProductResponse> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProductPageResponse page = useCase.execute(cursor, 10);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(stored);
+    }
+
+    @Test
+    @DisplayName("should return no cursor when the last page is exactly full")
+    void shouldReturnNoCursorOnFullLastPage() {
+        // Given
+        repository.store(10);
+
+        // When
+        ProductPageResponse page = useCase.execute(null, 10);
+
+        // Then
+        assertThat(page.items()).hasSize(10);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> useCase.execute("not-a-cursor", 10))
+            .isInstanceOf(InvalidDomainStateException.class)
+            .hasMessage("Invalid pagination cursor");
+    }
+
+    private static class InMemoryQueryRepository implements ProductQueryRepository {
+
+        private final List<ProductResponse> products = new ArrayList<>();
+
+        // Stores products in creation order, one second apart; several share a timestamp to exercise the ID tiebreak
+        List<ProductResponse> store(int count) {
+            Instant base = Instant.parse("2025-10-15T10:00:00Z");
+            for (int i = 0; i < count; i++) {
+                Instant createdAt = base.plusSeconds(i / 3);
+                products.add(new ProductResponse(ProductId.generate().value(), "Product " + i, null,
+                    BigDecimal.TEN, "USD", 1, "ACTIVE", createdAt, createdAt));
+            }
+            products.sort(KEYSET_ORDER);
+            return List.copyOf(products);
+        }
+
+        @Override
+        public Optional<ProductResponse> findById(ProductId id) {
+            return products.stream().filter(product -> product.id().equals(id.value())).findFirst();
+        }
+
+        @Override
+        public List<ProductResponse> findActivePage(ProductKeyset after, int limit) {
+            return products.stream()
+                .filter(product -> after == null || product.createdAt().isAfter(after.createdAt())
+                    || product.createdAt().equals(after.createdAt()) && product.id().compareTo(after.id().value()) > 0)
+                .limit(limit)
+                .toList();
+        }
+
+        @Override
+        public Optional<Instant> findUpdatedAt(ProductId id) {
+            return findById(id).map(ProductResponse::updatedAt);
+        }
+
+        @Override
+        public Optional<Instant> findLastUpdatedAt() {
+            return products.stream().map(ProductResponse::updatedAt).max(Comparator.naturalOrder());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.ddd.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.util.Statistics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmark results as CSV, one line per benchmark, mode and parameter combination, and the comparison
+ * of a run against a saved baseline. Units are normalized so reports from any run can be diffed:
+ * throughput in ops/s, times in us/op, with p50, p99 and p99.9 latencies for sample-mode results.
+ * Bytes allocated per operation are nearly deterministic, so they catch a new allocation on a hot path
+ * even on a noisy machine; scores are compared with a wider tolerance.
+ */
+final class Baseline {
+
+    private static final String HEADER = "benchmark,mode,score,unit,p50,p99,p999,alloc_bytes_per_op";
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    // Growth in bytes per operation below which an allocation change is noise, e.g. a TLAB refill
+    private static final double ALLOC_NOISE_BYTES = 16;
+
+    private Baseline() {
+    }
+
+    static List<Entry> entries(Collection<RunResult> results) {
+        List<Entry> entries = new ArrayList<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            Result<?> primary = result.getPrimaryResult();
+            Result<?> alloc = result.getSecondaryResults().get(ALLOC_NORM);
+            double nanosPerUnit = params.getTimeUnit().toNanos(1);
+            boolean throughput = params.getMode() == Mode.Throughput;
+            // Scores come in the benchmark's output time unit: ops per unit, or units per op
+            double toReported = throughput ? 1e9 / nanosPerUnit : nanosPerUnit / 1e3;
+            Statistics statistics = primary.getStatistics();
+            boolean sampled = params.getMode() == Mode.SampleTime;
+            entries.add(new Entry(
+                key(params),
+                params.getMode().shortLabel(),
+                primary.getScore() * toReported,
+                throughput ? "ops/s" : "us/op",
+                sampled ? statistics.getPercentile(50) * toReported : Double.NaN,
+                sampled ? statistics.getPercentile(99) * toReported : Double.NaN,
+                sampled ? statistics.getPercentile(99.9) * toReported : Double.NaN,
+                alloc == null ? Double.NaN : alloc.getScore()));
+        }
+        return entries;
+    }
+
+    static void write(Path file, List<Entry> entries) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Entry entry : entries) {
+            lines.add(String.format(Locale.ROOT, "%s,%s,%.6f,%s,%.3f,%.3f,%.3f,%.3f",
+                entry.benchmark(), entry.mode(), entry.score(), entry.unit(),
+                entry.p50(), entry.p99(), entry.p999(), entry.allocBytesPerOp()));
+        }
+        Files.write(file, lines);
+    }
+
+    static Map<String, Entry> read(Path file) throws IOException {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file)) {
+            if (line.isBlank() || line.equals(HEADER)) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            Entry entry = new Entry(fields[0], fields[1], Double.parseDouble(fields[2]), fields[3],
+                Double.parseDouble(fields[4]), Double.parseDouble(fields[5]), Double.parseDouble(fields[6]),
+                Double.parseDouble(fields[7]));
+            entries.put(entry.id(), entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Descriptions of the measured results that are worse than the baseline beyond the tolerances.
+     * Benchmarks missing from the baseline are not compared, and neither are percentiles, which are
+     * reported for diffing but too noisy in the tail to fail a run on.
+     */
+    static List<String> compare(Map<String, Entry> baseline, List<Entry> measured,
+                                double scoreTolerance, double allocTolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Entry now : measured) {
+            Entry before = baseline.get(now.id());
+            if (before == null || !before.unit().equals(now.unit())) {
+                continue;
+            }
+            // Throughput regresses when it drops, every other mode when the time grows
+            double slowdown = now.mode().equals(Mode.Throughput.shortLabel())
+                ? (before.score() - now.score()) / before.score()
+                : (now.score() - before.score()) / before.score();
+            if (slowdown > scoreTolerance) {
+                regressions.add(String.format(Locale.ROOT, "%s %s: %.3f %s against %.3f %s (%.0f%% worse)",
+                    now.benchmark(), now.mode(), now.score(), now.unit(), before.score(), before.unit(), slowdown * 100));
+            }
+            double grown = now.allocBytesPerOp() - before.allocBytesPerOp();
+            if (grown > ALLOC_NOISE_BYTES && grown > before.allocBytesPerOp() * allocTolerance) {
+                regressions.add(String.format(Locale.ROOT, "%s %s: allocates %.0f B/op against %.0f B/op",
+                    now.benchmark(), now.mode(), now.allocBytesPerOp(), before.allocBytesPerOp()));
+            }
+        }
+        return regressions;
+    }
+
+    // Benchmark method plus its thread count and parameters, e.g. StockLedgerBenchmark.removeOne[threads=16;stripes=16]
+    private static String key(BenchmarkParams params) {
+        String benchmark = params.getBenchmark().replaceFirst("^com\\.example\\.ddd\\.benchmarks\\.", "");
+        List<String> parts = new ArrayList<>();
+        if (params.getThreads() != 1) {
+            parts.add("threads=" + params.getThreads());
+        }
+        params.getParamsKeys().forEach(key -> parts.add(key + "=" + params.getParam(key)));
+        return parts.isEmpty() ? benchmark : benchmark + parts.stream().collect(Collectors.joining(";", "[", "]"));
+    }
+
+    record Entry(String benchmark, String mode, double score, String unit,
+                 double p50, double p99, double p999, double allocBytesPerOp) {
+
+        String id() {
+            return benchmark + "|" + mode;
+        }
+    }
+}
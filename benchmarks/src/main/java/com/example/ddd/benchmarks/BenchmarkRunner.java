@@ -0,0 +1,85 @@
+package com.example.ddd.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar.
+ * Runs the selected benchmarks with the GC profiler, so every result carries its allocation rate, writes
+ * the JMH results as JSON and a normalized CSV report, and compares them with the saved baseline.
+ * Any standard JMH option can be passed, e.g. a benchmark regex, {@code -f 1} or {@code -t 8}.
+ * <p>
+ * System properties:
+ * <ul>
+ *   <li>{@code baseline.file}: baseline to compare with or record, default {@code benchmarks/baseline/jmh-baseline.csv}</li>
+ *   <li>{@code baseline.record}: {@code true} to overwrite the baseline with this run instead of comparing</li>
+ *   <li>{@code baseline.scoreTolerance}: allowed slowdown, default 0.20 (20%)</li>
+ *   <li>{@code baseline.allocTolerance}: allowed growth of bytes allocated per operation, default 0.10 (10%)</li>
+ *   <li>{@code results.file}: JMH JSON results, default {@code benchmarks/target/jmh-results.json}</li>
+ *   <li>{@code report.file}: CSV report in the baseline's format, default {@code benchmarks/target/jmh-report.csv}</li>
+ * </ul>
+ * Exits with status 1 when a benchmark regressed beyond the tolerances.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Invalid JMH options: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        Path resultsFile = Path.of(System.getProperty("results.file", "benchmarks/target/jmh-results.json"));
+        Path reportFile = Path.of(System.getProperty("report.file", "benchmarks/target/jmh-report.csv"));
+        Path baselineFile = Path.of(System.getProperty("baseline.file", "benchmarks/baseline/jmh-baseline.csv"));
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+
+        Options options = new OptionsBuilder()
+            .parent(commandLine)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultsFile.toString())
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+        List<Baseline.Entry> measured = Baseline.entries(results);
+        Baseline.write(reportFile, measured);
+
+        if (Boolean.getBoolean("baseline.record")) {
+            Baseline.write(baselineFile, measured);
+            System.out.println("Recorded " + measured.size() + " benchmark results as the baseline in " + baselineFile);
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline at " + baselineFile + "; run with -Dbaseline.record=true to save one");
+            return;
+        }
+        double scoreTolerance = Double.parseDouble(System.getProperty("baseline.scoreTolerance", "0.20"));
+        double allocTolerance = Double.parseDouble(System.getProperty("baseline.allocTolerance", "0.10"));
+        List<String> regressions = Baseline.compare(Baseline.read(baselineFile), measured, scoreTolerance, allocTolerance);
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + baselineFile);
+            return;
+        }
+        System.out.println("Regressions against " + baselineFile + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        System.exit(1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.ddd.benchmarks;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Constructing domain events. Every BaseDomainEvent draws a random UUID and reads the clock, which is
+ * most of its cost; the events differ only in the fields they carry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DomainEventBenchmark {
+
+    private final ProductId productId = ProductId.generate();
+    private final Money oldPrice = Money.of(new BigDecimal("999.99"), Currency.getInstance("USD"));
+    private final Money newPrice = Money.of(new BigDecimal("899.99"), Currency.getInstance("USD"));
+
+    @Benchmark
+    public ProductCreatedEvent productCreated() {
+        return new ProductCreatedEvent(productId, "Laptop", "High-performance laptop", oldPrice, 10, 1L);
+    }
+
+    @Benchmark
+    public ProductPriceChangedEvent priceChanged() {
+        return new ProductPriceChangedEvent(productId, oldPrice, newPrice, 2L);
+    }
+
+    @Benchmark
+    public ProductStockChangedEvent stockChanged() {
+        return new ProductStockChangedEvent(productId, 10, 9, 3L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ddd.benchmarks;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.model.CurrencyTable;
+import com.example.ddd.domain.model.MinorUnitMoney;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.service.ProductDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Money arithmetic against MinorUnitMoney, which does the same operations on a long of minor units.
+ * The stock value benchmarks total price times quantity over a catalog, once adding Money and once
+ * through ProductDomainService, which sums in minor units. The currency lookups compare the JDK's
+ * Currency.getInstance with the CurrencyTable the row mappers use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int CATALOG_SIZE = 1_000;
+
+    private final ProductDomainService service = new ProductDomainService();
+
+    private Money price;
+    private Money otherPrice;
+    private MinorUnitMoney compactPrice;
+    private MinorUnitMoney compactOtherPrice;
+    private List<Product> catalog;
+
+    @Setup
+    public void setUp() {
+        price = Money.of(new BigDecimal("999.99"), USD);
+        otherPrice = Money.of(new BigDecimal("24.50"), USD);
+        compactPrice = MinorUnitMoney.of(price);
+        compactOtherPrice = MinorUnitMoney.of(otherPrice);
+        SplittableRandom random = new SplittableRandom(42);
+        catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            Money itemPrice = Money.of(BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2), USD);
+            catalog.add(Product.create("Product " + i, null, itemPrice, random.nextInt(1_000)));
+        }
+    }
+
+    @Benchmark
+    public Money add() {
+        return price.add(otherPrice);
+    }
+
+    @Benchmark
+    public MinorUnitMoney addMinorUnits() {
+        return compactPrice.add(compactOtherPrice);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(12);
+    }
+
+    @Benchmark
+    public MinorUnitMoney multiplyMinorUnits() {
+        return compactPrice.multiply(12);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return price.isGreaterThan(otherPrice);
+    }
+
+    @Benchmark
+    public boolean isGreaterThanMinorUnits() {
+        return compactPrice.isGreaterThan(compactOtherPrice);
+    }
+
+    @Benchmark
+    public MinorUnitMoney toMinorUnits() {
+        return MinorUnitMoney.of(price);
+    }
+
+    @Benchmark
+    public Money fromMinorUnits() {
+        return compactPrice.toMoney();
+    }
+
+    @Benchmark
+    public Money stockValue() {
+        Money total = Money.of(BigDecimal.ZERO, USD);
+        for (Product product : catalog) {
+            total = total.add(product.getPrice().multiply(product.getStockQuantity()));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money stockValueMinorUnits() {
+        return service.calculateStockValue(catalog, USD);
+    }
+
+    @Benchmark
+    public Currency currencyGetInstance() {
+        return Currency.getInstance("USD");
+    }
+
+    @Benchmark
+    public Currency currencyTableForCode() {
+        return CurrencyTable.forCode("USD");
+    }
+}
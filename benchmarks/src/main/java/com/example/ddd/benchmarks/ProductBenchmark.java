@@ -0,0 +1,43 @@
+package com.example.ddd.benchmarks;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating a product, the first step of every create request: ID generation, validation and
+ * registration of the created event. ID generation is also measured on its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ProductBenchmark {
+
+    private final Money price = Money.of(new BigDecimal("999.99"), Currency.getInstance("USD"));
+
+    @Benchmark
+    public Product create() {
+        return Product.create("Laptop", "High-performance laptop for developers", price, 10);
+    }
+
+    @Benchmark
+    public ProductId generateId() {
+        return ProductId.generate();
+    }
+}
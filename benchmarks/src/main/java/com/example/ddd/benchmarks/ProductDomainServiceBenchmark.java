@@ -0,0 +1,46 @@
+package com.example.ddd.benchmarks;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.model.Discount;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.service.ProductDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Discounting a product's price, per request and through the repricer used by bulk repricing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ProductDomainServiceBenchmark {
+
+    private final ProductDomainService service = new ProductDomainService();
+    private final Product product = Product.create("Laptop", "High-performance laptop",
+        Money.of(new BigDecimal("999.99"), Currency.getInstance("USD")), 10);
+    private final Discount discount = Discount.ofPercentage(new BigDecimal("12.5"));
+
+    @Benchmark
+    public Money calculateDiscountedPrice() {
+        return service.calculateDiscountedPrice(product, 15);
+    }
+
+    @Benchmark
+    public Money applyDiscount() {
+        return service.applyDiscount(product.getPrice(), discount);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ddd.benchmarks;
+
+import com.example.ddd.application.dto.CreateProductRequest;
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.mapper.ProductMapper;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.persistence.product.ProductEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The mappings every request goes through: request to domain and domain to response in the
+ * application layer, and domain to entity and back in persistence.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    private CreateProductRequest request;
+    private Product product;
+    private ProductEntity entity;
+
+    @Setup
+    public void setUp() {
+        request = new CreateProductRequest("Laptop", "High-performance laptop for developers",
+            new BigDecimal("999.99"), "USD", 10);
+        product = Product.create(request.name(), request.description(),
+            Money.of(request.price(), Currency.getInstance(request.currency())), request.initialStock());
+        product.clearDomainEvents();
+        entity = ProductEntity.fromDomain(product);
+    }
+
+    @Benchmark
+    public Product requestToDomain() {
+        return ProductMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public ProductResponse domainToResponse() {
+        return ProductMapper.toResponse(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public ProductEntity domainToEntity() {
+        return ProductEntity.fromDomain(product);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.ddd.benchmarks;
+
+import com.example.ddd.application.inventory.StockLedger;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.infrastructure.inventory.StockReservationLedger;
+import com.example.ddd.infrastructure.persistence.inventory.StockLedgerStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Many threads removing stock of one hot product through the StockReservationLedger: a compare-and-set
+ * on a stripe plus a write to the memory-mapped intent log per removal. With one stripe every thread
+ * contends for the same counter, which shows what striping buys.
+ * <p>
+ * The database side is replaced by an in-memory store, so the flusher still runs on its interval but
+ * the measurement is the request path alone, with one escrow every {@value #ALLOTMENT} removals.
+ * Stock is large enough never to run out during a run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(16)
+@State(Scope.Benchmark)
+public class StockLedgerBenchmark {
+
+    private static final ProductId HOT_PRODUCT = ProductId.generate();
+    private static final int ALLOTMENT = 10_000;
+
+    @Param({"1", "16"})
+    private int stripes;
+
+    private Path directory;
+    private StockReservationLedger ledger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("stock-ledger-benchmark");
+        InMemoryStockLedgerStore store = new InMemoryStockLedgerStore();
+        store.stock.put(HOT_PRODUCT, new AtomicLong(Long.MAX_VALUE / 4));
+        ledger = new StockReservationLedger(store, "benchmark", directory, 1 << 20, stripes, ALLOTMENT,
+            Duration.ofMillis(10), new SimpleMeterRegistry());
+        ledger.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ledger.stop();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public StockLedger.Removal removeOne() {
+        return ledger.removeStock(HOT_PRODUCT, 1);
+    }
+
+    /**
+     * Keeps stock and allotments in maps instead of the products and allotments tables.
+     */
+    static final class InMemoryStockLedgerStore extends StockLedgerStore {
+
+        private final Map<ProductId, AtomicLong> stock = new ConcurrentHashMap<>();
+        private final Map<ProductId, AtomicLong> allotted = new ConcurrentHashMap<>();
+
+        InMemoryStockLedgerStore() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public OptionalLong findStock(ProductId id) {
+            AtomicLong quantity = stock.get(id);
+            return quantity == null ? OptionalLong.empty() : OptionalLong.of(quantity.get());
+        }
+
+        @Override
+        public long appliedSequence(String ledgerId) {
+            return 0;
+        }
+
+        @Override
+        public Map<ProductId, Long> allotments(String ledgerId) {
+            return Map.of();
+        }
+
+        @Override
+        public long escrow(String ledgerId, ProductId id, long units) {
+            AtomicLong available = stock.get(id);
+            long taken = Math.min(available.get(), units);
+            available.addAndGet(-taken);
+            allotted.computeIfAbsent(id, key -> new AtomicLong()).addAndGet(taken);
+            return taken;
+        }
+
+        @Override
+        public void apply(String ledgerId, Map<ProductId, Long> removals, Map<ProductId, Long> releases,
+                          long throughSequence) {
+            removals.forEach((id, quantity) -> allotted.get(id).addAndGet(-quantity));
+            releases.forEach((id, quantity) -> {
+                allotted.get(id).addAndGet(-quantity);
+                stock.get(id).addAndGet(quantity);
+            });
+        }
+    }
+}
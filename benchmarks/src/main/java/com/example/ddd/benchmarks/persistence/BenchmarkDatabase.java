@@ -0,0 +1,71 @@
+package com.example.ddd.benchmarks.persistence;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A PostgreSQL database with the application's infrastructure running against it.
+ * By default an embedded PostgreSQL is started for each trial; the real Liquibase changelog creates the
+ * schema, trigram index included, when the Spring context starts. Set {@code bench.jdbc-url} (with
+ * {@code bench.jdbc-username} and {@code bench.jdbc-password}) to use an existing scratch database instead.
+ * <p>
+ * Any other application property can be overridden with a system property on the forked JVM, e.g.
+ * {@code -jvmArgsAppend -Dapp.products.event-sourcing.enabled=true}.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkDatabase(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    static BenchmarkDatabase start() {
+        String url = System.getProperty("bench.jdbc-url");
+        String username = System.getProperty("bench.jdbc-username", "postgres");
+        String password = System.getProperty("bench.jdbc-password", "postgres");
+        EmbeddedPostgres postgres = null;
+        if (url == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start embedded PostgreSQL", e);
+            }
+            url = postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true";
+            password = "";
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PersistenceBenchmarkApplication.class)
+            .run(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--logging.level.com.example.ddd=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        return new BenchmarkDatabase(postgres, context);
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (postgres != null) {
+            try {
+                postgres.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot stop embedded PostgreSQL", e);
+            }
+        }
+    }
+}
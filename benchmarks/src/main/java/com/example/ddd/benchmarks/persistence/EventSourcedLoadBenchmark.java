@@ -0,0 +1,113 @@
+package com.example.ddd.benchmarks.persistence;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.product.EventSourcedProductRepository;
+import com.example.ddd.infrastructure.persistence.product.ProductRepositoryImpl;
+import com.example.ddd.infrastructure.persistence.product.ProductSnapshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load latency of EventSourcedProductRepository against the length of a product's event stream,
+ * with and without snapshots. Without them a load replays the whole stream; with them it replays at
+ * most {@code snapshotEvery} events after the latest snapshot, so its latency should stay flat as
+ * streams grow. A {@code snapshotEvery} of 0 disables snapshots.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class EventSourcedLoadBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int PRODUCTS = 16;
+
+    @Param({"10", "100", "1000"})
+    private int eventCount;
+
+    @Param({"0", "50"})
+    private int snapshotEvery;
+
+    private BenchmarkDatabase database;
+    private EventSourcedProductRepository repository;
+    private TransactionTemplate readTransaction;
+    private final List<ProductId> ids = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        // Built here rather than taken from the context, so the snapshot interval can vary per trial
+        repository = new EventSourcedProductRepository(
+            database.bean(ProductRepositoryImpl.class),
+            database.bean(DomainEventStore.class),
+            new ProductSnapshotStore(database.bean(NamedParameterJdbcTemplate.class)),
+            snapshotEvery == 0 ? Integer.MAX_VALUE : snapshotEvery);
+        PlatformTransactionManager transactionManager = database.bean(PlatformTransactionManager.class);
+        TransactionTemplate writeTransaction = new TransactionTemplate(transactionManager);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        ids.clear();
+        String runId = Long.toString(System.nanoTime(), 36);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = Product.create("Event-sourced product " + i + " " + runId, null, price(random), 100);
+            writeTransaction.executeWithoutResult(status -> repository.save(product));
+            // The created event is the first of the stream; each price change adds one more
+            for (int event = 1; event < eventCount; event++) {
+                product.changePrice(price(random));
+                writeTransaction.executeWithoutResult(status -> repository.save(product));
+            }
+            ids.add(product.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public Product load(Worker worker) {
+        ProductId id = ids.get(worker.random.nextInt(ids.size()));
+        return readTransaction.execute(status -> repository.findById(id).orElseThrow());
+    }
+
+    private static Money price(SplittableRandom random) {
+        return Money.of(BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2), USD);
+    }
+}
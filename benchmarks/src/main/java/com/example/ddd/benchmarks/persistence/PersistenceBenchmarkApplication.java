@@ -0,0 +1,14 @@
+package com.example.ddd.benchmarks.persistence;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * The infrastructure layer as the application runs it, without the web layer.
+ */
+@SpringBootApplication(scanBasePackages = "com.example.ddd.infrastructure")
+@EntityScan(basePackages = "com.example.ddd.infrastructure.persistence")
+@EnableJpaRepositories(basePackages = "com.example.ddd.infrastructure.persistence")
+public class PersistenceBenchmarkApplication {
+}
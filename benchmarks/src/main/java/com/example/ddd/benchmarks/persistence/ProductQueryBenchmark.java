@@ -0,0 +1,221 @@
+package com.example.ddd.benchmarks.persistence;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.mapper.ProductMapper;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductKeyset;
+import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.infrastructure.persistence.product.JdbcProductQueryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent get and list on the read side, against PostgreSQL with the real schema. Each is measured
+ * three ways, so the numbers can be set side by side:
+ * <ul>
+ *   <li>{@code jdbc}: JdbcProductQueryRepository, rows mapped straight into ProductResponse</li>
+ *   <li>{@code query}: the ProductQueryRepository bean the read use cases get, the product cache in front of
+ *       the JDBC repository unless another read model is configured</li>
+ *   <li>{@code jpa}: ProductRepository and ProductMapper, as reads went before the query side, through
+ *       entities, the persistence context and Product</li>
+ * </ul>
+ * The catalog is seeded with {@code catalogSize} products before each trial; override it with
+ * {@code -p catalogSize=10000,100000} and the thread count with {@code -t}. With the default cache size,
+ * query gets on a larger catalog miss the cache for the products it evicted.
+ * <p>
+ * {@code jdbcRows} and {@code jpaRows} read full pages on one thread and count each row as an operation,
+ * so the GC profiler's {@code gc.alloc.rate.norm} is the bytes allocated per row mapped to ProductResponse.
+ * Run {@link #main} to measure only those two with the GC profiler and print the drop from JPA to JDBC.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ProductQueryBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int SEED_CHUNK = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000"})
+    private int catalogSize;
+
+    private BenchmarkDatabase database;
+    private JdbcProductQueryRepository jdbcQueries;
+    private ProductQueryRepository queries;
+    private ProductRepository repository;
+    private final List<ProductId> ids = new ArrayList<>();
+    private final List<ProductKeyset> keysets = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        jdbcQueries = database.bean(JdbcProductQueryRepository.class);
+        queries = database.bean(ProductQueryRepository.class);
+        repository = database.bean(ProductRepository.class);
+        ids.clear();
+        keysets.clear();
+        // Keeps names unique when an existing database is reused across trials
+        String runId = Long.toString(System.nanoTime(), 36);
+        SplittableRandom random = new SplittableRandom(42);
+        List<Product> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < catalogSize; i++) {
+            chunk.add(Product.create("Queried " + i + " " + runId, "Seeded for the query benchmark",
+                Money.of(BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2), USD), random.nextInt(1_000)));
+            if (chunk.size() == SEED_CHUNK || i == catalogSize - 1) {
+                for (Product product : repository.saveAll(chunk)) {
+                    ids.add(product.getId());
+                    keysets.add(new ProductKeyset(product.getCreatedAt(), product.getId()));
+                }
+                chunk.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threads) {
+            random = new SplittableRandom(threads.getThreadIndex());
+        }
+    }
+
+    @Benchmark
+    public Optional<ProductResponse> jdbcGet(Worker worker) {
+        return jdbcQueries.findById(randomId(worker));
+    }
+
+    @Benchmark
+    public List<ProductResponse> jdbcList(Worker worker) {
+        return jdbcQueries.findActivePage(randomKeyset(worker), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Optional<ProductResponse> queryGet(Worker worker) {
+        return queries.findById(randomId(worker));
+    }
+
+    @Benchmark
+    public List<ProductResponse> queryList(Worker worker) {
+        return queries.findActivePage(randomKeyset(worker), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(PAGE_SIZE)
+    @Threads(1)
+    public List<ProductResponse> jdbcRows(Worker worker) {
+        return jdbcQueries.findActivePage(fullPageKeyset(worker), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @OperationsPerInvocation(PAGE_SIZE)
+    @Threads(1)
+    public List<ProductResponse> jpaRows(Worker worker) {
+        return repository.findActivePage(fullPageKeyset(worker), PAGE_SIZE).stream()
+            .map(ProductMapper::toResponse)
+            .toList();
+    }
+
+    @Benchmark
+    public Optional<ProductResponse> jpaGet(Worker worker) {
+        return repository.findById(randomId(worker)).map(ProductMapper::toResponse);
+    }
+
+    @Benchmark
+    public List<ProductResponse> jpaList(Worker worker) {
+        return repository.findActivePage(randomKeyset(worker), PAGE_SIZE).stream()
+            .map(ProductMapper::toResponse)
+            .toList();
+    }
+
+    private ProductId randomId(Worker worker) {
+        return ids.get(worker.random.nextInt(ids.size()));
+    }
+
+    private ProductKeyset randomKeyset(Worker worker) {
+        return keysets.get(worker.random.nextInt(keysets.size()));
+    }
+
+    private ProductKeyset fullPageKeyset(Worker worker) {
+        // Far enough from the end that the page holds PAGE_SIZE rows, so bytes per row stay comparable
+        return keysets.get(worker.random.nextInt(Math.max(1, keysets.size() - PAGE_SIZE)));
+    }
+
+    /**
+     * Run jdbcRows and jpaRows with the GC profiler, then print the bytes each allocates per row and
+     * how much less the JDBC read path allocates. Takes any standard JMH option, e.g. {@code -p catalogSize=100000}.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .include(ProductQueryBenchmark.class.getName() + "\\.(jdbc|jpa)Rows$")
+            .addProfiler(GCProfiler.class)
+            .build();
+        Map<String, Map<String, Double>> bytesPerRow = new LinkedHashMap<>();
+        for (RunResult result : new Runner(options).run()) {
+            Result<?> alloc = result.getSecondaryResults().get("gc.alloc.rate.norm");
+            String benchmark = result.getParams().getBenchmark();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            bytesPerRow.computeIfAbsent(result.getParams().getParam("catalogSize"), size -> new LinkedHashMap<>())
+                .put(method, alloc == null ? Double.NaN : alloc.getScore());
+        }
+        bytesPerRow.forEach((size, rows) -> {
+            double jdbc = rows.getOrDefault("jdbcRows", Double.NaN);
+            double jpa = rows.getOrDefault("jpaRows", Double.NaN);
+            System.out.printf(Locale.ROOT, "catalogSize=%s: JPA %.0f B/row, JDBC %.0f B/row, %.0f%% less per row%n",
+                size, jpa, jdbc, 100 * (1 - jdbc / jpa));
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.ddd.benchmarks.persistence;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductKeyset;
+import com.example.ddd.domain.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent create, get, update, list and search through the ProductRepository bean, against PostgreSQL
+ * with the real schema. Writes go through ProductRepositoryImpl and the outbox publisher as in the
+ * application, each in its own transaction. Every operation reports throughput and, in sample mode,
+ * its latency percentiles.
+ * <p>
+ * The catalog is seeded with {@code catalogSize} products before each trial; override it with
+ * {@code -p catalogSize=10000,100000} and the thread count with {@code -t}. Names combine one of eight
+ * adjectives and eight nouns, so each search term matches an eighth of the catalog. Gets and updates
+ * only touch seeded products; products created during a run join listings and searches as they would live.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ProductRepositoryBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int SEED_CHUNK = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] ADJECTIVES =
+        {"Compact", "Wireless", "Ergonomic", "Portable", "Premium", "Rugged", "Silent", "Smart"};
+    private static final String[] NOUNS =
+        {"Laptop", "Keyboard", "Monitor", "Headset", "Camera", "Speaker", "Router", "Tablet"};
+
+    @Param({"10000"})
+    private int catalogSize;
+
+    private BenchmarkDatabase database;
+    private ProductRepository repository;
+    private String runId;
+    private final List<ProductId> ids = new ArrayList<>();
+    private final List<ProductKeyset> keysets = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        repository = database.bean(ProductRepository.class);
+        ids.clear();
+        keysets.clear();
+        // Keeps names unique when an existing database is reused across trials
+        runId = Long.toString(System.nanoTime(), 36);
+        SplittableRandom random = new SplittableRandom(42);
+        List<Product> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < catalogSize; i++) {
+            chunk.add(Product.create(name(i), "Seeded for the persistence benchmark", price(random), random.nextInt(1_000)));
+            if (chunk.size() == SEED_CHUNK || i == catalogSize - 1) {
+                for (Product product : repository.saveAll(chunk)) {
+                    ids.add(product.getId());
+                    keysets.add(new ProductKeyset(product.getCreatedAt(), product.getId()));
+                }
+                chunk.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    /**
+     * Per-thread random source and creation counter. Each thread updates only the products at its own
+     * indexes, so updates measure writes rather than optimistic-locking conflicts.
+     */
+    @State(Scope.Thread)
+    public static class Worker {
+
+        private SplittableRandom random;
+        private int threadIndex;
+        private int threadCount;
+        private int created;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threads) {
+            threadIndex = threads.getThreadIndex();
+            threadCount = threads.getThreadCount();
+            random = new SplittableRandom(threadIndex);
+        }
+    }
+
+    @Benchmark
+    public Product create(Worker worker) {
+        String name = "Created " + NOUNS[worker.random.nextInt(NOUNS.length)]
+            + " " + worker.threadIndex + "-" + worker.created++ + " " + runId;
+        return repository.save(Product.create(name, "Created by the persistence benchmark", price(worker.random), 10));
+    }
+
+    @Benchmark
+    public Optional<Product> get(Worker worker) {
+        return repository.findById(ids.get(worker.random.nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public Product update(Worker worker) {
+        int slice = Math.max(1, ids.size() / worker.threadCount);
+        int index = Math.min(ids.size() - 1, worker.threadIndex + worker.threadCount * worker.random.nextInt(slice));
+        Product product = repository.findById(ids.get(index)).orElseThrow();
+        product.changePrice(price(worker.random));
+        return repository.save(product);
+    }
+
+    @Benchmark
+    public List<Product> list(Worker worker) {
+        return repository.findActivePage(keysets.get(worker.random.nextInt(keysets.size())), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Product> search(Worker worker) {
+        return repository.searchActiveByName(NOUNS[worker.random.nextInt(NOUNS.length)].toLowerCase(), 0, PAGE_SIZE);
+    }
+
+    private String name(int index) {
+        return ADJECTIVES[index % ADJECTIVES.length] + " " + NOUNS[(index / ADJECTIVES.length) % NOUNS.length]
+            + " " + index + " " + runId;
+    }
+
+    private static Money price(SplittableRandom random) {
+        return Money.of(BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2), USD);
+    }
+}
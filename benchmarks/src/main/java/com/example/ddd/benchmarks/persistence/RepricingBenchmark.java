@@ -0,0 +1,102 @@
+package com.example.ddd.benchmarks.persistence;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Discount;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.domain.repository.ProductSelection;
+import com.example.ddd.domain.repository.RepricingSummary;
+import com.example.ddd.domain.service.ProductDomainService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * One bulk repricing of the whole catalog through ProductRepository.repriceAll, against PostgreSQL with the
+ * real schema, chunk transactions and progress rows included. Each invocation is timed once, as a new
+ * repricing with its own ID, so every product is repriced rather than skipped as already done.
+ * <p>
+ * The catalog is seeded with {@code catalogSize} products before each trial; seeding a million takes a few
+ * minutes, so try {@code -p catalogSize=100000} first. {@code selection} picks how the products are chosen:
+ * {@code all} walks the catalog by ID, {@code ids} names every seeded product in an ID set. The discount is
+ * 1%, small enough that a few invocations never bring a price down to where it stops changing.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepricingBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final int SEED_CHUNK = 1_000;
+
+    @Param({"1000000"})
+    private int catalogSize;
+
+    @Param({"all", "ids"})
+    private String selection;
+
+    private BenchmarkDatabase database;
+    private ProductRepository repository;
+    private UnaryOperator<Money> repricer;
+    private ProductSelection products;
+    private String runId;
+    private int repricings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        repository = database.bean(ProductRepository.class);
+        repricer = database.bean(ProductDomainService.class).discountRepricer(Discount.ofPercentage(1));
+        repricings = 0;
+        // Keeps names and repricing IDs unique when an existing database is reused across trials
+        runId = Long.toString(System.nanoTime(), 36);
+        Set<ProductId> ids = new HashSet<>();
+        SplittableRandom random = new SplittableRandom(42);
+        List<Product> chunk = new ArrayList<>(SEED_CHUNK);
+        for (int i = 0; i < catalogSize; i++) {
+            chunk.add(Product.create("Repriced " + i + " " + runId, "Seeded for the repricing benchmark",
+                Money.of(BigDecimal.valueOf(random.nextLong(100, 1_000_000), 2), USD), random.nextInt(1_000)));
+            if (chunk.size() == SEED_CHUNK || i == catalogSize - 1) {
+                for (Product product : repository.saveAll(chunk)) {
+                    ids.add(product.getId());
+                }
+                chunk.clear();
+            }
+        }
+        products = "ids".equals(selection) ? ProductSelection.all().withIds(ids) : ProductSelection.all();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public RepricingSummary repriceAll() {
+        return repository.repriceAll("bench-" + runId + "-" + repricings++, products, repricer);
+    }
+}
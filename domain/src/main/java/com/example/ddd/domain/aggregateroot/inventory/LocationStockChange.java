@@ -0,0 +1,9 @@
+package com.example.ddd.domain.aggregateroot.inventory;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+
+/**
+ * Result of adjusting a product's stock at one location.
+ */
+public record LocationStockChange(ProductId productId, String locationCode, int oldQuantity, int newQuantity) {
+}
@@ -0,0 +1,64 @@
+package com.example.ddd.domain.aggregateroot.inventory;
+
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.GeoPoint;
+import lombok.Getter;
+
+import java.util.regex.Pattern;
+
+/**
+ * Stock location aggregate root.
+ * A warehouse or store that holds stock of products, identified by a short code such as "AMS-1".
+ * Stock held at a location is a separate row per product, so movements at different locations
+ * never write the same row.
+ */
+@Getter
+@org.jmolecules.ddd.annotation.AggregateRoot
+public class StockLocation {
+
+    private static final Pattern CODE = Pattern.compile("[A-Z0-9][A-Z0-9_-]{0,49}");
+
+    private final String code;
+    private String name;
+    private GeoPoint position;
+
+    public StockLocation(String code, String name, GeoPoint position) {
+        validateCode(code);
+        validateName(name);
+        if (position == null) {
+            throw new InvalidDomainStateException("Location position cannot be null");
+        }
+        this.code = code;
+        this.name = name;
+        this.position = position;
+    }
+
+    public static StockLocation create(String code, String name, GeoPoint position) {
+        return new StockLocation(code, name, position);
+    }
+
+    public void update(String name, GeoPoint position) {
+        validateName(name);
+        if (position == null) {
+            throw new InvalidDomainStateException("Location position cannot be null");
+        }
+        this.name = name;
+        this.position = position;
+    }
+
+    public static void validateCode(String code) {
+        if (code == null || !CODE.matcher(code).matches()) {
+            throw new InvalidDomainStateException(
+                "Location code must be 1 to 50 upper-case letters, digits, '-' or '_'");
+        }
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new InvalidDomainStateException("Location name cannot be null or blank");
+        }
+        if (name.length() > 255) {
+            throw new InvalidDomainStateException("Location name cannot exceed 255 characters");
+        }
+    }
+}
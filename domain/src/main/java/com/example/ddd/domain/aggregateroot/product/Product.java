@@ -2,7 +2,10 @@ package com.example.ddd.domain.aggregateroot.product;
 
 import com.example.ddd.domain.event.DomainEvent;
 import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductInfoUpdatedEvent;
 import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStatusChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
 import com.example.ddd.domain.exception.InvalidDomainStateException;
 import com.example.ddd.domain.model.Money;
 import lombok.Getter;
@@ -11,7 +14,10 @@ import org.jmolecules.ddd.types.AggregateRoot;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Product aggregate root.
@@ -26,14 +32,22 @@ public class Product implements AggregateRoot<Product, ProductId> {
     private String name;
     private String description;
     private Money price;
+    // Total stock, including the stock held at locations, which is added in the background as it moves
     private int stockQuantity;
     private ProductStatus status;
     private final Instant createdAt;
     private Instant updatedAt;
+    private long version;
+
+    // True until the aggregate has been written to the store for the first time
+    private transient boolean isNew;
 
     // Domain events collection
     private final transient List<DomainEvent<?>> domainEvents = new ArrayList<>();
 
+    // Fields changed by business methods since the aggregate was loaded or last saved
+    private final transient Set<ProductField> dirtyFields = EnumSet.noneOf(ProductField.class);
+
     // Constructor for creating new products
     private Product(ProductId id, String name, String description, Money price, int stockQuantity) {
         this.id = id;
@@ -44,9 +58,10 @@ public class Product implements AggregateRoot<Product, ProductId> {
         this.status = ProductStatus.ACTIVE;
         this.createdAt = Instant.now();
         this.updatedAt = this.createdAt;
+        this.isNew = true;
 
         // Register domain event
-        registerEvent(new ProductCreatedEvent(id, name, price));
+        registerEvent(new ProductCreatedEvent(id, name, description, price, stockQuantity, nextVersion()));
     }
 
     // Factory method for creating new products
@@ -58,6 +73,13 @@ public class Product implements AggregateRoot<Product, ProductId> {
     // Reconstitution constructor (for loading from DB)
     public Product(ProductId id, String name, String description, Money price,
                    int stockQuantity, ProductStatus status, Instant createdAt, Instant updatedAt) {
+        this(id, name, description, price, stockQuantity, status, createdAt, updatedAt, 0L);
+    }
+
+    // Reconstitution constructor with the stored version used for optimistic locking
+    public Product(ProductId id, String name, String description, Money price,
+                   int stockQuantity, ProductStatus status, Instant createdAt, Instant updatedAt,
+                   long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -66,6 +88,52 @@ public class Product implements AggregateRoot<Product, ProductId> {
         this.status = status;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    /**
+     * Rebuild a product from its complete event history, oldest first.
+     * The history must start with the product's ProductCreatedEvent.
+     */
+    public static Product fromHistory(List<? extends DomainEvent<?>> history) {
+        if (history.isEmpty() || !(history.getFirst() instanceof ProductCreatedEvent created)) {
+            throw new InvalidDomainStateException("Product history must start with a ProductCreatedEvent");
+        }
+        Product product = new Product(created.aggregateId(), created.getProductName(), created.getDescription(),
+            created.getPrice(), created.getInitialStock(), ProductStatus.ACTIVE,
+            created.occurredOn(), created.occurredOn(),
+            created.aggregateVersion() == null ? 0L : created.aggregateVersion());
+        product.replay(history.subList(1, history.size()));
+        return product;
+    }
+
+    /**
+     * Apply events that happened after this product's current state, such as the tail after a snapshot.
+     * The product takes the version of the last event; nothing is registered or marked dirty.
+     */
+    public void replay(List<? extends DomainEvent<?>> events) {
+        for (DomainEvent<?> event : events) {
+            switch (event) {
+                case ProductPriceChangedEvent e -> this.price = e.getNewPrice();
+                case ProductInfoUpdatedEvent e -> {
+                    this.name = e.getProductName();
+                    this.description = e.getDescription();
+                }
+                case ProductStockChangedEvent e -> this.stockQuantity = e.getNewQuantity();
+                case ProductStatusChangedEvent e -> this.status = e.getNewStatus();
+                default -> throw new InvalidDomainStateException(
+                    "Cannot apply " + event.eventType() + " to product " + id.value());
+            }
+            this.updatedAt = event.occurredOn();
+            if (event.aggregateVersion() != null) {
+                this.version = event.aggregateVersion();
+            }
+        }
+    }
+
+    // Version the next save will store, and so the version carried by events registered now
+    private long nextVersion() {
+        return isNew ? version : version + 1;
     }
 
     // Domain event management methods
@@ -81,6 +149,20 @@ public class Product implements AggregateRoot<Product, ProductId> {
         this.domainEvents.clear();
     }
 
+    public Set<ProductField> getDirtyFields() {
+        return Set.copyOf(dirtyFields);
+    }
+
+    /**
+     * Called by the repository once the aggregate's state has been written.
+     * Clears the dirty fields and records the version now stored.
+     */
+    public void markPersisted(long version) {
+        this.isNew = false;
+        this.version = version;
+        this.dirtyFields.clear();
+    }
+
     // Business methods
     public void changePrice(Money newPrice) {
         if (newPrice == null) {
@@ -88,25 +170,39 @@ public class Product implements AggregateRoot<Product, ProductId> {
         }
         Money oldPrice = this.price;
         this.price = newPrice;
+        this.dirtyFields.add(ProductField.PRICE);
         this.updatedAt = Instant.now();
 
         // Register domain event
-        registerEvent(new ProductPriceChangedEvent(getId(), oldPrice, newPrice));
+        registerEvent(new ProductPriceChangedEvent(getId(), oldPrice, newPrice, nextVersion()));
     }
 
     public void updateInfo(String name, String description) {
         validateName(name);
-        this.name = name;
-        this.description = description;
+        boolean nameChanged = !name.equals(this.name);
+        boolean descriptionChanged = !Objects.equals(description, this.description);
+        if (!nameChanged && !descriptionChanged) {
+            return;
+        }
+        if (nameChanged) {
+            this.name = name;
+            this.dirtyFields.add(ProductField.NAME);
+        }
+        if (descriptionChanged) {
+            this.description = description;
+            this.dirtyFields.add(ProductField.DESCRIPTION);
+        }
         this.updatedAt = Instant.now();
+
+        // Register domain event
+        registerEvent(new ProductInfoUpdatedEvent(getId(), this.name, this.description, nextVersion()));
     }
 
     public void addStock(int quantity) {
         if (quantity <= 0) {
             throw new InvalidDomainStateException("Quantity to add must be positive");
         }
-        this.stockQuantity += quantity;
-        this.updatedAt = Instant.now();
+        changeStock(this.stockQuantity + quantity);
     }
 
     public void removeStock(int quantity) {
@@ -114,23 +210,40 @@ public class Product implements AggregateRoot<Product, ProductId> {
             throw new InvalidDomainStateException("Quantity to remove must be positive");
         }
         if (this.stockQuantity < quantity) {
-            throw new InvalidDomainStateException(
-                String.format("Insufficient stock. Available: %d, Requested: %d",
-                    this.stockQuantity, quantity)
-            );
+            throw InvalidDomainStateException.insufficientStock(this.stockQuantity, quantity);
         }
-        this.stockQuantity -= quantity;
+        changeStock(this.stockQuantity - quantity);
+    }
+
+    private void changeStock(int newQuantity) {
+        int oldQuantity = this.stockQuantity;
+        this.stockQuantity = newQuantity;
+        this.dirtyFields.add(ProductField.STOCK_QUANTITY);
         this.updatedAt = Instant.now();
+
+        // Register domain event
+        registerEvent(new ProductStockChangedEvent(getId(), oldQuantity, newQuantity, nextVersion()));
     }
 
     public void activate() {
-        this.status = ProductStatus.ACTIVE;
-        this.updatedAt = Instant.now();
+        changeStatus(ProductStatus.ACTIVE);
     }
 
     public void deactivate() {
-        this.status = ProductStatus.INACTIVE;
+        changeStatus(ProductStatus.INACTIVE);
+    }
+
+    private void changeStatus(ProductStatus newStatus) {
+        if (this.status == newStatus) {
+            return;
+        }
+        ProductStatus oldStatus = this.status;
+        this.status = newStatus;
+        this.dirtyFields.add(ProductField.STATUS);
         this.updatedAt = Instant.now();
+
+        // Register domain event
+        registerEvent(new ProductStatusChangedEvent(getId(), oldStatus, newStatus, nextVersion()));
     }
 
     public boolean isAvailable() {
@@ -0,0 +1,13 @@
+package com.example.ddd.domain.aggregateroot.product;
+
+/**
+ * Mutable state of the Product aggregate that business methods can change.
+ * Used to track which parts of a loaded product need to be written back.
+ */
+public enum ProductField {
+    NAME,
+    DESCRIPTION,
+    PRICE,
+    STOCK_QUANTITY,
+    STATUS
+}
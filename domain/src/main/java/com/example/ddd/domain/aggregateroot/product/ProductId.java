@@ -1,27 +1,100 @@
 package com.example.ddd.domain.aggregateroot.product;
 
+import com.example.ddd.domain.exception.InvalidIdentifierException;
 import org.jmolecules.ddd.types.Identifier;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Value object representing a Product ID.
  * Uses jMolecules Identifier interface to represent a domain identifier.
+ * The value is a UUID in compact form: 32 lowercase hex digits without dashes.
+ * The canonical dashed form is accepted as input and normalized.
  */
 public record ProductId(String value) implements Identifier {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     public ProductId {
         if (value == null || value.isBlank()) {
             throw new IllegalArgumentException("Product ID cannot be null or blank");
         }
+        value = normalize(value);
     }
 
     public static ProductId of(String value) {
         return new ProductId(value);
     }
 
+    /**
+     * Parse an ID received from a client, such as a path variable.
+     * Unlike {@link #of(String)}, a malformed value is reported as InvalidIdentifierException.
+     */
+    public static ProductId parse(String value) {
+        try {
+            return new ProductId(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidIdentifierException(e.getMessage(), e);
+        }
+    }
+
+    public static ProductId of(UUID uuid) {
+        return new ProductId(toHex(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+    }
+
+    /**
+     * Generate a time-ordered ID laid out like a UUIDv7: 48 bits of Unix milliseconds,
+     * then version and variant bits, then random bits from ThreadLocalRandom.
+     * IDs generated later sort after earlier ones, so primary-key inserts append to the index.
+     */
     public static ProductId generate() {
-        return new ProductId(UUID.randomUUID().toString().replaceAll("-", ""));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new ProductId(toHex(msb, lsb));
+    }
+
+    public UUID toUuid() {
+        return new UUID(
+            Long.parseUnsignedLong(value, 0, 16, 16),
+            Long.parseUnsignedLong(value, 16, 32, 16)
+        );
+    }
+
+    private static String normalize(String value) {
+        if (value.length() == 32) {
+            return checkHex(value.toLowerCase());
+        }
+        if (value.length() == 36 && value.charAt(8) == '-' && value.charAt(13) == '-'
+                && value.charAt(18) == '-' && value.charAt(23) == '-') {
+            String compact = value.substring(0, 8) + value.substring(9, 13) + value.substring(14, 18)
+                + value.substring(19, 23) + value.substring(24);
+            return checkHex(compact.toLowerCase());
+        }
+        throw new IllegalArgumentException("Product ID must be a UUID: " + value);
     }
 
+    private static String checkHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                throw new IllegalArgumentException("Product ID must be a UUID: " + value);
+            }
+        }
+        return value;
+    }
+
+    private static String toHex(long msb, long lsb) {
+        char[] chars = new char[32];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX_DIGITS[(int) (msb & 0xF)];
+            msb >>>= 4;
+        }
+        for (int i = 31; i >= 16; i--) {
+            chars[i] = HEX_DIGITS[(int) (lsb & 0xF)];
+            lsb >>>= 4;
+        }
+        return new String(chars);
+    }
 }
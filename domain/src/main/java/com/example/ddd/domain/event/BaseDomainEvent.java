@@ -35,6 +35,14 @@ public abstract class BaseDomainEvent<ID> implements DomainEvent<ID> {
         this.aggregateVersion = aggregateVersion;
     }
 
+    // Reconstitution constructor (for events read back from the outbox or event store)
+    protected BaseDomainEvent(UUID eventId, Instant occurredOn, Long aggregateVersion, ID aggregateId) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
+        this.aggregateVersion = aggregateVersion;
+        this.aggregateId = aggregateId;
+    }
+
     @Override
     public UUID eventId() {
         return eventId;
@@ -4,36 +4,67 @@ import com.example.ddd.domain.model.Money;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
 import lombok.Getter;
 
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Domain event emitted when a product is created.
  * Extends BaseDomainEvent to leverage common event infrastructure.
+ * Carries the product's complete initial state, so an event-sourced repository can rebuild it.
  */
 @Getter
 public class ProductCreatedEvent extends BaseDomainEvent<ProductId> {
 
     private final String productName;
+    private final String description;
     private final Money price;
+    private final int initialStock;
 
     public ProductCreatedEvent(ProductId productId, String productName, Money price) {
-        super(productId);
-        this.productName = productName;
-        this.price = price;
+        this(productId, productName, null, price, 0, 1L);
     }
 
     public ProductCreatedEvent(ProductId productId, String productName, Money price, Long aggregateVersion) {
+        this(productId, productName, null, price, 0, aggregateVersion);
+    }
+
+    public ProductCreatedEvent(ProductId productId, String productName, String description, Money price,
+                               int initialStock, Long aggregateVersion) {
         super(aggregateVersion, productId);
         this.productName = productName;
+        this.description = description;
+        this.price = price;
+        this.initialStock = initialStock;
+    }
+
+    // Reconstitution constructor (for events read back from the outbox or event store)
+    public ProductCreatedEvent(UUID eventId, Instant occurredOn, Long aggregateVersion,
+                               ProductId productId, String productName, Money price) {
+        this(eventId, occurredOn, aggregateVersion, productId, productName, null, price, 0);
+    }
+
+    // Reconstitution constructor including the fields added for event sourcing
+    public ProductCreatedEvent(UUID eventId, Instant occurredOn, Long aggregateVersion,
+                               ProductId productId, String productName, String description,
+                               Money price, int initialStock) {
+        super(eventId, occurredOn, aggregateVersion, productId);
+        this.productName = productName;
+        this.description = description;
         this.price = price;
+        this.initialStock = initialStock;
     }
 
     @Override
     public Map<String, Object> metadata() {
-        return Map.of(
-            "productName", productName,
-            "priceAmount", price.getAmount().toString(),
-            "priceCurrency", price.getCurrency().getCurrencyCode()
-        );
+        // Description is optional, and Map.of rejects null values
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("productName", productName);
+        metadata.put("description", description);
+        metadata.put("priceAmount", price.getAmount().toString());
+        metadata.put("priceCurrency", price.getCurrency().getCurrencyCode());
+        metadata.put("initialStock", initialStock);
+        return metadata;
     }
 }
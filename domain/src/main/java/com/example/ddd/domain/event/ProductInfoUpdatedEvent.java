@@ -0,0 +1,49 @@
+package com.example.ddd.domain.event;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain event emitted when a product's name or description changes.
+ * Extends BaseDomainEvent to leverage common event infrastructure.
+ */
+@Getter
+public class ProductInfoUpdatedEvent extends BaseDomainEvent<ProductId> {
+
+    private final String productName;
+    private final String description;
+
+    public ProductInfoUpdatedEvent(ProductId productId, String productName, String description) {
+        super(productId);
+        this.productName = productName;
+        this.description = description;
+    }
+
+    public ProductInfoUpdatedEvent(ProductId productId, String productName, String description, Long aggregateVersion) {
+        super(aggregateVersion, productId);
+        this.productName = productName;
+        this.description = description;
+    }
+
+    // Reconstitution constructor (for events read back from the outbox or event store)
+    public ProductInfoUpdatedEvent(UUID eventId, Instant occurredOn, Long aggregateVersion,
+                                   ProductId productId, String productName, String description) {
+        super(eventId, occurredOn, aggregateVersion, productId);
+        this.productName = productName;
+        this.description = description;
+    }
+
+    @Override
+    public Map<String, Object> metadata() {
+        // Description is optional, and Map.of rejects null values
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("productName", productName);
+        metadata.put("description", description);
+        return metadata;
+    }
+}
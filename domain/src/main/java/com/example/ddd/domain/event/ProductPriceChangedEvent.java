@@ -4,7 +4,9 @@ import com.example.ddd.domain.model.Money;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Domain event emitted when a product price changes.
@@ -28,6 +30,14 @@ public class ProductPriceChangedEvent extends BaseDomainEvent<ProductId> {
         this.newPrice = newPrice;
     }
 
+    // Reconstitution constructor (for events read back from the outbox or event store)
+    public ProductPriceChangedEvent(UUID eventId, Instant occurredOn, Long aggregateVersion,
+                                    ProductId productId, Money oldPrice, Money newPrice) {
+        super(eventId, occurredOn, aggregateVersion, productId);
+        this.oldPrice = oldPrice;
+        this.newPrice = newPrice;
+    }
+
     @Override
     public Map<String, Object> metadata() {
         return Map.of(
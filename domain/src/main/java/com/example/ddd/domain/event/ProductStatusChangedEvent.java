@@ -0,0 +1,43 @@
+package com.example.ddd.domain.event;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain event emitted when a product is activated or deactivated.
+ * Extends BaseDomainEvent to leverage common event infrastructure.
+ */
+@Getter
+public class ProductStatusChangedEvent extends BaseDomainEvent<ProductId> {
+
+    private final ProductStatus oldStatus;
+    private final ProductStatus newStatus;
+
+    public ProductStatusChangedEvent(ProductId productId, ProductStatus oldStatus, ProductStatus newStatus,
+                                     Long aggregateVersion) {
+        super(aggregateVersion, productId);
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    // Reconstitution constructor (for events read back from the outbox or event store)
+    public ProductStatusChangedEvent(UUID eventId, Instant occurredOn, Long aggregateVersion,
+                                     ProductId productId, ProductStatus oldStatus, ProductStatus newStatus) {
+        super(eventId, occurredOn, aggregateVersion, productId);
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    @Override
+    public Map<String, Object> metadata() {
+        return Map.of(
+            "oldStatus", oldStatus.name(),
+            "newStatus", newStatus.name()
+        );
+    }
+}
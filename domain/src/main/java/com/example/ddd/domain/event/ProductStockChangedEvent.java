@@ -0,0 +1,41 @@
+package com.example.ddd.domain.event;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain event emitted when a product's stock quantity changes.
+ * Extends BaseDomainEvent to leverage common event infrastructure.
+ */
+@Getter
+public class ProductStockChangedEvent extends BaseDomainEvent<ProductId> {
+
+    private final int oldQuantity;
+    private final int newQuantity;
+
+    public ProductStockChangedEvent(ProductId productId, int oldQuantity, int newQuantity, Long aggregateVersion) {
+        super(aggregateVersion, productId);
+        this.oldQuantity = oldQuantity;
+        this.newQuantity = newQuantity;
+    }
+
+    // Reconstitution constructor (for events read back from the outbox or event store)
+    public ProductStockChangedEvent(UUID eventId, Instant occurredOn, Long aggregateVersion,
+                                    ProductId productId, int oldQuantity, int newQuantity) {
+        super(eventId, occurredOn, aggregateVersion, productId);
+        this.oldQuantity = oldQuantity;
+        this.newQuantity = newQuantity;
+    }
+
+    @Override
+    public Map<String, Object> metadata() {
+        return Map.of(
+            "oldQuantity", oldQuantity,
+            "newQuantity", newQuantity
+        );
+    }
+}
@@ -8,4 +8,16 @@ public class InvalidDomainStateException extends DomainException {
     public InvalidDomainStateException(String message) {
         super(message);
     }
+
+    public static InvalidDomainStateException insufficientStock(int available, int requested) {
+        return new InvalidDomainStateException(
+            String.format("Insufficient stock. Available: %d, Requested: %d", available, requested)
+        );
+    }
+
+    public static InvalidDomainStateException stockKeptByLocation(Object productId) {
+        return new InvalidDomainStateException(
+            String.format("Stock of product %s is kept per location; adjust it at a location", productId)
+        );
+    }
 }
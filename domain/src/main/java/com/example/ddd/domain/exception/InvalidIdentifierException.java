@@ -0,0 +1,11 @@
+package com.example.ddd.domain.exception;
+
+/**
+ * Thrown when an identifier received from outside the application is malformed.
+ */
+public class InvalidIdentifierException extends DomainException {
+
+    public InvalidIdentifierException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
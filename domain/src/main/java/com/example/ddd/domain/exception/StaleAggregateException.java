@@ -0,0 +1,18 @@
+package com.example.ddd.domain.exception;
+
+/**
+ * Thrown when an aggregate was changed by someone else after it was loaded.
+ */
+public class StaleAggregateException extends DomainException {
+
+    public StaleAggregateException(String message) {
+        super(message);
+    }
+
+    public static StaleAggregateException forVersion(Class<?> entityType, Object id, long version) {
+        return new StaleAggregateException(
+            String.format("%s with ID %s was modified concurrently (expected version %d)",
+                entityType.getSimpleName(), id, version)
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.ddd.domain.model;
+
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed table of the currencies that have a minor unit, built once from the JDK's available currencies.
+ * Each currency gets a stable small index, so compact money can carry an int instead of a reference,
+ * and currency codes read from the database resolve through a plain map lookup.
+ */
+public final class CurrencyTable {
+
+    // Minor units finer than a millionth are not supported; no ISO currency has them
+    private static final int MAX_FRACTION_DIGITS = 6;
+
+    private static final Currency[] CURRENCIES;
+    private static final int[] FRACTION_DIGITS;
+    private static final Map<String, Currency> BY_CODE = new HashMap<>();
+    private static final Map<Currency, Integer> INDEXES = new IdentityHashMap<>();
+
+    static {
+        List<Currency> currencies = Currency.getAvailableCurrencies().stream()
+            .filter(currency -> currency.getDefaultFractionDigits() >= 0
+                && currency.getDefaultFractionDigits() <= MAX_FRACTION_DIGITS)
+            .sorted(Comparator.comparing(Currency::getCurrencyCode))
+            .toList();
+        CURRENCIES = currencies.toArray(Currency[]::new);
+        FRACTION_DIGITS = new int[CURRENCIES.length];
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            FRACTION_DIGITS[i] = CURRENCIES[i].getDefaultFractionDigits();
+            BY_CODE.put(CURRENCIES[i].getCurrencyCode(), CURRENCIES[i]);
+            INDEXES.put(CURRENCIES[i], i);
+        }
+    }
+
+    private CurrencyTable() {
+    }
+
+    /**
+     * The currency with the given ISO 4217 code. Same result and errors as {@link Currency#getInstance(String)}.
+     */
+    public static Currency forCode(String code) {
+        Currency currency = code == null ? null : BY_CODE.get(code);
+        return currency != null ? currency : Currency.getInstance(code);
+    }
+
+    /**
+     * Index of a currency in the table, or -1 when it has no minor unit.
+     */
+    static int indexOf(Currency currency) {
+        Integer index = INDEXES.get(currency);
+        return index == null ? -1 : index;
+    }
+
+    static Currency currency(int index) {
+        return CURRENCIES[index];
+    }
+
+    static int fractionDigits(int index) {
+        return FRACTION_DIGITS[index];
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ddd.domain.model;
+
+import lombok.Value;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Value object representing a percentage discount, exact to a hundredth of a percent.
+ * Discounted amounts are computed in exact decimal arithmetic and rounded half-even to the
+ * currency's minor unit. Amounts of up to about 10^14 minor units take a pure {@code long} path,
+ * which gives the same result as BigDecimal without allocating; larger amounts use BigDecimal.
+ * Uses jMolecules ValueObject annotation to indicate DDD value object semantics.
+ */
+@Value
+@ValueObject
+public class Discount {
+
+    private static final long FULL = 10_000;
+    private static final BigDecimal FULL_DECIMAL = BigDecimal.valueOf(FULL);
+
+    // Largest minor-unit amount whose product with FULL cannot overflow a long
+    private static final long FAST_PATH_LIMIT = Long.MAX_VALUE / FULL;
+
+    // Hundredths of a percent: 1550 is 15.5%
+    int basisPoints;
+
+    private Discount(int basisPoints) {
+        if (basisPoints < 0 || basisPoints > FULL) {
+            throw new IllegalArgumentException("Discount percentage must be between 0 and 100");
+        }
+        this.basisPoints = basisPoints;
+    }
+
+    public static Discount ofPercentage(BigDecimal percentage) {
+        if (percentage == null) {
+            throw new IllegalArgumentException("Discount percentage cannot be null");
+        }
+        if (percentage.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Discount percentage cannot have more than two decimals");
+        }
+        if (percentage.signum() < 0 || percentage.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Discount percentage must be between 0 and 100");
+        }
+        return new Discount(percentage.movePointRight(2).intValueExact());
+    }
+
+    public static Discount ofPercentage(int percentage) {
+        return ofPercentage(BigDecimal.valueOf(percentage));
+    }
+
+    public BigDecimal getPercentage() {
+        return BigDecimal.valueOf(basisPoints, 2);
+    }
+
+    /**
+     * The discounted price, in the same currency, rounded to its minor unit.
+     */
+    public Money applyTo(Money price) {
+        int scale = Math.max(price.getAmount().scale(), price.getCurrency().getDefaultFractionDigits());
+        return Money.of(applyTo(price.getAmount(), scale), price.getCurrency());
+    }
+
+    /**
+     * The discounted amount at the given scale, rounded half-even.
+     */
+    public BigDecimal applyTo(BigDecimal amount, int scale) {
+        BigDecimal scaled = amount.setScale(scale, RoundingMode.UNNECESSARY);
+        if (scaled.unscaledValue().bitLength() < 63) {
+            long minor = scaled.unscaledValue().longValue();
+            if (minor >= 0 && minor <= FAST_PATH_LIMIT) {
+                return BigDecimal.valueOf(applyToMinorUnits(minor), scale);
+            }
+        }
+        return scaled.multiply(BigDecimal.valueOf(FULL - basisPoints))
+            .divide(FULL_DECIMAL, scale, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * The discounted amount of a non-negative number of minor units, rounded half-even.
+     * Only valid up to {@code Long.MAX_VALUE / 10_000}.
+     */
+    public long applyToMinorUnits(long minor) {
+        long product = minor * (FULL - basisPoints);
+        long quotient = product / FULL;
+        long twiceRemainder = (product % FULL) * 2;
+        if (twiceRemainder > FULL || (twiceRemainder == FULL && (quotient & 1) == 1)) {
+            quotient++;
+        }
+        return quotient;
+    }
+}
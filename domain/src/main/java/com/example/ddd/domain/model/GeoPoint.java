@@ -0,0 +1,45 @@
+package com.example.ddd.domain.model;
+
+import lombok.Value;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+/**
+ * Value object representing a position on the earth in decimal degrees.
+ * Uses jMolecules ValueObject annotation to indicate DDD value object semantics.
+ */
+@Value
+@ValueObject
+public class GeoPoint {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    double latitude;
+    double longitude;
+
+    private GeoPoint(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("Latitude must be between -90 and 90");
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Longitude must be between -180 and 180");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static GeoPoint of(double latitude, double longitude) {
+        return new GeoPoint(latitude, longitude);
+    }
+
+    /**
+     * Great-circle distance to another point, in kilometres.
+     */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - this.latitude);
+        double dLon = Math.toRadians(other.longitude - this.longitude);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+            + Math.cos(Math.toRadians(this.latitude)) * Math.cos(Math.toRadians(other.latitude))
+            * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
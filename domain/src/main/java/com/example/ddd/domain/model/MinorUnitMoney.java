@@ -0,0 +1,128 @@
+package com.example.ddd.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+import org.jmolecules.ddd.annotation.ValueObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Compact value object for money: a whole number of the currency's minor units and the currency's
+ * index in the CurrencyTable. Arithmetic and comparison are plain {@code long} operations, for bulk
+ * aggregation paths where allocating a BigDecimal per step dominates.
+ * <p>
+ * Behaves like Money, with the same negative-amount and currency-mismatch checks and messages.
+ * It converts to and from Money without loss: an amount with more decimals than the currency's minor
+ * unit cannot be represented and is rejected rather than rounded. A result beyond {@code Long.MAX_VALUE}
+ * minor units throws ArithmeticException, where Money would keep growing.
+ * Uses jMolecules ValueObject annotation to indicate DDD value object semantics.
+ */
+@Value
+@ValueObject
+public class MinorUnitMoney implements Comparable<MinorUnitMoney> {
+
+    long minorUnits;
+
+    @Getter(AccessLevel.NONE)
+    int currencyIndex;
+
+    private MinorUnitMoney(long minorUnits, int currencyIndex) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        this.minorUnits = minorUnits;
+        this.currencyIndex = currencyIndex;
+    }
+
+    public static MinorUnitMoney of(long minorUnits, Currency currency) {
+        return new MinorUnitMoney(minorUnits, indexOf(currency));
+    }
+
+    /**
+     * The same amount as the given Money, which must be exact to the currency's minor unit.
+     */
+    public static MinorUnitMoney of(Money money) {
+        int index = indexOf(money.getCurrency());
+        try {
+            long minorUnits = money.getAmount()
+                .setScale(CurrencyTable.fractionDigits(index), RoundingMode.UNNECESSARY)
+                .longValueExact();
+            return new MinorUnitMoney(minorUnits, index);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                "Amount " + money.getAmount() + " is not a whole number of " + money.getCurrency() + " minor units", e);
+        }
+    }
+
+    /**
+     * Whether the given Money can be converted without loss.
+     * Amounts of 10^18 minor units or more count as not representable.
+     */
+    public static boolean isRepresentable(Money money) {
+        int index = CurrencyTable.indexOf(money.getCurrency());
+        if (index < 0) {
+            return false;
+        }
+        BigDecimal amount = money.getAmount();
+        int digits = CurrencyTable.fractionDigits(index);
+        if (amount.scale() > digits && amount.stripTrailingZeros().scale() > digits) {
+            return false;
+        }
+        return amount.precision() - amount.scale() + digits < 19;
+    }
+
+    public Currency getCurrency() {
+        return CurrencyTable.currency(currencyIndex);
+    }
+
+    /**
+     * The amount as a decimal at the scale of the currency's minor unit.
+     */
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, CurrencyTable.fractionDigits(currencyIndex));
+    }
+
+    public Money toMoney() {
+        return Money.of(getAmount(), getCurrency());
+    }
+
+    public MinorUnitMoney add(MinorUnitMoney other) {
+        if (this.currencyIndex != other.currencyIndex) {
+            throw new IllegalArgumentException("Cannot add money with different currencies");
+        }
+        return new MinorUnitMoney(Math.addExact(this.minorUnits, other.minorUnits), this.currencyIndex);
+    }
+
+    public MinorUnitMoney multiply(int factor) {
+        return new MinorUnitMoney(Math.multiplyExact(this.minorUnits, factor), this.currencyIndex);
+    }
+
+    public boolean isGreaterThan(MinorUnitMoney other) {
+        if (this.currencyIndex != other.currencyIndex) {
+            throw new IllegalArgumentException("Cannot compare money with different currencies");
+        }
+        return this.minorUnits > other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(MinorUnitMoney other) {
+        if (this.currencyIndex != other.currencyIndex) {
+            throw new IllegalArgumentException("Cannot compare money with different currencies");
+        }
+        return Long.compare(this.minorUnits, other.minorUnits);
+    }
+
+    private static int indexOf(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        int index = CurrencyTable.indexOf(currency);
+        if (index < 0) {
+            throw new IllegalArgumentException("Currency " + currency + " has no minor unit");
+        }
+        return index;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ddd.domain.repository;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+
+import java.time.Instant;
+
+/**
+ * Position of a product in the (createdAt, id) ordering used for keyset pagination.
+ * A page starts strictly after this position.
+ */
+public record ProductKeyset(Instant createdAt, ProductId id) {
+
+    public ProductKeyset {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Keyset createdAt cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Keyset id cannot be null");
+        }
+    }
+}
@@ -2,10 +2,15 @@ package com.example.ddd.domain.repository;
 
 import com.example.ddd.domain.aggregateroot.product.Product;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.model.Money;
 import org.jmolecules.ddd.annotation.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * Repository interface for Product aggregate.
@@ -20,15 +25,47 @@ public interface ProductRepository {
      */
     Product save(Product product);
 
+    /**
+     * Save a batch of products in one unit of work.
+     */
+    List<Product> saveAll(Collection<Product> products);
+
+    /**
+     * Add {@code delta} units to a product's stock, or remove them when negative, without loading the product.
+     * The availability check and the change are one conditional update, so concurrent adjustments of the
+     * same product never lose each other's changes. Publishes and returns the resulting stock-changed event.
+     * Throws InvalidDomainStateException when there is too little stock, as Product.removeStock does, or when
+     * the product's stock is kept per location, and EntityNotFoundException when the product does not exist.
+     */
+    ProductStockChangedEvent adjustStock(ProductId id, int delta);
+
+    /**
+     * Set the price of every selected product to {@code repricer} applied to its current price, without
+     * loading the products. Products are repriced in chunks of batched updates, each chunk in its own
+     * transaction, and one price-changed event per repriced product is published with each chunk.
+     * Each chunk also records how far the repricing named {@code repricingId} has got, so calling again with
+     * the same ID after a failure resumes after the last committed chunk instead of repricing products twice,
+     * and calling again after it finished reprices nothing. The summary counts every attempt under the ID.
+     */
+    RepricingSummary repriceAll(String repricingId, ProductSelection selection, UnaryOperator<Money> repricer);
+
     /**
      * Find a product by its ID.
      */
     Optional<Product> findById(ProductId id);
 
     /**
-     * Find all products.
+     * Find the products with the given IDs. IDs that do not exist are skipped.
      */
-    List<Product> findAll();
+    List<Product> findAllById(Collection<ProductId> ids);
+
+    /**
+     * Find a page of products of any status ordered by ID.
+     * Returns at most {@code limit} products with IDs strictly after {@code after},
+     * or the first page when {@code after} is null. Each call is a short query of its own,
+     * so the whole catalog can be walked without holding a transaction or connection open.
+     */
+    List<Product> findPage(ProductId after, int limit);
 
     /**
      * Delete a product.
@@ -40,16 +77,34 @@ public interface ProductRepository {
      */
     List<Product> findByNameContaining(String searchTerm);
 
+    /**
+     * Search active products by name, most relevant first.
+     * Matches names containing the query as well as close (fuzzy) matches.
+     */
+    List<Product> searchActiveByName(String query, int offset, int limit);
+
     /**
      * Find all active products.
      */
     List<Product> findAllActive();
 
+    /**
+     * Find a page of active products ordered by creation time and ID.
+     * Returns at most {@code limit} products positioned strictly after {@code after},
+     * or the first page when {@code after} is null.
+     */
+    List<Product> findActivePage(ProductKeyset after, int limit);
+
     /**
      * Check if a product with the given name exists.
      */
     boolean existsByName(String name);
 
+    /**
+     * Return the subset of the given names that are already taken, in a single query.
+     */
+    Set<String> findExistingNames(Collection<String> names);
+
     boolean existsById(ProductId id);
 
     void deleteById(ProductId id);
@@ -0,0 +1,33 @@
+package com.example.ddd.domain.repository;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+
+import java.util.Set;
+
+/**
+ * Products to act on in bulk: those matching every criterion given.
+ * A selection with no criteria selects the whole catalog.
+ *
+ * @param status      only products with this status, or any status when null
+ * @param namePattern only products whose name matches, case-insensitively, where {@code *} stands for
+ *                    any run of characters; any name when null
+ * @param ids         only these products, or any product when null
+ */
+public record ProductSelection(ProductStatus status, String namePattern, Set<ProductId> ids) {
+
+    public ProductSelection {
+        if (namePattern != null && namePattern.isBlank()) {
+            throw new IllegalArgumentException("Name pattern cannot be blank");
+        }
+        ids = ids == null ? null : Set.copyOf(ids);
+    }
+
+    public static ProductSelection all() {
+        return new ProductSelection(null, null, null);
+    }
+
+    public ProductSelection withIds(Set<ProductId> ids) {
+        return new ProductSelection(status, namePattern, ids);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.ddd.domain.repository;
+
+/**
+ * Outcome of a bulk repricing.
+ *
+ * @param selected products that matched the selection
+ * @param repriced products whose price changed; the rest already had the new price
+ */
+public record RepricingSummary(long selected, long repriced) {
+}
@@ -0,0 +1,34 @@
+package com.example.ddd.domain.repository;
+
+import com.example.ddd.domain.aggregateroot.inventory.LocationStockChange;
+import com.example.ddd.domain.aggregateroot.inventory.StockLocation;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import org.jmolecules.ddd.annotation.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for stock locations and the stock held at them.
+ * A product's total stock, Product.stockQuantity, is maintained from the per-location stock
+ * in the background rather than on every movement, so it trails location changes briefly.
+ */
+@Repository
+public interface StockLocationRepository {
+
+    /**
+     * Save a location, creating it when its code is new.
+     */
+    StockLocation save(StockLocation location);
+
+    /**
+     * Find a location by its code.
+     */
+    Optional<StockLocation> findByCode(String code);
+
+    /**
+     * Add {@code delta} units of a product at a location, or remove them when negative, in one conditional update
+     * of that location's row only. Throws InvalidDomainStateException when the location holds too little stock,
+     * as Product.removeStock does, and EntityNotFoundException when the product or location does not exist.
+     */
+    LocationStockChange adjustStock(ProductId productId, String locationCode, int delta);
+}
@@ -1,10 +1,16 @@
 package com.example.ddd.domain.service;
 
 import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.Discount;
+import com.example.ddd.domain.model.MinorUnitMoney;
 import com.example.ddd.domain.model.Money;
 import com.example.ddd.domain.aggregateroot.product.Product;
 import org.jmolecules.ddd.annotation.Service;
 
+import java.util.Collection;
+import java.util.Currency;
+import java.util.function.UnaryOperator;
+
 /**
  * Domain service for Product-related business logic that doesn't fit
  * naturally within the Product aggregate.
@@ -12,6 +18,9 @@ import org.jmolecules.ddd.annotation.Service;
 @Service
 public class ProductDomainService {
 
+    // Business rule: a discount cannot exceed 50% of the original price
+    private static final int MAX_DISCOUNT_BASIS_POINTS = 5_000;
+
     /**
      * Apply a discount to a product's price.
      * Business rule: Discount cannot exceed 50% of the original price.
@@ -20,15 +29,56 @@ public class ProductDomainService {
         if (discountPercentage < 0 || discountPercentage > 100) {
             throw new InvalidDomainStateException("Discount percentage must be between 0 and 100");
         }
-        if (discountPercentage > 50) {
-            throw new InvalidDomainStateException("Discount cannot exceed 50%");
+        return applyDiscount(product.getPrice(), Discount.ofPercentage(discountPercentage));
+    }
+
+    /**
+     * Apply a discount to a price, in exact decimal arithmetic.
+     * Business rule: Discount cannot exceed 50% of the original price.
+     */
+    public Money applyDiscount(Money price, Discount discount) {
+        checkDiscount(discount);
+        return discount.applyTo(price);
+    }
+
+    /**
+     * A repricer for ProductRepository.repriceAll that applies the discount to each price.
+     * The discount is checked once, here, rather than once per product.
+     */
+    public UnaryOperator<Money> discountRepricer(Discount discount) {
+        checkDiscount(discount);
+        return discount::applyTo;
+    }
+
+    /**
+     * Total value of the given products' stock, price times quantity, in the given currency.
+     * Sums whole minor units in a long while every price allows it, and switches to exact decimal
+     * arithmetic for the rest once a price has finer decimals or the total outgrows a long.
+     */
+    public Money calculateStockValue(Collection<Product> products, Currency currency) {
+        MinorUnitMoney compactTotal = MinorUnitMoney.of(0, currency);
+        Money total = null;
+        for (Product product : products) {
+            Money price = product.getPrice();
+            if (total == null && MinorUnitMoney.isRepresentable(price)) {
+                try {
+                    compactTotal = compactTotal.add(MinorUnitMoney.of(price).multiply(product.getStockQuantity()));
+                    continue;
+                } catch (ArithmeticException e) {
+                    // Past Long.MAX_VALUE minor units; carry on in decimal
+                }
+            }
+            if (total == null) {
+                total = compactTotal.toMoney();
+            }
+            total = total.add(price.multiply(product.getStockQuantity()));
         }
+        return total == null ? compactTotal.toMoney() : total;
+    }
 
-        Money originalPrice = product.getPrice();
-        double discountFactor = 1.0 - (discountPercentage / 100.0);
-        return Money.of(
-            originalPrice.getAmount().multiply(java.math.BigDecimal.valueOf(discountFactor)),
-            originalPrice.getCurrency()
-        );
+    private static void checkDiscount(Discount discount) {
+        if (discount.getBasisPoints() > MAX_DISCOUNT_BASIS_POINTS) {
+            throw new InvalidDomainStateException("Discount cannot exceed 50%");
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.example.ddd.domain.aggregateroot.product;
+
+import com.example.ddd.domain.exception.InvalidIdentifierException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductId Tests")
+class ProductIdTest {
+
+    @Test
+    @DisplayName("should generate compact version 7 UUIDs")
+    void shouldGenerateCompactVersion7Uuids() {
+        // When
+        ProductId id = ProductId.generate();
+
+        // Then
+        assertThat(id.value()).hasSize(32).matches("[0-9a-f]{32}");
+        assertThat(id.toUuid().version()).isEqualTo(7);
+        assertThat(id.toUuid().variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should generate IDs ordered by creation time")
+    void shouldGenerateIdsOrderedByCreationTime() throws InterruptedException {
+        // Given
+        ProductId first = ProductId.generate();
+        Thread.sleep(2);
+
+        // When
+        ProductId second = ProductId.generate();
+
+        // Then
+        assertThat(second.value()).isGreaterThan(first.value());
+    }
+
+    @Test
+    @DisplayName("should parse legacy compact and canonical forms to the same ID")
+    void shouldParseCompactAndCanonicalForms() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+        String compact = uuid.toString().replace("-", "");
+
+        // When
+        ProductId fromCompact = ProductId.of(compact);
+        ProductId fromCanonical = ProductId.of(uuid.toString().toUpperCase());
+
+        // Then
+        assertThat(fromCompact).isEqualTo(fromCanonical);
+        assertThat(fromCompact.value()).isEqualTo(compact);
+        assertThat(fromCompact.toUuid()).isEqualTo(uuid);
+        assertThat(ProductId.of(uuid)).isEqualTo(fromCompact);
+    }
+
+    @Test
+    @DisplayName("should reject values that are not UUIDs")
+    void shouldRejectValuesThatAreNotUuids() {
+        assertThatThrownBy(() -> ProductId.of("not-a-uuid"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductId.of("zz0e8400e29b41d4a716446655440000"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductId.of(" "))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should report a malformed client-supplied ID as an invalid identifier")
+    void shouldParseClientSuppliedIds() {
+        // Given
+        ProductId id = ProductId.generate();
+
+        // When & Then
+        assertThat(ProductId.parse(id.value())).isEqualTo(id);
+        assertThatThrownBy(() -> ProductId.parse("not-a-uuid"))
+            .isInstanceOf(InvalidIdentifierException.class)
+            .hasMessage("Product ID must be a UUID: not-a-uuid");
+        assertThatThrownBy(() -> ProductId.parse(null))
+            .isInstanceOf(InvalidIdentifierException.class);
+    }
+}
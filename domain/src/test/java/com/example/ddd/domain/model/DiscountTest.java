@@ -0,0 +1,61 @@
+package com.example.ddd.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Discount Value Object Tests")
+class DiscountTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Test
+    @DisplayName("should round the discounted price half-even to the cent")
+    void shouldRoundHalfEven() {
+        // Given
+        Discount discount = Discount.ofPercentage(new BigDecimal("12.5"));
+
+        // When & Then
+        assertThat(discount.applyTo(Money.of(new BigDecimal("0.20"), USD)).getAmount()).isEqualByComparingTo("0.18");
+        assertThat(discount.applyTo(Money.of(new BigDecimal("0.60"), USD)).getAmount()).isEqualByComparingTo("0.52");
+        assertThat(discount.applyTo(Money.of(new BigDecimal("99.99"), USD)).getAmount()).isEqualByComparingTo("87.49");
+    }
+
+    @Test
+    @DisplayName("should compute the same amounts on the long path as in BigDecimal")
+    void shouldMatchBigDecimalArithmetic() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            Discount discount = Discount.ofPercentage(BigDecimal.valueOf(random.nextInt(10_001), 2));
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(1_000_000_000_000L), 2);
+
+            // When
+            BigDecimal actual = discount.applyTo(amount, 2);
+
+            // Then
+            BigDecimal expected = amount.multiply(BigDecimal.ONE.subtract(discount.getPercentage().movePointLeft(2)))
+                .setScale(2, RoundingMode.HALF_EVEN);
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("should reject percentages outside 0-100 or finer than a hundredth")
+    void shouldRejectInvalidPercentages() {
+        assertThatThrownBy(() -> Discount.ofPercentage(new BigDecimal("100.01")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Discount.ofPercentage(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Discount.ofPercentage(new BigDecimal("10.005")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Discount percentage cannot have more than two decimals");
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.ddd.domain.model;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.service.ProductDomainService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MinorUnitMoney Value Object Tests")
+class MinorUnitMoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    @DisplayName("should convert to and from Money without loss")
+    void shouldRoundTripMoney() {
+        // Given
+        Money price = Money.of(new BigDecimal("1234.5"), USD);
+        Money yen = Money.of(new BigDecimal("980"), JPY);
+
+        // When
+        MinorUnitMoney compact = MinorUnitMoney.of(price);
+        MinorUnitMoney compactYen = MinorUnitMoney.of(yen);
+
+        // Then
+        assertThat(compact.getMinorUnits()).isEqualTo(123_450);
+        assertThat(compact.getCurrency()).isEqualTo(USD);
+        assertThat(compact.toMoney().getAmount()).isEqualTo(new BigDecimal("1234.50"));
+        assertThat(compactYen.getMinorUnits()).isEqualTo(980);
+        assertThat(compactYen.toMoney()).isEqualTo(yen);
+    }
+
+    @Test
+    @DisplayName("should add, multiply and compare like Money")
+    void shouldMatchMoneyArithmetic() {
+        // Given
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            Money a = Money.of(BigDecimal.valueOf(random.nextLong(1_000_000_000_000L), 2), USD);
+            Money b = Money.of(BigDecimal.valueOf(random.nextLong(1_000_000_000_000L), 2), USD);
+            int factor = random.nextInt(10_000);
+
+            // When
+            MinorUnitMoney compactA = MinorUnitMoney.of(a);
+            MinorUnitMoney compactB = MinorUnitMoney.of(b);
+
+            // Then
+            assertThat(compactA.add(compactB).getAmount()).isEqualByComparingTo(a.add(b).getAmount());
+            assertThat(compactA.multiply(factor).getAmount()).isEqualByComparingTo(a.multiply(factor).getAmount());
+            assertThat(compactA.isGreaterThan(compactB)).isEqualTo(a.isGreaterThan(b));
+        }
+    }
+
+    @Test
+    @DisplayName("should reject what Money rejects, and amounts finer than the minor unit")
+    void shouldRejectInvalidAmounts() {
+        MinorUnitMoney dollar = MinorUnitMoney.of(100, USD);
+
+        assertThatThrownBy(() -> MinorUnitMoney.of(-1, USD))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Amount cannot be negative");
+        assertThatThrownBy(() -> dollar.multiply(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Amount cannot be negative");
+        assertThatThrownBy(() -> dollar.add(MinorUnitMoney.of(100, EUR)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot add money with different currencies");
+        assertThatThrownBy(() -> dollar.isGreaterThan(MinorUnitMoney.of(100, EUR)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot compare money with different currencies");
+        assertThatThrownBy(() -> MinorUnitMoney.of(Money.of(new BigDecimal("10.005"), USD)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MinorUnitMoney.of(Long.MAX_VALUE, USD).add(dollar))
+            .isInstanceOf(ArithmeticException.class);
+        assertThat(MinorUnitMoney.isRepresentable(Money.of(new BigDecimal("10.005"), USD))).isFalse();
+        assertThat(MinorUnitMoney.isRepresentable(Money.of(new BigDecimal("10.0500"), USD))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should total stock value in minor units and fall back to decimals for finer prices")
+    void shouldTotalStockValue() {
+        // Given
+        ProductDomainService service = new ProductDomainService();
+        List<Product> products = List.of(
+            Product.create("Laptop", null, Money.of(new BigDecimal("999.99"), USD), 3),
+            Product.create("Cable", null, Money.of(new BigDecimal("0.10"), USD), 250));
+        List<Product> withFinerPrice = List.of(
+            products.get(0),
+            Product.create("Screw", null, Money.of(new BigDecimal("0.0125"), USD), 1000),
+            products.get(1));
+
+        // When & Then
+        assertThat(service.calculateStockValue(products, USD).getAmount()).isEqualByComparingTo("3024.97");
+        assertThat(service.calculateStockValue(withFinerPrice, USD).getAmount()).isEqualByComparingTo("3037.47");
+        assertThat(service.calculateStockValue(List.of(), USD).getAmount()).isEqualByComparingTo("0");
+    }
+}
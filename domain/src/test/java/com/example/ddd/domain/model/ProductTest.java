@@ -1,10 +1,14 @@
 package com.example.ddd.domain.model;
 
 import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductField;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
 import com.example.ddd.domain.aggregateroot.product.ProductStatus;
 import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductInfoUpdatedEvent;
 import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStatusChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
 import com.example.ddd.domain.exception.InvalidDomainStateException;
 import org.jmolecules.event.types.DomainEvent;
 import org.junit.jupiter.api.DisplayName;
@@ -282,6 +286,25 @@ class ProductTest {
             assertThat(product.getDescription()).isEqualTo(newDescription);
         }
 
+        @Test
+        @DisplayName("should register ProductInfoUpdatedEvent only when info changes")
+        void shouldRegisterInfoUpdatedEventOnlyWhenInfoChanges() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+            product.clearDomainEvents();
+
+            // When
+            product.updateInfo(VALID_NAME, VALID_DESCRIPTION);
+            product.updateInfo("Updated Product", VALID_DESCRIPTION);
+
+            // Then
+            List<DomainEvent> events = product.getDomainEvents();
+            assertThat(events).hasSize(1);
+            ProductInfoUpdatedEvent event = (ProductInfoUpdatedEvent) events.get(0);
+            assertThat(event.getProductName()).isEqualTo("Updated Product");
+            assertThat(event.aggregateId()).isEqualTo(product.getId());
+        }
+
         @Test
         @DisplayName("should throw exception when updating with invalid name")
         void shouldThrowExceptionWhenUpdatingWithInvalidName() {
@@ -471,6 +494,67 @@ class ProductTest {
         }
     }
 
+    @Nested
+    @DisplayName("Dirty Field Tracking")
+    class DirtyFieldTracking {
+
+        @Test
+        @DisplayName("should start with no dirty fields")
+        void shouldStartWithNoDirtyFields() {
+            // When
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+
+            // Then
+            assertThat(product.getDirtyFields()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should record only the fields a business method changed")
+        void shouldRecordOnlyChangedFields() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+
+            // When
+            product.updateInfo("Renamed Product", VALID_DESCRIPTION);
+            product.addStock(5);
+
+            // Then
+            assertThat(product.getDirtyFields())
+                .containsExactlyInAnyOrder(ProductField.NAME, ProductField.STOCK_QUANTITY);
+        }
+
+        @Test
+        @DisplayName("should not mark fields dirty when values are unchanged")
+        void shouldNotMarkUnchangedFieldsDirty() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+
+            // When
+            product.updateInfo(VALID_NAME, VALID_DESCRIPTION);
+            product.activate();
+
+            // Then
+            assertThat(product.getDirtyFields()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should clear dirty fields and take the new version once persisted")
+        void shouldClearDirtyFieldsWhenPersisted() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+            product.changePrice(Money.of(BigDecimal.valueOf(150.00), Currency.getInstance("USD")));
+            product.deactivate();
+
+            // When
+            product.markPersisted(3L);
+
+            // Then
+            assertThat(product.getDirtyFields()).isEmpty();
+            assertThat(product.getVersion()).isEqualTo(3L);
+            assertThat(product.isNew()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("jMolecules Integration")
     class JMoleculesIntegration {
@@ -505,4 +589,81 @@ class ProductTest {
             assertThat(idField.isAnnotationPresent(org.jmolecules.ddd.annotation.Identity.class)).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("Event Sourcing")
+    class EventSourcing {
+
+        @Test
+        @DisplayName("should register an event for every stock and status change")
+        void shouldRegisterStockAndStatusEvents() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+            product.clearDomainEvents();
+
+            // When
+            product.removeStock(4);
+            product.deactivate();
+
+            // Then
+            var events = product.getDomainEvents();
+            assertThat(events).hasSize(2);
+            ProductStockChangedEvent stockChanged = (ProductStockChangedEvent) events.get(0);
+            assertThat(stockChanged.getOldQuantity()).isEqualTo(10);
+            assertThat(stockChanged.getNewQuantity()).isEqualTo(6);
+            ProductStatusChangedEvent statusChanged = (ProductStatusChangedEvent) events.get(1);
+            assertThat(statusChanged.getNewStatus()).isEqualTo(ProductStatus.INACTIVE);
+        }
+
+        @Test
+        @DisplayName("should rebuild the same state from its event history")
+        void shouldRebuildStateFromHistory() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+            product.changePrice(Money.of(new BigDecimal("80.00"), Currency.getInstance("USD")));
+            product.addStock(5);
+            product.updateInfo("Renamed", null);
+            product.deactivate();
+
+            // When
+            Product rebuilt = Product.fromHistory(product.getDomainEvents());
+
+            // Then
+            assertThat(rebuilt.getId()).isEqualTo(product.getId());
+            assertThat(rebuilt.getName()).isEqualTo("Renamed");
+            assertThat(rebuilt.getDescription()).isNull();
+            assertThat(rebuilt.getPrice().getAmount()).isEqualByComparingTo("80.00");
+            assertThat(rebuilt.getStockQuantity()).isEqualTo(15);
+            assertThat(rebuilt.getStatus()).isEqualTo(ProductStatus.INACTIVE);
+            assertThat(rebuilt.getDomainEvents()).isEmpty();
+            assertThat(rebuilt.getDirtyFields()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should stamp events with the version the next save stores")
+        void shouldStampEventsWithNextVersion() {
+            // Given
+            Product product = new Product(ProductId.generate(), VALID_NAME, VALID_DESCRIPTION, VALID_PRICE,
+                VALID_STOCK, ProductStatus.ACTIVE, Instant.now(), Instant.now(), 3L);
+
+            // When
+            product.addStock(1);
+
+            // Then
+            assertThat(product.getDomainEvents().getFirst().aggregateVersion()).isEqualTo(4L);
+        }
+
+        @Test
+        @DisplayName("should reject a history that does not start with the creation event")
+        void shouldRejectHistoryWithoutCreation() {
+            // Given
+            Product product = Product.create(VALID_NAME, VALID_DESCRIPTION, VALID_PRICE, VALID_STOCK);
+            product.clearDomainEvents();
+            product.addStock(1);
+
+            // When/Then
+            assertThatThrownBy(() -> Product.fromHistory(product.getDomainEvents()))
+                .isInstanceOf(InvalidDomainStateException.class);
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.ddd.infrastructure.cache;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.repository.ProductKeyset;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProductQueryRepository decorator that keeps recently read products in a bounded in-process cache.
+ * Only lookups by ID are cached; misses are not, so a product created later is found immediately.
+ * Entries are evicted by size and TTL, and invalidated by ProductEventHandler when a product changes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingProductQueryRepository implements ProductQueryRepository {
+
+    private final ProductQueryRepository delegate;
+    private final Cache<ProductId, ProductResponse> cache;
+
+    @Override
+    public Optional<ProductResponse> findById(ProductId id) {
+        // Concurrent misses for the same ID share a single database read
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public List<ProductResponse> findActivePage(ProductKeyset after, int limit) {
+        return delegate.findActivePage(after, limit);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAt(ProductId id) {
+        // Answer from the cached copy so the version matches what findById would return
+        ProductResponse cached = cache.getIfPresent(id);
+        return cached != null ? Optional.of(cached.updatedAt()) : delegate.findUpdatedAt(id);
+    }
+
+    @Override
+    public Optional<Instant> findLastUpdatedAt() {
+        return delegate.findLastUpdatedAt();
+    }
+
+    /**
+     * Drop the cached copy of a product so the next read goes to the database.
+     */
+    public void invalidate(ProductId id) {
+        log.debug("Invalidating cached product {}", id);
+        cache.invalidate(id);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the asynchronous, per-aggregate-ordered event dispatcher.
+ *
+ * @param enabled        whether relayed events are handed to dispatcher lanes instead of being dispatched inline
+ * @param lanes          worker lanes; events of one aggregate always go to the same lane
+ * @param queueCapacity  events a lane holds before its overflow policy applies
+ * @param overflowPolicy what happens to an event whose lane is full
+ */
+@ConfigurationProperties(prefix = "app.events.dispatcher")
+public record EventDispatcherProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("8") int lanes,
+    @DefaultValue("1000") int queueCapacity,
+    @DefaultValue("SPILL") OverflowPolicy overflowPolicy
+) {
+
+    public enum OverflowPolicy {
+        /** Wait for room in the lane, holding up the relay */
+        BLOCK,
+        /** Discard the event and count it as dropped */
+        DROP,
+        /** Leave the event and everything after it pending in the outbox for the next relay poll */
+        SPILL
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.ddd.infrastructure.config;
+
+import com.example.ddd.infrastructure.messaging.DomainEventCodec;
+import com.example.ddd.infrastructure.persistence.journal.EventJournal;
+import com.example.ddd.infrastructure.persistence.journal.JournalEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration for the local event journal.
+ * Only active with app.events.journal.enabled; the journal publisher is then primary,
+ * so repositories publish to it instead of the transactional outbox.
+ */
+@Configuration
+@EnableConfigurationProperties(EventJournalProperties.class)
+@ConditionalOnProperty(prefix = "app.events.journal", name = "enabled", havingValue = "true")
+public class EventJournalConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public EventJournal eventJournal(EventJournalProperties properties, DomainEventCodec codec) {
+        return new EventJournal(properties.directory(), Math.toIntExact(properties.segmentSize().toBytes()),
+            properties.maxSegments(), properties.flushInterval(), codec);
+    }
+
+    @Bean
+    @Primary
+    public JournalEventPublisher journalEventPublisher(EventJournal eventJournal) {
+        return new JournalEventPublisher(eventJournal);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the memory-mapped local event journal.
+ *
+ * @param enabled       whether domain events are published to the journal instead of the outbox
+ * @param directory     where segment files are kept
+ * @param segmentSize   size of each mapped segment file
+ * @param maxSegments   segments kept before the oldest is deleted
+ * @param flushInterval how often appended events are forced to disk
+ */
+@ConfigurationProperties(prefix = "app.events.journal")
+public record EventJournalProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("data/event-journal") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("16") int maxSegments,
+    @DefaultValue("100ms") Duration flushInterval
+) {
+}
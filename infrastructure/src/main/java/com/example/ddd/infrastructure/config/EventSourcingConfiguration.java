@@ -0,0 +1,39 @@
+package com.example.ddd.infrastructure.config;
+
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.product.EventSourcedProductRepository;
+import com.example.ddd.infrastructure.persistence.product.ProductRepositoryImpl;
+import com.example.ddd.infrastructure.persistence.product.ProductSnapshotStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Configuration for the event-sourced product repository.
+ * Only active with app.products.event-sourcing.enabled; the event-sourced repository is then primary,
+ * so use cases get it instead of the table-backed ProductRepositoryImpl it writes its projection through.
+ */
+@Configuration
+@EnableConfigurationProperties(EventSourcingProperties.class)
+@ConditionalOnProperty(prefix = "app.products.event-sourcing", name = "enabled", havingValue = "true")
+public class EventSourcingConfiguration {
+
+    @Bean
+    public ProductSnapshotStore productSnapshotStore(NamedParameterJdbcTemplate jdbcTemplate) {
+        return new ProductSnapshotStore(jdbcTemplate);
+    }
+
+    @Bean
+    @Primary
+    public EventSourcedProductRepository eventSourcedProductRepository(
+            ProductRepositoryImpl productRepositoryImpl,
+            DomainEventStore domainEventStore,
+            ProductSnapshotStore productSnapshotStore,
+            EventSourcingProperties properties) {
+        return new EventSourcedProductRepository(productRepositoryImpl, domainEventStore,
+            productSnapshotStore, properties.snapshotEvery());
+    }
+}
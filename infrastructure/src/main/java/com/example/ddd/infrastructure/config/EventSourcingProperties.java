@@ -0,0 +1,17 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the event-sourced product repository.
+ *
+ * @param enabled       whether products are loaded from their event streams instead of the products table
+ * @param snapshotEvery events after which a product's snapshot is refreshed
+ */
+@ConfigurationProperties(prefix = "app.products.event-sourcing")
+public record EventSourcingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("50") int snapshotEvery
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for multi-location inventory.
+ * StockTotalRollup keeps each product's total stock up to date with the stock held at its locations.
+ */
+@Configuration
+@EnableConfigurationProperties(StockRollupProperties.class)
+public class InventoryConfiguration {
+}
@@ -0,0 +1,39 @@
+package com.example.ddd.infrastructure.config;
+
+import com.example.ddd.infrastructure.messaging.PartitionedEventDispatcher;
+import com.example.ddd.infrastructure.messaging.PriceChangeCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for domain event delivery through the transactional outbox.
+ * With app.events.dispatcher.enabled the relay hands events to PartitionedEventDispatcher,
+ * so slow handlers no longer hold up the relay; otherwise it dispatches them inline.
+ * With app.events.price-coalescing.enabled, bursts of price changes reach listeners as one event.
+ */
+@Configuration
+@EnableConfigurationProperties({OutboxProperties.class, EventDispatcherProperties.class, PriceCoalescingProperties.class})
+public class MessagingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.events.dispatcher", name = "enabled", havingValue = "true")
+    public PartitionedEventDispatcher partitionedEventDispatcher(
+            EventDispatcherProperties properties,
+            ApplicationEventPublisher applicationEventPublisher,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PartitionedEventDispatcher(properties, applicationEventPublisher,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.events.price-coalescing", name = "enabled", havingValue = "true")
+    public PriceChangeCoalescer priceChangeCoalescer(PriceCoalescingProperties properties) {
+        return new PriceChangeCoalescer(properties.window());
+    }
+}
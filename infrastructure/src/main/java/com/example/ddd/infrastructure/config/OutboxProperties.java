@@ -0,0 +1,26 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the event outbox relay.
+ *
+ * @param relayEnabled whether this node drains the outbox
+ * @param batchSize    rows claimed and dispatched per transaction
+ * @param pollInterval wait between polls when the outbox is drained
+ * @param maxAttempts  failed dispatches after which a row is left for inspection
+ * @param claimLease   how long a claimed batch stays with its relay; rows of a relay that died are
+ *                     claimed again after it, so keep it well above the time listeners take for a batch
+ */
+@ConfigurationProperties(prefix = "app.events.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean relayEnabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("500ms") Duration pollInterval,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("5m") Duration claimLease
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for coalescing bursts of price changes before the relay hands them to listeners.
+ *
+ * @param enabled whether consecutive price changes of a product reach listeners as one event
+ * @param window  longest span between the first and last change merged into one event
+ */
+@ConfigurationProperties(prefix = "app.events.price-coalescing")
+public record PriceCoalescingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1s") Duration window
+) {
+}
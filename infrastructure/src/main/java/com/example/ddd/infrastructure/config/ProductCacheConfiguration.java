@@ -0,0 +1,43 @@
+package com.example.ddd.infrastructure.config;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.infrastructure.cache.CachingProductQueryRepository;
+import com.example.ddd.infrastructure.persistence.product.JdbcProductQueryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration for the product read cache.
+ * The caching repository is primary, so read use cases get it instead of the JDBC repository it wraps.
+ * Hit rate, miss, load and eviction metrics are published as cache.* meters tagged cache=products.
+ * Not created when the in-memory read model serves product queries instead.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+@ConditionalOnProperty(prefix = "app.products.read-model", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class ProductCacheConfiguration {
+
+    @Bean
+    @Primary
+    public CachingProductQueryRepository cachingProductQueryRepository(
+            JdbcProductQueryRepository jdbcProductQueryRepository,
+            ProductCacheProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<ProductId, ProductResponse> cache = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "products"));
+        return new CachingProductQueryRepository(jdbcProductQueryRepository, cache);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process product cache.
+ *
+ * @param maximumSize number of products kept before the least valuable entries are evicted
+ * @param ttl        how long an entry is served after it was loaded
+ */
+@ConfigurationProperties(prefix = "app.cache.products")
+public record ProductCacheProperties(
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("10m") Duration ttl
+) {
+}
@@ -0,0 +1,39 @@
+package com.example.ddd.infrastructure.config;
+
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.product.JdbcProductQueryRepository;
+import com.example.ddd.infrastructure.readmodel.InMemoryProductReadModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Configuration for the in-memory product read model.
+ * Only active with app.products.read-model.enabled; the read model is then primary, so the get, list
+ * and version use cases read from memory. The model tails the domain_events table, so every node's copy
+ * sees the events whichever node relayed them. The product cache is not created in that case, since every
+ * product is already in memory.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductReadModelProperties.class)
+@ConditionalOnProperty(prefix = "app.products.read-model", name = "enabled", havingValue = "true")
+public class ProductReadModelConfiguration {
+
+    @Bean
+    @Primary
+    public InMemoryProductReadModel inMemoryProductReadModel(
+            JdbcProductQueryRepository jdbcProductQueryRepository,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            DomainEventStore domainEventStore,
+            ProductReadModelProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new InMemoryProductReadModel(jdbcProductQueryRepository, jdbcTemplate, domainEventStore, properties,
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory product read model.
+ *
+ * @param enabled      whether product queries are answered from memory instead of the products table
+ * @param pollInterval wait between polls of the event store once the model has caught up
+ * @param batchSize    events read from the event store per poll
+ * @param gapTimeout   how long a missing event sequence is waited for before it is taken as rolled back
+ * @param loadOverlap  stored events before the newest that a load replays, for transactions in flight during it
+ */
+@ConfigurationProperties(prefix = "app.products.read-model")
+public record ProductReadModelProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("500ms") Duration pollInterval,
+    @DefaultValue("1000") int batchSize,
+    @DefaultValue("10s") Duration gapTimeout,
+    @DefaultValue("1000") int loadOverlap
+) {
+}
@@ -0,0 +1,43 @@
+package com.example.ddd.infrastructure.config;
+
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.infrastructure.inventory.StockReservationLedger;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.inventory.StockLedgerStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for the stock reservation ledger.
+ * Only active with app.inventory.ledger.enabled; stock removals made through the adjust stock use case
+ * are then granted by the ledger, while additions still go straight to the products table.
+ */
+@Configuration
+@EnableConfigurationProperties(StockLedgerProperties.class)
+@ConditionalOnProperty(prefix = "app.inventory.ledger", name = "enabled", havingValue = "true")
+public class StockLedgerConfiguration {
+
+    @Bean
+    public StockLedgerStore stockLedgerStore(NamedParameterJdbcTemplate jdbcTemplate,
+                                             TransactionTemplate transactionTemplate,
+                                             EventPublisher eventPublisher,
+                                             DomainEventStore domainEventStore) {
+        return new StockLedgerStore(jdbcTemplate, transactionTemplate, eventPublisher, domainEventStore);
+    }
+
+    @Bean
+    public StockReservationLedger stockReservationLedger(StockLedgerStore stockLedgerStore,
+                                                         StockLedgerProperties properties,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new StockReservationLedger(stockLedgerStore, properties.ledgerId(), properties.directory(),
+            properties.capacity(), properties.stripes(), properties.allotment(), properties.flushInterval(),
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory stock reservation ledger.
+ *
+ * @param enabled       whether stock removals are granted from memory and flushed to the products table
+ * @param ledgerId      name of this node's ledger, unique per node: it keys the node's intent log, checkpoint
+ *                      and escrowed allotments, which a restart with the same name picks up again
+ * @param directory     where the intent log file is kept
+ * @param capacity      intents the log holds before writers wait for a flush
+ * @param stripes       stripes each product's escrowed units are split across
+ * @param allotment     units escrowed from a product's stock at a time when the ledger runs short
+ * @param flushInterval how often logged removals are applied to the database
+ */
+@ConfigurationProperties(prefix = "app.inventory.ledger")
+public record StockLedgerProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("default") String ledgerId,
+    @DefaultValue("data/stock-ledger") Path directory,
+    @DefaultValue("1048576") int capacity,
+    @DefaultValue("16") int stripes,
+    @DefaultValue("100") int allotment,
+    @DefaultValue("50ms") Duration flushInterval
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.ddd.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the rollup of location stock into product totals.
+ *
+ * @param enabled      whether this node moves location stock movements into product totals
+ * @param batchSize    location rows claimed per transaction
+ * @param pollInterval wait between polls when every movement has been rolled up
+ */
+@ConfigurationProperties(prefix = "app.inventory.rollup")
+public record StockRollupProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1s") Duration pollInterval
+) {
+}
@@ -1,8 +1,16 @@
 package com.example.ddd.infrastructure.config;
 
-import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.application.inventory.LedgerStockAdjustment;
+import com.example.ddd.application.inventory.RepositoryStockAdjustment;
+import com.example.ddd.application.inventory.StockAdjustmentStrategy;
+import com.example.ddd.application.inventory.StockLedger;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.application.query.StockAvailabilityQueryRepository;
 import com.example.ddd.application.usecase.*;
 import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.domain.repository.StockLocationRepository;
+import com.example.ddd.domain.service.ProductDomainService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,26 +22,85 @@ import org.springframework.context.annotation.Configuration;
 public class UseCaseConfiguration {
 
     @Bean
-    public CreateProductUseCase createProductUseCase(
-            ProductRepository productRepository,
-            EventPublisher eventPublisher) {
-        return new CreateProductUseCase(productRepository, eventPublisher);
+    public CreateProductUseCase createProductUseCase(ProductRepository productRepository) {
+        return new CreateProductUseCase(productRepository);
     }
 
     @Bean
-    public GetProductUseCase getProductUseCase(ProductRepository productRepository) {
-        return new GetProductUseCase(productRepository);
+    public GetProductUseCase getProductUseCase(ProductQueryRepository productQueryRepository) {
+        return new GetProductUseCase(productQueryRepository);
     }
 
     @Bean
-    public UpdateProductUseCase updateProductUseCase(
-            ProductRepository productRepository,
-            EventPublisher eventPublisher) {
-        return new UpdateProductUseCase(productRepository, eventPublisher);
+    public GetProductVersionUseCase getProductVersionUseCase(ProductQueryRepository productQueryRepository) {
+        return new GetProductVersionUseCase(productQueryRepository);
     }
 
     @Bean
-    public ListProductsUseCase listProductsUseCase(ProductRepository productRepository) {
-        return new ListProductsUseCase(productRepository);
+    public GetCatalogVersionUseCase getCatalogVersionUseCase(ProductQueryRepository productQueryRepository) {
+        return new GetCatalogVersionUseCase(productQueryRepository);
+    }
+
+    @Bean
+    public UpdateProductUseCase updateProductUseCase(ProductRepository productRepository) {
+        return new UpdateProductUseCase(productRepository);
+    }
+
+    @Bean
+    public AdjustStockUseCase adjustStockUseCase(ProductRepository productRepository,
+                                                 ObjectProvider<StockLedger> stockLedger) {
+        RepositoryStockAdjustment repositoryAdjustment = new RepositoryStockAdjustment(productRepository);
+        StockLedger ledger = stockLedger.getIfAvailable();
+        StockAdjustmentStrategy strategy = ledger == null
+            ? repositoryAdjustment
+            : new LedgerStockAdjustment(ledger, repositoryAdjustment);
+        return new AdjustStockUseCase(strategy);
+    }
+
+    @Bean
+    public ProductDomainService productDomainService() {
+        return new ProductDomainService();
+    }
+
+    @Bean
+    public RepriceProductsUseCase repriceProductsUseCase(ProductRepository productRepository,
+                                                         ProductDomainService productDomainService) {
+        return new RepriceProductsUseCase(productRepository, productDomainService);
+    }
+
+    @Bean
+    public SaveStockLocationUseCase saveStockLocationUseCase(StockLocationRepository stockLocationRepository) {
+        return new SaveStockLocationUseCase(stockLocationRepository);
+    }
+
+    @Bean
+    public AdjustLocationStockUseCase adjustLocationStockUseCase(StockLocationRepository stockLocationRepository) {
+        return new AdjustLocationStockUseCase(stockLocationRepository);
+    }
+
+    @Bean
+    public FindNearbyStockUseCase findNearbyStockUseCase(
+            StockAvailabilityQueryRepository stockAvailabilityQueryRepository) {
+        return new FindNearbyStockUseCase(stockAvailabilityQueryRepository);
+    }
+
+    @Bean
+    public ListProductsUseCase listProductsUseCase(ProductQueryRepository productQueryRepository) {
+        return new ListProductsUseCase(productQueryRepository);
+    }
+
+    @Bean
+    public SearchProductsUseCase searchProductsUseCase(ProductRepository productRepository) {
+        return new SearchProductsUseCase(productRepository);
+    }
+
+    @Bean
+    public BatchProductsUseCase batchProductsUseCase(ProductRepository productRepository) {
+        return new BatchProductsUseCase(productRepository);
+    }
+
+    @Bean
+    public ExportProductsUseCase exportProductsUseCase(ProductRepository productRepository) {
+        return new ExportProductsUseCase(productRepository);
     }
 }
@@ -0,0 +1,172 @@
+package com.example.ddd.infrastructure.inventory;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Memory-mapped ring of stock reservation intents, written before a reservation is acknowledged.
+ * Each intent takes a fixed 32-byte slot: product ID, quantity, and last its sequence number, written with
+ * release semantics so a reader that sees the sequence also sees the rest of the slot. Writers claim
+ * sequences from an atomic counter and never contend for a lock.
+ * <p>
+ * The data lives in the page cache as soon as it is written, so it survives a crash of the process; it is
+ * forced to disk on every flush. A slot is reused only once its intent has been applied to the database,
+ * so a writer that laps the flusher waits for it. On restart every slot whose sequence is past the applied
+ * checkpoint is an intent that still has to be applied.
+ */
+final class ReservationIntentLog implements AutoCloseable {
+
+    static final int SLOT_BYTES = 32;
+
+    private static final long MSB_OFFSET = 0;
+    private static final long LSB_OFFSET = 8;
+    private static final long QUANTITY_OFFSET = 16;
+    private static final long SEQUENCE_OFFSET = 24;
+
+    private static final VarHandle SEQUENCE = ValueLayout.JAVA_LONG.varHandle();
+
+    private final Arena arena;
+    private final MemorySegment slots;
+    private final int capacity;
+    private final AtomicLong lastClaimed;
+    private final LongSupplier appliedThrough;
+    private final Runnable backlogged;
+
+    private ReservationIntentLog(Arena arena, MemorySegment slots, int capacity, long lastSequence,
+                                 LongSupplier appliedThrough, Runnable backlogged) {
+        this.arena = arena;
+        this.slots = slots;
+        this.capacity = capacity;
+        this.lastClaimed = new AtomicLong(lastSequence);
+        this.appliedThrough = appliedThrough;
+        this.backlogged = backlogged;
+    }
+
+    /**
+     * Map the log file, creating it when missing.
+     *
+     * @param appliedThrough sequence of the last intent applied to the database
+     * @param backlogged     called while a writer waits for slots to be applied
+     */
+    static ReservationIntentLog open(Path file, int capacity, LongSupplier appliedThrough, Runnable backlogged) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Arena arena = Arena.ofShared();
+            MemorySegment slots;
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                slots = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * SLOT_BYTES, arena);
+            }
+            // Sequences continue after both the newest intent in the file and the applied checkpoint
+            long lastSequence = appliedThrough.getAsLong();
+            for (int slot = 0; slot < capacity; slot++) {
+                lastSequence = Math.max(lastSequence, (long) SEQUENCE.getAcquire(slots, (long) slot * SLOT_BYTES + SEQUENCE_OFFSET));
+            }
+            return new ReservationIntentLog(arena, slots, capacity, lastSequence, appliedThrough, backlogged);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open reservation intent log " + file, e);
+        }
+    }
+
+    /**
+     * Record an intent and return its sequence number.
+     */
+    long append(ProductId productId, int quantity) {
+        long sequence = lastClaimed.incrementAndGet();
+        while (sequence - capacity > appliedThrough.getAsLong()) {
+            backlogged.run();
+            LockSupport.parkNanos(100_000);
+        }
+        long offset = offset(sequence);
+        UUID uuid = productId.toUuid();
+        slots.set(ValueLayout.JAVA_LONG, offset + MSB_OFFSET, uuid.getMostSignificantBits());
+        slots.set(ValueLayout.JAVA_LONG, offset + LSB_OFFSET, uuid.getLeastSignificantBits());
+        slots.set(ValueLayout.JAVA_INT, offset + QUANTITY_OFFSET, quantity);
+        SEQUENCE.setRelease(slots, offset + SEQUENCE_OFFSET, sequence);
+        return sequence;
+    }
+
+    /**
+     * The intents written after {@code afterSequence} without a gap, oldest first.
+     * Stops at the first sequence whose writer has not finished yet.
+     */
+    List<Intent> readContiguous(long afterSequence) {
+        List<Intent> intents = new ArrayList<>();
+        for (long sequence = afterSequence + 1; sequence <= afterSequence + capacity; sequence++) {
+            Intent intent = read(sequence);
+            if (intent == null) {
+                break;
+            }
+            intents.add(intent);
+        }
+        return intents;
+    }
+
+    /**
+     * Every intent in the log past {@code afterSequence}, oldest first, gaps included.
+     * A gap is a sequence that was claimed but never written, so its reservation was never acknowledged.
+     */
+    List<Intent> readAll(long afterSequence) {
+        List<Intent> intents = new ArrayList<>();
+        for (int slot = 0; slot < capacity; slot++) {
+            long sequence = (long) SEQUENCE.getAcquire(slots, (long) slot * SLOT_BYTES + SEQUENCE_OFFSET);
+            if (sequence > afterSequence) {
+                intents.add(read(sequence));
+            }
+        }
+        intents.sort(Comparator.comparingLong(Intent::sequence));
+        return intents;
+    }
+
+    long lastSequence() {
+        return lastClaimed.get();
+    }
+
+    void force() {
+        slots.force();
+    }
+
+    @Override
+    public void close() {
+        force();
+        arena.close();
+    }
+
+    private Intent read(long sequence) {
+        long offset = offset(sequence);
+        if ((long) SEQUENCE.getAcquire(slots, offset + SEQUENCE_OFFSET) != sequence) {
+            return null;
+        }
+        UUID uuid = new UUID(
+            slots.get(ValueLayout.JAVA_LONG, offset + MSB_OFFSET),
+            slots.get(ValueLayout.JAVA_LONG, offset + LSB_OFFSET));
+        return new Intent(sequence, ProductId.of(uuid), slots.get(ValueLayout.JAVA_INT, offset + QUANTITY_OFFSET));
+    }
+
+    private long offset(long sequence) {
+        return ((sequence - 1) % capacity) * SLOT_BYTES;
+    }
+
+    /**
+     * A reservation of {@code quantity} units of a product.
+     */
+    record Intent(long sequence, ProductId productId, int quantity) {
+    }
+}
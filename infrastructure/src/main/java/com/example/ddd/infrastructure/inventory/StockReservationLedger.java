@@ -0,0 +1,259 @@
+package com.example.ddd.infrastructure.inventory;
+
+import com.example.ddd.application.inventory.StockLedger;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.infrastructure.inventory.ReservationIntentLog.Intent;
+import com.example.ddd.infrastructure.persistence.inventory.StockLedgerStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory stock ledger that grants removals without touching the database on most requests.
+ * The ledger only grants units it has escrowed from the products table: when the units it holds for a product
+ * cannot cover a request, it moves up to {@code allotment} more out of the product's stock into its own
+ * allotment row, in one transaction under the product's row lock. Ledgers on several nodes, each with its own
+ * {@code ledgerId}, therefore share one product's stock without ever granting the same unit twice, and a
+ * removal neither the held units nor the product's remaining stock can cover is denied.
+ * <p>
+ * Held units live in a StripedStock, where removals are granted or denied with compare-and-set; a granted
+ * removal is recorded in the ReservationIntentLog before it is acknowledged. A virtual-thread flusher takes
+ * the intents logged since the last flush out of the allotment rows every flush interval, and returns the
+ * units of products that saw no removal since the flush before to their stock, so idle escrow does not starve
+ * other nodes.
+ * <p>
+ * Nothing is sold twice across a crash: an acknowledged removal is in the intent log, and on start every
+ * intent past the checkpoint stored with the last flush is applied before any request is served. The units
+ * still escrowed after that are returned to their products, as they are on stop. While units are escrowed,
+ * the products table shows the product's stock without them.
+ */
+@Slf4j
+public class StockReservationLedger implements StockLedger, SmartLifecycle {
+
+    private final StockLedgerStore store;
+    private final String ledgerId;
+    private final Path logFile;
+    private final int capacity;
+    private final int stripes;
+    private final int allotment;
+    private final Duration flushInterval;
+    private final Map<ProductId, StripedStock> products = new ConcurrentHashMap<>();
+    private final Semaphore flushRequests = new Semaphore(0);
+    private final Counter granted;
+    private final Counter denied;
+    private final Counter escrowed;
+    private final Timer flushes;
+
+    private volatile long appliedSequence;
+    private volatile ReservationIntentLog intents;
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public StockReservationLedger(StockLedgerStore store, String ledgerId, Path directory, int capacity,
+                                  int stripes, int allotment, Duration flushInterval, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.ledgerId = ledgerId;
+        this.logFile = directory.resolve(ledgerId + ".intents");
+        this.capacity = capacity;
+        this.stripes = stripes;
+        this.allotment = allotment;
+        this.flushInterval = flushInterval;
+        this.granted = Counter.builder("inventory.ledger.granted")
+            .description("Stock removals granted by the ledger").register(meterRegistry);
+        this.denied = Counter.builder("inventory.ledger.denied")
+            .description("Stock removals denied for insufficient stock").register(meterRegistry);
+        this.escrowed = Counter.builder("inventory.ledger.escrowed")
+            .description("Units the ledger moved out of product stock to grant from").register(meterRegistry);
+        this.flushes = Timer.builder("inventory.ledger.flush")
+            .description("Time to apply logged removals to the database").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        appliedSequence = store.appliedSequence(ledgerId);
+        intents = ReservationIntentLog.open(logFile, capacity, () -> appliedSequence, this::requestFlush);
+        List<Intent> unapplied = intents.readAll(appliedSequence);
+        if (!unapplied.isEmpty()) {
+            log.info("Applying {} stock reservation intents left from the previous run", unapplied.size());
+            apply(unapplied, Map.of());
+        }
+        Map<ProductId, Long> leftover = store.allotments(ledgerId);
+        if (!leftover.isEmpty()) {
+            log.info("Returning units of {} products escrowed by the previous run", leftover.size());
+            store.apply(ledgerId, Map.of(), leftover, appliedSequence);
+        }
+        running = true;
+        flusher = Thread.ofVirtual().name("stock-ledger-flusher").start(this::run);
+        log.info("Stock ledger {} started ({} stripes, flush every {})", ledgerId, stripes, flushInterval);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = flusher;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(flushInterval.multipliedBy(20));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        Map<ProductId, Long> held = new HashMap<>();
+        products.forEach((id, stock) -> {
+            long units = stock.drain();
+            if (units > 0) {
+                held.put(id, units);
+            }
+        });
+        if (!held.isEmpty()) {
+            store.apply(ledgerId, Map.of(), held, appliedSequence);
+        }
+        intents.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Started before and stopped after the web server, so requests never reach a stopped ledger
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public Removal removeStock(ProductId productId, int quantity) {
+        if (quantity <= 0) {
+            throw new InvalidDomainStateException("Quantity to remove must be positive");
+        }
+        if (!running) {
+            throw new IllegalStateException("Stock ledger " + ledgerId + " is not running");
+        }
+        StripedStock stock = products.computeIfAbsent(productId, id -> new StripedStock(stripes));
+        long left = stock.tryTake(quantity);
+        if (left < 0) {
+            left = escrowAndTake(productId, stock, quantity);
+        }
+        intents.append(productId, quantity);
+        granted.increment();
+        return new Removal(left + quantity, left);
+    }
+
+    /**
+     * Units of a product the ledger holds and can still grant without escrowing more, 0 when it holds none.
+     */
+    public long available(ProductId productId) {
+        StripedStock stock = products.get(productId);
+        return stock == null ? 0 : stock.available();
+    }
+
+    /**
+     * Ask the flusher to run now rather than at the end of its current wait.
+     */
+    public void requestFlush() {
+        if (flushRequests.availablePermits() == 0) {
+            flushRequests.release();
+        }
+    }
+
+    private long escrowAndTake(ProductId productId, StripedStock stock, int quantity) {
+        // One escrow per product at a time; requests that queue behind it usually find the new units
+        synchronized (stock) {
+            long left = stock.tryTake(quantity);
+            if (left >= 0) {
+                return left;
+            }
+            long units;
+            try {
+                units = store.escrow(ledgerId, productId, Math.max(quantity - stock.available(), allotment));
+            } catch (EntityNotFoundException e) {
+                products.remove(productId, stock);
+                throw e;
+            }
+            if (units > 0) {
+                escrowed.increment(units);
+                stock.add(units);
+                left = stock.tryTake(quantity);
+                if (left >= 0) {
+                    return left;
+                }
+            }
+        }
+        denied.increment();
+        throw InvalidDomainStateException.insufficientStock((int) stock.available(), quantity);
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                flushRequests.tryAcquire(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                flushRequests.drainPermits();
+            } catch (InterruptedException e) {
+                // stop() flushes once more after the flusher has exited
+                break;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Stock ledger flush failed; retrying after {}", flushInterval, e);
+            }
+        }
+    }
+
+    /**
+     * Apply every intent logged since the last flush, and return the units of products idle since the one before.
+     */
+    synchronized void flush() {
+        List<Intent> pending = intents.readContiguous(appliedSequence);
+        Map<ProductId, Long> idle = new HashMap<>();
+        products.forEach((id, stock) -> {
+            if (stock.idleSinceLastCheck()) {
+                long units = stock.drain();
+                if (units > 0) {
+                    idle.put(id, units);
+                }
+            }
+        });
+        if (pending.isEmpty() && idle.isEmpty()) {
+            return;
+        }
+        try {
+            flushes.record(() -> apply(pending, idle));
+        } catch (RuntimeException e) {
+            // Still escrowed, so the units can be granted again
+            idle.forEach((id, units) -> products.get(id).add(units));
+            throw e;
+        }
+    }
+
+    private void apply(List<Intent> pending, Map<ProductId, Long> releases) {
+        Map<ProductId, Long> removals = new HashMap<>();
+        for (Intent intent : pending) {
+            removals.merge(intent.productId(), (long) intent.quantity(), Long::sum);
+        }
+        long through = pending.isEmpty() ? appliedSequence : pending.getLast().sequence();
+        intents.force();
+        store.apply(ledgerId, removals, releases, through);
+        appliedSequence = through;
+        if (!pending.isEmpty() || !releases.isEmpty()) {
+            log.debug("Stock ledger applied {} removals across {} products and returned units of {} products",
+                pending.size(), removals.size(), releases.size());
+        }
+    }
+}
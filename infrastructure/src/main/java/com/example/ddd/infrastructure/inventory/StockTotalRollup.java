@@ -0,0 +1,277 @@
+package com.example.ddd.infrastructure.inventory;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.infrastructure.config.StockRollupProperties;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job that keeps products.stock_quantity equal to the product's total stock.
+ * Location stock movements only write their own product_location_stock row and add the units moved to its
+ * unrolled count. A virtual thread claims rows with units still unrolled, with {@code FOR UPDATE SKIP LOCKED}
+ * so several nodes can run it, adds the net units per product to the products row, publishes one
+ * stock-changed event per product, appends it to the event store, and subtracts what it moved from each
+ * claimed row, all in one transaction.
+ * Warehouses therefore never wait on each other; only the rollup touches the products row, once per batch.
+ * <p>
+ * A product with location stock takes no other stock changes, so its total is the sum of its location rows
+ * and never goes below zero. The addition is still guarded: a total it would take below zero is recounted
+ * from the location rows instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockTotalRollup implements SmartLifecycle {
+
+    // Products read per IN list when reading totals back
+    private static final int LEVELS_CHUNK = 1000;
+
+    private static final String CLAIM_SQL = """
+        SELECT product_id, location_code, unrolled FROM product_location_stock
+        WHERE unrolled <> 0
+        ORDER BY product_id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String ADD_TO_TOTAL_SQL = """
+        UPDATE products SET stock_quantity = stock_quantity + :delta, updated_at = :updatedAt, version = version + 1
+        WHERE id = :id AND stock_quantity + :delta >= 0
+        """;
+
+    private static final String RECOUNT_SQL = """
+        UPDATE products SET stock_quantity =
+            (SELECT COALESCE(SUM(quantity), 0) FROM product_location_stock WHERE product_id = :id),
+            updated_at = :updatedAt, version = version + 1
+        WHERE id = :id
+        """;
+
+    private static final String LEVELS_SQL = "SELECT id, stock_quantity, version FROM products WHERE id IN (:ids)";
+
+    private static final String MARK_ROLLED_UP_SQL = """
+        UPDATE product_location_stock SET unrolled = unrolled - :rolledUp
+        WHERE product_id = :productId AND location_code = :locationCode
+        """;
+
+    private static final RowMapper<Movement> MOVEMENT_MAPPER = (rs, rowNum) -> new Movement(
+        rs.getObject("product_id", UUID.class),
+        rs.getString("location_code"),
+        rs.getInt("unrolled")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPublisher eventPublisher;
+    private final DomainEventStore eventStore;
+    private final StockRollupProperties properties;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Stock rollup disabled on this node");
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("stock-rollup").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(properties.pollInterval().multipliedBy(4));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Ask the rollup to poll now rather than at the end of its current wait.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    private void run() {
+        log.info("Stock rollup started (batch size {})", properties.batchSize());
+        while (running) {
+            int claimed;
+            try {
+                claimed = rollUpBatch();
+            } catch (RuntimeException e) {
+                log.error("Stock rollup batch failed; retrying after {}", properties.pollInterval(), e);
+                claimed = 0;
+            }
+            // A full batch means more rows are likely waiting
+            if (claimed < properties.batchSize() && !awaitWork()) {
+                break;
+            }
+        }
+        log.info("Stock rollup stopped");
+    }
+
+    private boolean awaitWork() {
+        try {
+            wakeUps.tryAcquire(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+            wakeUps.drainPermits();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Move one batch of location stock movements into product totals.
+     * Returns the number of location rows claimed.
+     */
+    public int rollUpBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<Movement> movements = jdbcTemplate.query(CLAIM_SQL,
+                new MapSqlParameterSource("limit", properties.batchSize()), MOVEMENT_MAPPER);
+            if (movements.isEmpty()) {
+                return 0;
+            }
+
+            Map<UUID, Integer> deltas = new LinkedHashMap<>();
+            for (Movement movement : movements) {
+                deltas.merge(movement.productId(), movement.unrolled(), Integer::sum);
+            }
+            deltas.values().removeIf(delta -> delta == 0);
+
+            Timestamp now = Timestamp.from(Instant.now());
+            if (!deltas.isEmpty()) {
+                List<UUID> ids = new ArrayList<>(deltas.keySet());
+                int[] counts = jdbcTemplate.batchUpdate(ADD_TO_TOTAL_SQL, ids.stream()
+                    .map(id -> new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("delta", deltas.get(id))
+                        .addValue("updatedAt", now))
+                    .toArray(SqlParameterSource[]::new));
+                List<UUID> belowZero = new ArrayList<>();
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] == 0) {
+                        belowZero.add(ids.get(i));
+                        deltas.remove(ids.get(i));
+                    }
+                }
+                publishTotals(deltas);
+                if (!belowZero.isEmpty()) {
+                    recount(belowZero, now);
+                }
+            }
+
+            // Subtract what was read rather than zeroing, so nothing moved since the claim is lost
+            jdbcTemplate.batchUpdate(MARK_ROLLED_UP_SQL, movements.stream()
+                .map(movement -> new MapSqlParameterSource()
+                    .addValue("productId", movement.productId())
+                    .addValue("locationCode", movement.locationCode())
+                    .addValue("rolledUp", movement.unrolled()))
+                .toArray(SqlParameterSource[]::new));
+            log.debug("Rolled up {} location stock movements into {} product totals", movements.size(), deltas.size());
+            return movements.size();
+        });
+        return claimed == null ? 0 : claimed;
+    }
+
+    /**
+     * Set each product's total to the sum of its location rows. Only reached when adding the net movements
+     * would have taken a total below zero, which the location rows, none of them ever below zero, rule out
+     * unless the total was changed by something other than the rollup.
+     */
+    private void recount(List<UUID> ids, Timestamp now) {
+        Map<UUID, Total> before = totals(ids);
+        jdbcTemplate.batchUpdate(RECOUNT_SQL, ids.stream()
+            .map(id -> new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("updatedAt", now))
+            .toArray(SqlParameterSource[]::new));
+        Map<UUID, Total> after = totals(ids);
+
+        List<DomainEvent<?>> events = new ArrayList<>(after.size());
+        after.forEach((id, total) -> {
+            int oldQuantity = before.get(id).quantity();
+            log.warn("Total stock of product {} would have gone below zero from {}; recounted {} from its locations",
+                id, oldQuantity, total.quantity());
+            events.add(new ProductStockChangedEvent(ProductId.of(id), oldQuantity, total.quantity(), total.version()));
+        });
+        if (!events.isEmpty()) {
+            eventPublisher.publish(events);
+            eventStore.append(events);
+        }
+    }
+
+    private void publishTotals(Map<UUID, Integer> deltas) {
+        Map<UUID, Total> totals = totals(deltas.keySet());
+
+        List<DomainEvent<?>> events = new ArrayList<>(totals.size());
+        deltas.forEach((id, delta) -> {
+            Total total = totals.get(id);
+            if (total != null) {
+                events.add(new ProductStockChangedEvent(
+                    ProductId.of(id), total.quantity() - delta, total.quantity(), total.version()));
+            }
+        });
+        if (!events.isEmpty()) {
+            eventPublisher.publish(events);
+            eventStore.append(events);
+        }
+    }
+
+    private Map<UUID, Total> totals(Collection<UUID> products) {
+        Map<UUID, Total> totals = new HashMap<>();
+        RowCallbackHandler handler = rs -> totals.put(rs.getObject("id", UUID.class),
+            new Total(rs.getInt("stock_quantity"), rs.getLong("version")));
+        List<UUID> ids = new ArrayList<>(products);
+        for (int from = 0; from < ids.size(); from += LEVELS_CHUNK) {
+            jdbcTemplate.query(LEVELS_SQL, new MapSqlParameterSource("ids",
+                ids.subList(from, Math.min(from + LEVELS_CHUNK, ids.size()))), handler);
+        }
+        return totals;
+    }
+
+    private record Movement(UUID productId, String locationCode, int unrolled) {
+    }
+
+    private record Total(int quantity, long version) {
+    }
+}
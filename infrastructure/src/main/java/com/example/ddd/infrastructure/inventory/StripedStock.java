@@ -0,0 +1,116 @@
+package com.example.ddd.infrastructure.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Units of one product a ledger holds in escrow, split across independently updated stripes.
+ * A removal compare-and-sets a single stripe that can cover it, starting from a random one, so threads
+ * hammering the same product mostly touch different cache lines. Only when no single stripe can cover a
+ * request are all stripes drained into one total under a lock; the request is granted from that total,
+ * and the remainder spread back over the stripes. A stripe never goes below zero, so neither does the total.
+ * <p>
+ * Every change is also counted in {@code held}, so each grant reports the units its own removal left rather
+ * than a sum read while other removals were in flight. Units are counted there before they reach the stripes
+ * and removed from it after they leave them, so it never falls below zero.
+ */
+final class StripedStock {
+
+    // Longs per stripe: one stripe per 64-byte cache line
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    private final AtomicLong held = new AtomicLong();
+
+    // Set by grants and cleared by the flusher, which returns the units of products left idle in between
+    private volatile boolean active;
+
+    StripedStock(int stripes) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+    }
+
+    /**
+     * Take {@code quantity} units if they are held. Returns the units left after this removal, or -1 when
+     * too few are held.
+     */
+    long tryTake(int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int cell = ((start + i) % stripes) * PADDING;
+            long current = cells.get(cell);
+            while (current >= quantity) {
+                long witness = cells.compareAndExchange(cell, current, current - quantity);
+                if (witness == current) {
+                    return taken(quantity);
+                }
+                current = witness;
+            }
+        }
+        return takeFromTotal(quantity) ? taken(quantity) : -1;
+    }
+
+    private synchronized boolean takeFromTotal(int quantity) {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.getAndSet(i * PADDING, 0);
+        }
+        if (total < quantity) {
+            spread(total);
+            return false;
+        }
+        spread(total - quantity);
+        return true;
+    }
+
+    private long taken(int quantity) {
+        if (!active) {
+            active = true;
+        }
+        return held.addAndGet(-quantity);
+    }
+
+    /**
+     * Take every unit held. Returns the units taken.
+     */
+    synchronized long drain() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.getAndSet(i * PADDING, 0);
+        }
+        held.addAndGet(-total);
+        return total;
+    }
+
+    void add(long quantity) {
+        held.addAndGet(quantity);
+        cells.getAndAdd(ThreadLocalRandom.current().nextInt(stripes) * PADDING, quantity);
+    }
+
+    long available() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    /**
+     * Whether no removal has been granted since the last call.
+     */
+    boolean idleSinceLastCheck() {
+        boolean idle = !active;
+        active = false;
+        return idle;
+    }
+
+    private void spread(long quantity) {
+        long share = quantity / stripes;
+        long remainder = quantity % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.getAndAdd(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+}
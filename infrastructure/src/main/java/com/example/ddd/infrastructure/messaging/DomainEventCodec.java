@@ -0,0 +1,55 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Converts domain events to and from the payload stored with them.
+ * The event ID, type and time are stored in their own columns; the payload carries the rest.
+ * The outbox stores the textual payload; the event store keeps the binary form, which defaults
+ * to the UTF-8 bytes of the text and can be overridden by a more compact codec.
+ */
+public interface DomainEventCodec {
+
+    /**
+     * Textual form of the event's aggregate ID, as stored in the aggregate_id column.
+     */
+    String aggregateId(DomainEvent<?> event);
+
+    /**
+     * Serialize the event's aggregate ID, aggregate version and metadata.
+     */
+    String encode(DomainEvent<?> event);
+
+    /**
+     * Rebuild an event from its stored columns and payload.
+     */
+    DomainEvent<?> decode(UUID eventId, String eventType, Instant occurredOn, String payload);
+
+    /**
+     * The event's aggregate ID as stored in the event store's typed aggregate_id column.
+     */
+    default UUID aggregateKey(DomainEvent<?> event) {
+        return event.aggregateId() instanceof ProductId productId
+            ? productId.toUuid()
+            : UUID.fromString(aggregateId(event));
+    }
+
+    /**
+     * Binary form of {@link #encode(DomainEvent)}, as stored in the event store.
+     */
+    default byte[] encodeBinary(DomainEvent<?> event) {
+        return encode(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Rebuild an event from its stored columns and binary payload.
+     */
+    default DomainEvent<?> decodeBinary(UUID eventId, String eventType, Instant occurredOn, byte[] payload) {
+        return decode(eventId, eventType, occurredOn, new String(payload, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductInfoUpdatedEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStatusChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.model.CurrencyTable;
+import com.example.ddd.domain.model.Money;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * DomainEventCodec that stores the payload as JSON.
+ * Each event type is rebuilt from its metadata by a decoder registered here;
+ * adding an event type means adding its decoder.
+ */
+@Component
+public class JsonDomainEventCodec implements DomainEventCodec {
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Function<StoredEvent, DomainEvent<?>>> decoders;
+
+    public JsonDomainEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.decoders = Map.of(
+            "ProductCreatedEvent", event -> new ProductCreatedEvent(
+                event.eventId(), event.occurredOn(), event.aggregateVersion(), event.productId(),
+                event.text("productName"), event.text("description"), event.money("price"),
+                event.number("initialStock")),
+            "ProductPriceChangedEvent", event -> new ProductPriceChangedEvent(
+                event.eventId(), event.occurredOn(), event.aggregateVersion(), event.productId(),
+                event.money("oldPrice"), event.money("newPrice")),
+            "ProductInfoUpdatedEvent", event -> new ProductInfoUpdatedEvent(
+                event.eventId(), event.occurredOn(), event.aggregateVersion(), event.productId(),
+                event.text("productName"), event.text("description")),
+            "ProductStockChangedEvent", event -> new ProductStockChangedEvent(
+                event.eventId(), event.occurredOn(), event.aggregateVersion(), event.productId(),
+                event.number("oldQuantity"), event.number("newQuantity")),
+            "ProductStatusChangedEvent", event -> new ProductStatusChangedEvent(
+                event.eventId(), event.occurredOn(), event.aggregateVersion(), event.productId(),
+                ProductStatus.valueOf(event.text("oldStatus")), ProductStatus.valueOf(event.text("newStatus")))
+        );
+    }
+
+    @Override
+    public String aggregateId(DomainEvent<?> event) {
+        return event.aggregateId() instanceof ProductId productId
+            ? productId.value()
+            : String.valueOf(event.aggregateId());
+    }
+
+    @Override
+    public String encode(DomainEvent<?> event) {
+        Payload payload = new Payload(aggregateId(event), event.aggregateVersion(), event.metadata());
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode " + event.eventType() + " " + event.eventId(), e);
+        }
+    }
+
+    @Override
+    public DomainEvent<?> decode(UUID eventId, String eventType, Instant occurredOn, String payload) {
+        Function<StoredEvent, DomainEvent<?>> decoder = decoders.get(eventType);
+        if (decoder == null) {
+            throw new IllegalStateException("No decoder registered for event type " + eventType);
+        }
+        try {
+            return decoder.apply(new StoredEvent(eventId, occurredOn, objectMapper.readValue(payload, Payload.class)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot decode " + eventType + " " + eventId, e);
+        }
+    }
+
+    private record Payload(String aggregateId, Long aggregateVersion, Map<String, Object> metadata) {
+    }
+
+    private record StoredEvent(UUID eventId, Instant occurredOn, Payload payload) {
+
+        Long aggregateVersion() {
+            return payload.aggregateVersion();
+        }
+
+        ProductId productId() {
+            return ProductId.of(payload.aggregateId());
+        }
+
+        String text(String key) {
+            Object value = payload.metadata().get(key);
+            return value == null ? null : value.toString();
+        }
+
+        // Absent in events written before the key existed
+        int number(String key) {
+            Object value = payload.metadata().get(key);
+            return value instanceof Number number ? number.intValue() : 0;
+        }
+
+        // Money is stored as <prefix>Amount and <prefix>Currency metadata entries
+        Money money(String prefix) {
+            return Money.of(new BigDecimal(text(prefix + "Amount")), CurrencyTable.forCode(text(prefix + "Currency")));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Implementation of EventPublisher that writes events to the transactional outbox.
+ * Rows are inserted as one JDBC batch in the caller's transaction, so they commit or roll back
+ * together with the aggregate change. Listeners are notified later by OutboxRelay.
+ * Publishing outside a transaction is an error.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxEventPublisher implements EventPublisher {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO event_outbox (event_id, event_type, aggregate_id, occurred_on, payload)
+        VALUES (:eventId, :eventType, :aggregateId, :occurredOn, :payload)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DomainEventCodec codec;
+    private final OutboxRelay relay;
+
+    @Override
+    public void publish(DomainEvent<?> event) {
+        publish(List.of(event));
+    }
+
+    @Override
+    public void publish(List<DomainEvent<?>> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = events.stream()
+            .map(this::parameters)
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        log.debug("Wrote {} domain events to the outbox", events.size());
+
+        // Wake the relay once the rows are visible instead of waiting for its next poll
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+
+    private SqlParameterSource parameters(DomainEvent<?> event) {
+        return new MapSqlParameterSource()
+            .addValue("eventId", event.eventId())
+            .addValue("eventType", event.eventType())
+            .addValue("aggregateId", codec.aggregateId(event))
+            .addValue("occurredOn", Timestamp.from(event.occurredOn()))
+            .addValue("payload", codec.encode(event));
+    }
+}
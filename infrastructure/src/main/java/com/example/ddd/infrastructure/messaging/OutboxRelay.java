@@ -0,0 +1,357 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.infrastructure.config.OutboxProperties;
+import com.example.ddd.infrastructure.messaging.PartitionedEventDispatcher.Outcome;
+import com.example.ddd.infrastructure.messaging.PriceChangeCoalescer.Coalesced;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background relay that drains the event outbox.
+ * A virtual thread claims pending rows in batches with {@code FOR UPDATE SKIP LOCKED} and stamps them with
+ * a lease, its relay ID and a deadline, in a short transaction that commits before any event is dispatched.
+ * Any number of nodes can drain the outbox in parallel without handing out the same row twice, and no row
+ * lock or connection is held while listeners run. The dispatched rows are then copied to the event store and
+ * marked processed in one transaction; rows left undispatched are handed back. A crash in between leaves
+ * the rows leased until the lease runs out, after which any relay claims them again, so delivery is at
+ * least once.
+ * Each event reaches Spring listeners in a transaction of its own, so a failing transactional listener
+ * rolls back only its own work, never the batch. A listener failure stops the batch at that event and
+ * counts an attempt against its row as the row is handed back.
+ * A failed coalesced event counts the attempt against every row it stands for, so the oldest of them,
+ * which the next claim starts from, also reaches the attempt limit.
+ * When a PartitionedEventDispatcher is configured, events are handed to its lanes instead of being
+ * dispatched inline, and the relay waits for the lanes before marking rows processed, so delivery stays
+ * at least once; an event its full lane refuses stays pending, with every later row, until the next poll.
+ * When a PriceChangeCoalescer is configured, bursts of price changes within a batch reach listeners as one
+ * event, while the event store still receives each of them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String CLAIM_SQL = """
+        SELECT id, event_id, event_type, occurred_on, payload FROM event_outbox
+        WHERE processed_at IS NULL AND attempts < :maxAttempts
+            AND (claimed_until IS NULL OR claimed_until < :now)
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String LEASE_SQL =
+        "UPDATE event_outbox SET claimed_by = :relayId, claimed_until = :claimedUntil WHERE id IN (:ids)";
+
+    private static final String MARK_PROCESSED_SQL = """
+        UPDATE event_outbox SET processed_at = :processedAt, claimed_by = NULL, claimed_until = NULL
+        WHERE id IN (:ids)
+        """;
+
+    // Both only touch rows still leased to this relay, so a relay whose lease ran out changes nothing
+    private static final String RELEASE_SQL = """
+        UPDATE event_outbox SET claimed_by = NULL, claimed_until = NULL
+        WHERE id IN (:ids) AND claimed_by = :relayId
+        """;
+
+    private static final String RECORD_FAILURE_SQL = """
+        UPDATE event_outbox SET attempts = attempts + 1, claimed_by = NULL, claimed_until = NULL
+        WHERE id IN (:ids) AND claimed_by = :relayId
+        """;
+
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+        rs.getLong("id"),
+        rs.getObject("event_id", UUID.class),
+        rs.getString("event_type"),
+        rs.getTimestamp("occurred_on").toInstant(),
+        rs.getString("payload")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventCodec codec;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final DomainEventStore eventStore;
+    private final OutboxProperties properties;
+    private final ObjectProvider<PartitionedEventDispatcher> dispatcher;
+    private final ObjectProvider<PriceChangeCoalescer> coalescer;
+
+    private final String relayId = UUID.randomUUID().toString();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    @Override
+    public void start() {
+        if (!properties.relayEnabled()) {
+            log.info("Outbox relay disabled on this node");
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("outbox-relay").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(properties.pollInterval().multipliedBy(4));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Ask the relay to poll now rather than at the end of its current wait.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    private void run() {
+        log.info("Outbox relay started (batch size {})", properties.batchSize());
+        while (running) {
+            int claimed;
+            try {
+                claimed = relayBatch();
+            } catch (RuntimeException e) {
+                log.error("Outbox relay batch failed; retrying after {}", properties.pollInterval(), e);
+                claimed = 0;
+            }
+            // A full batch means more rows are likely waiting
+            if (claimed < properties.batchSize() && !awaitWork()) {
+                break;
+            }
+        }
+        log.info("Outbox relay stopped");
+    }
+
+    private boolean awaitWork() {
+        try {
+            wakeUps.tryAcquire(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+            wakeUps.drainPermits();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Claim, dispatch and mark one batch.
+     * Returns the number of rows claimed, or 0 after a failed or refused dispatch so the relay backs off.
+     */
+    int relayBatch() {
+        List<OutboxRow> rows = transactionTemplate.execute(status -> claim());
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        TransactionTemplate ownTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        ownTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        List<DecodedRow> dispatched = new ArrayList<>(rows.size());
+        List<Long> failedIds = new ArrayList<>(1);
+        boolean processed = false;
+        try {
+            boolean complete = dispatch(rows, ownTransaction, dispatched, failedIds);
+            if (!dispatched.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> markProcessed(dispatched));
+            }
+            processed = true;
+            return complete ? rows.size() : 0;
+        } finally {
+            // Handed back whatever happened, so the next claim does not wait for the lease to run out
+            Set<Long> settled = new HashSet<>(failedIds);
+            if (processed) {
+                dispatched.forEach(row -> settled.add(row.id()));
+            }
+            List<Long> unprocessedIds = rows.stream().map(OutboxRow::id).filter(id -> !settled.contains(id)).toList();
+            transactionTemplate.executeWithoutResult(status -> handBack(unprocessedIds, failedIds));
+        }
+    }
+
+    private List<OutboxRow> claim() {
+        Instant now = Instant.now();
+        List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SQL, new MapSqlParameterSource()
+            .addValue("maxAttempts", properties.maxAttempts())
+            .addValue("now", Timestamp.from(now))
+            .addValue("limit", properties.batchSize()), ROW_MAPPER);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.update(LEASE_SQL, new MapSqlParameterSource()
+                .addValue("ids", rows.stream().map(OutboxRow::id).toList())
+                .addValue("relayId", relayId)
+                .addValue("claimedUntil", Timestamp.from(now.plus(properties.claimLease()))));
+        }
+        return rows;
+    }
+
+    /**
+     * Decode the claimed rows and deliver them to listeners or lanes, outside any transaction.
+     * Returns whether every row was dispatched.
+     */
+    private boolean dispatch(List<OutboxRow> rows, TransactionTemplate ownTransaction, List<DecodedRow> dispatched,
+                             List<Long> failedIds) {
+        List<DecodedRow> decoded = new ArrayList<>(rows.size());
+        boolean failed = false;
+        for (OutboxRow row : rows) {
+            try {
+                decoded.add(new DecodedRow(row.id(),
+                    codec.decode(row.eventId(), row.eventType(), row.occurredOn(), row.payload())));
+            } catch (RuntimeException e) {
+                // Later rows stay pending so events are not delivered out of order
+                log.error("Decoding of outbox event {} ({}) failed", row.eventId(), row.eventType(), e);
+                failedIds.add(row.id());
+                failed = true;
+                break;
+            }
+        }
+
+        PartitionedEventDispatcher lanes = dispatcher.getIfAvailable();
+        boolean complete = lanes == null
+            ? dispatchInline(coalesce(decoded), ownTransaction, dispatched, failedIds)
+            : dispatchToLanes(lanes.batch(), coalesce(decoded), dispatched, failedIds);
+        return complete && !failed;
+    }
+
+    private void markProcessed(List<DecodedRow> dispatched) {
+        // The store keeps every raw event in outbox order, coalesced or not
+        dispatched.sort(Comparator.comparingLong(DecodedRow::id));
+        eventStore.appendMissing(dispatched.stream().<DomainEvent<?>>map(DecodedRow::event).toList());
+        jdbcTemplate.update(MARK_PROCESSED_SQL, new MapSqlParameterSource()
+            .addValue("ids", dispatched.stream().map(DecodedRow::id).toList())
+            .addValue("processedAt", Timestamp.from(Instant.now())));
+        log.debug("Relayed {} outbox events", dispatched.size());
+    }
+
+    private void handBack(List<Long> unprocessedIds, List<Long> failedIds) {
+        if (!failedIds.isEmpty()) {
+            jdbcTemplate.update(RECORD_FAILURE_SQL, new MapSqlParameterSource()
+                .addValue("ids", failedIds)
+                .addValue("relayId", relayId));
+        }
+        if (!unprocessedIds.isEmpty()) {
+            jdbcTemplate.update(RELEASE_SQL, new MapSqlParameterSource()
+                .addValue("ids", unprocessedIds)
+                .addValue("relayId", relayId));
+        }
+    }
+
+    /**
+     * Publish the deliveries in order, each in a transaction of its own, and stop at the first failure.
+     * Returns whether every delivery succeeded.
+     */
+    private boolean dispatchInline(List<Coalesced<DecodedRow>> deliveries, TransactionTemplate ownTransaction,
+                                   List<DecodedRow> dispatched, List<Long> failedIds) {
+        for (Coalesced<DecodedRow> delivery : deliveries) {
+            DomainEvent<?> event = delivery.event();
+            try {
+                ownTransaction.executeWithoutResult(status -> applicationEventPublisher.publishEvent(event));
+                dispatched.addAll(delivery.sources());
+            } catch (RuntimeException e) {
+                log.error("Dispatch of outbox event {} ({}) failed", event.eventId(), event.eventType(), e);
+                failedIds.addAll(sourceIds(delivery));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hand the deliveries to the dispatcher lanes and wait until the lanes are done with them.
+     * Only deliveries whose listeners ran (or that the DROP policy discarded) count as dispatched;
+     * a failed one has an attempt counted, and skipped or unfinished ones stay pending.
+     * Returns whether every delivery was dispatched.
+     */
+    private boolean dispatchToLanes(PartitionedEventDispatcher.Batch batch, List<Coalesced<DecodedRow>> deliveries,
+                                    List<DecodedRow> dispatched, List<Long> failedIds) {
+        List<CompletableFuture<Outcome>> outcomes = new ArrayList<>(deliveries.size());
+        for (Coalesced<DecodedRow> delivery : deliveries) {
+            CompletableFuture<Outcome> outcome = batch.dispatch(delivery.event());
+            if (outcome == null) {
+                // Lane full: this event and the rest of the batch wait in the outbox
+                log.debug("Dispatcher lane full; leaving outbox event {} pending", delivery.event().eventId());
+                break;
+            }
+            outcomes.add(outcome);
+        }
+        try {
+            CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new)).get();
+        } catch (InterruptedException e) {
+            // Stopping: deliveries the lanes have not finished stay pending
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dispatcher outcomes never complete exceptionally", e);
+        }
+
+        boolean complete = outcomes.size() == deliveries.size();
+        for (int i = 0; i < outcomes.size(); i++) {
+            Coalesced<DecodedRow> delivery = deliveries.get(i);
+            Outcome outcome = outcomes.get(i).getNow(null);
+            if (outcome == Outcome.HANDLED || outcome == Outcome.DROPPED) {
+                dispatched.addAll(delivery.sources());
+                continue;
+            }
+            complete = false;
+            if (outcome == Outcome.FAILED) {
+                failedIds.addAll(sourceIds(delivery));
+            }
+        }
+        return complete;
+    }
+
+    private static List<Long> sourceIds(Coalesced<DecodedRow> delivery) {
+        return delivery.sources().stream().map(DecodedRow::id).toList();
+    }
+
+    private List<Coalesced<DecodedRow>> coalesce(List<DecodedRow> decoded) {
+        PriceChangeCoalescer priceChanges = coalescer.getIfAvailable();
+        if (priceChanges == null) {
+            return decoded.stream().map(row -> new Coalesced<>(row.event(), List.of(row))).toList();
+        }
+        List<Coalesced<DecodedRow>> deliveries = priceChanges.coalesce(decoded, DecodedRow::event);
+        if (deliveries.size() < decoded.size()) {
+            log.debug("Coalesced {} outbox events into {} deliveries", decoded.size(), deliveries.size());
+        }
+        return deliveries;
+    }
+
+    private record OutboxRow(long id, UUID eventId, String eventType, Instant occurredOn, String payload) {
+    }
+
+    private record DecodedRow(long id, DomainEvent<?> event) {
+    }
+}
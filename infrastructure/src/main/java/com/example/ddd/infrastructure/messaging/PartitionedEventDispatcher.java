@@ -0,0 +1,266 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.infrastructure.config.EventDispatcherProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatches domain events to Spring listeners on a fixed set of worker lanes.
+ * Events are partitioned by aggregate ID, so the events of one aggregate are handled one at a time
+ * in the order they were dispatched, while different aggregates are handled in parallel.
+ * Each lane has a bounded queue; when it is full the configured overflow policy decides whether
+ * the caller waits, the event is dropped, or the caller is told to leave the event in the outbox.
+ * Events dispatched through a {@link Batch} report when their lane is done with them, so the caller can
+ * acknowledge only events whose listeners have run.
+ * <p>
+ * Meters, tagged with the lane number:
+ * events.dispatcher.queue.depth (queued events), events.dispatcher.lag (time from dispatch to handling),
+ * events.dispatcher.dropped and events.dispatcher.failed.
+ * <p>
+ * Starts before and stops after OutboxRelay, and drains queued events on stop.
+ */
+@Slf4j
+public class PartitionedEventDispatcher implements SmartLifecycle {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final EventDispatcherProperties properties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final List<Lane> lanes;
+
+    private volatile boolean running;
+
+    public PartitionedEventDispatcher(EventDispatcherProperties properties,
+                                      ApplicationEventPublisher applicationEventPublisher,
+                                      MeterRegistry meterRegistry) {
+        if (properties.lanes() <= 0 || properties.queueCapacity() <= 0) {
+            throw new IllegalArgumentException("Dispatcher lanes and queue capacity must be positive");
+        }
+        this.properties = properties;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.lanes = new ArrayList<>(properties.lanes());
+        for (int i = 0; i < properties.lanes(); i++) {
+            lanes.add(new Lane(i, properties.queueCapacity(), meterRegistry));
+        }
+    }
+
+    /**
+     * Queue the event on its aggregate's lane.
+     * Returns false only under the SPILL policy when the lane is full; the caller must then keep the event
+     * (and, to preserve ordering, every later one) for another attempt.
+     */
+    public boolean dispatch(DomainEvent<?> event) {
+        return queue(new Envelope(event, System.nanoTime(), null, new CompletableFuture<>()));
+    }
+
+    /**
+     * Start a batch of dispatches whose outcomes the caller waits for.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    private boolean queue(Envelope envelope) {
+        if (!running) {
+            throw new IllegalStateException("Event dispatcher is not running");
+        }
+        DomainEvent<?> event = envelope.event();
+        Lane lane = laneFor(event);
+        if (lane.queue.offer(envelope)) {
+            return true;
+        }
+        return switch (properties.overflowPolicy()) {
+            case BLOCK -> {
+                try {
+                    lane.queue.put(envelope);
+                    yield true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    yield false;
+                }
+            }
+            case DROP -> {
+                lane.dropped.increment();
+                log.warn("Dispatcher lane {} is full; dropped {} {}", lane.index, event.eventType(), event.eventId());
+                envelope.outcome().complete(Outcome.DROPPED);
+                yield true;
+            }
+            case SPILL -> false;
+        };
+    }
+
+    /**
+     * Events currently queued on a lane.
+     */
+    public int queueDepth(int lane) {
+        return lanes.get(lane).queue.size();
+    }
+
+    private Lane laneFor(DomainEvent<?> event) {
+        return lanes.get(Math.floorMod(event.aggregateId().hashCode(), lanes.size()));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        lanes.forEach(Lane::start);
+        log.info("Event dispatcher started with {} lanes of {} ({} on overflow)",
+            lanes.size(), properties.queueCapacity(), properties.overflowPolicy());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        for (Lane lane : lanes) {
+            lane.awaitDrained(deadline);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Started before and stopped after OutboxRelay, which uses the default phase
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    /**
+     * What became of a dispatched event.
+     */
+    public enum Outcome {
+        /** Every listener handled the event */
+        HANDLED,
+        /** A listener threw */
+        FAILED,
+        /** Not handled, because an earlier event of the same aggregate in the batch failed */
+        SKIPPED,
+        /** Discarded by the DROP policy */
+        DROPPED
+    }
+
+    /**
+     * Dispatches whose outcomes the caller waits for, such as one outbox batch.
+     * Once an event of an aggregate fails, the batch's later events of that aggregate are skipped,
+     * so they do not overtake a retry of the failed one.
+     */
+    public final class Batch {
+
+        private final Set<Object> failedAggregates = ConcurrentHashMap.newKeySet();
+
+        private Batch() {
+        }
+
+        /**
+         * Queue the event on its aggregate's lane.
+         * Returns a future that completes once the lane is done with the event, or null when the SPILL
+         * policy refuses it; the caller must then keep the event (and every later one) for another attempt.
+         */
+        public CompletableFuture<Outcome> dispatch(DomainEvent<?> event) {
+            Envelope envelope = new Envelope(event, System.nanoTime(), this, new CompletableFuture<>());
+            return queue(envelope) ? envelope.outcome() : null;
+        }
+    }
+
+    private final class Lane {
+
+        private final int index;
+        private final BlockingQueue<Envelope> queue;
+        private final Timer lag;
+        private final Counter dropped;
+        private final Counter failed;
+        private volatile Thread worker;
+
+        Lane(int index, int capacity, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            String tag = Integer.toString(index);
+            Gauge.builder("events.dispatcher.queue.depth", queue, BlockingQueue::size)
+                .tag("lane", tag)
+                .register(meterRegistry);
+            this.lag = Timer.builder("events.dispatcher.lag").tag("lane", tag).register(meterRegistry);
+            this.dropped = Counter.builder("events.dispatcher.dropped").tag("lane", tag).register(meterRegistry);
+            this.failed = Counter.builder("events.dispatcher.failed").tag("lane", tag).register(meterRegistry);
+        }
+
+        void start() {
+            worker = Thread.ofVirtual().name("event-dispatcher-" + index).start(this::run);
+        }
+
+        private void run() {
+            // Keep going after stop until the queue is empty, so accepted events are not lost
+            while (running || !queue.isEmpty()) {
+                Envelope envelope;
+                try {
+                    envelope = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (envelope != null) {
+                    handle(envelope);
+                }
+            }
+        }
+
+        private void handle(Envelope envelope) {
+            lag.record(System.nanoTime() - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+            DomainEvent<?> event = envelope.event();
+            Batch batch = envelope.batch();
+            if (batch != null && batch.failedAggregates.contains(event.aggregateId())) {
+                envelope.outcome().complete(Outcome.SKIPPED);
+                return;
+            }
+            try {
+                applicationEventPublisher.publishEvent(event);
+                envelope.outcome().complete(Outcome.HANDLED);
+            } catch (RuntimeException e) {
+                // Logged and counted here; whether the event is retried is up to whoever dispatched it
+                failed.increment();
+                log.error("Handling of {} {} on lane {} failed", event.eventType(), event.eventId(), index, e);
+                if (batch != null) {
+                    batch.failedAggregates.add(event.aggregateId());
+                }
+                envelope.outcome().complete(Outcome.FAILED);
+            }
+        }
+
+        void awaitDrained(long deadline) {
+            Thread current = worker;
+            if (current == null) {
+                return;
+            }
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !current.join(Duration.ofNanos(remaining))) {
+                    log.warn("Dispatcher lane {} stopped with {} events still queued", index, queue.size());
+                    current.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record Envelope(DomainEvent<?> event, long enqueuedAt, Batch batch, CompletableFuture<Outcome> outcome) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Collapses bursts of price changes before they reach subscribers.
+ * Consecutive ProductPriceChangedEvents of one product, with no other event of that product in between
+ * and all within the window of the first, become a single event carrying the first old price and the last
+ * new price. It keeps the last change's event ID, time and version and takes its place in the sequence.
+ * Events of other types, and of other products, pass through unchanged, and the order of each product's
+ * events is preserved. The raw events are still written to the event store by the caller.
+ */
+public class PriceChangeCoalescer {
+
+    private final Duration window;
+
+    public PriceChangeCoalescer(Duration window) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Coalescing window cannot be negative");
+        }
+        this.window = window;
+    }
+
+    /**
+     * Coalesce the events of the given items, in order.
+     * Each result carries the items it stands for, so callers can track what has been delivered.
+     */
+    public <T> List<Coalesced<T>> coalesce(List<T> items, Function<? super T, DomainEvent<?>> eventOf) {
+        List<Run<T>> closed = new ArrayList<>(items.size());
+        Map<Object, Run<T>> openRuns = new HashMap<>();
+        for (int position = 0; position < items.size(); position++) {
+            T item = items.get(position);
+            DomainEvent<?> event = eventOf.apply(item);
+            Run<T> open = openRuns.remove(event.aggregateId());
+            if (event instanceof ProductPriceChangedEvent priceChanged
+                    && open != null && open.accepts(priceChanged, window)) {
+                open.add(item, priceChanged, position);
+                openRuns.put(event.aggregateId(), open);
+                continue;
+            }
+            if (open != null) {
+                closed.add(open);
+            }
+            Run<T> run = new Run<>(item, event, position);
+            if (event instanceof ProductPriceChangedEvent) {
+                openRuns.put(event.aggregateId(), run);
+            } else {
+                closed.add(run);
+            }
+        }
+        closed.addAll(openRuns.values());
+        closed.sort(Comparator.comparingInt(Run::lastPosition));
+        return closed.stream().map(Run::toCoalesced).toList();
+    }
+
+    /**
+     * An event to deliver and the items it stands for, oldest first.
+     */
+    public record Coalesced<T>(DomainEvent<?> event, List<T> sources) {
+    }
+
+    private static final class Run<T> {
+
+        private final List<T> sources = new ArrayList<>(1);
+        private final DomainEvent<?> first;
+        private DomainEvent<?> last;
+        private int lastPosition;
+
+        Run(T item, DomainEvent<?> event, int position) {
+            this.sources.add(item);
+            this.first = event;
+            this.last = event;
+            this.lastPosition = position;
+        }
+
+        boolean accepts(ProductPriceChangedEvent event, Duration window) {
+            return first instanceof ProductPriceChangedEvent
+                && Duration.between(first.occurredOn(), event.occurredOn()).compareTo(window) <= 0;
+        }
+
+        void add(T item, DomainEvent<?> event, int position) {
+            sources.add(item);
+            last = event;
+            lastPosition = position;
+        }
+
+        int lastPosition() {
+            return lastPosition;
+        }
+
+        Coalesced<T> toCoalesced() {
+            if (sources.size() == 1) {
+                return new Coalesced<>(first, List.copyOf(sources));
+            }
+            ProductPriceChangedEvent from = (ProductPriceChangedEvent) first;
+            ProductPriceChangedEvent to = (ProductPriceChangedEvent) last;
+            ProductPriceChangedEvent merged = new ProductPriceChangedEvent(to.eventId(), to.occurredOn(),
+                to.aggregateVersion(), to.aggregateId(), from.getOldPrice(), to.getNewPrice());
+            return new Coalesced<>(merged, List.copyOf(sources));
+        }
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.ddd.infrastructure.messaging;
 
 import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductInfoUpdatedEvent;
 import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStatusChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.infrastructure.cache.CachingProductQueryRepository;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
  * Event handler for product-related domain events.
+ * Keeps the product read cache, when there is one, in step with changes.
  * This is where you would integrate with external systems (messaging, notifications, etc.)
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ProductEventHandler {
 
+    private final ObjectProvider<CachingProductQueryRepository> productCache;
+
     @EventListener
     public void handleProductCreated(ProductCreatedEvent event) {
         log.info("Product created event received: {} - {}",
             event.aggregateId(), event.getProductName());
 
+        productCache.ifAvailable(cache -> cache.invalidate(event.aggregateId()));
+
         // TODO: Send notification, publish to message broker, update search index, etc.
     }
 
@@ -27,6 +39,32 @@ public class ProductEventHandler {
         log.info("Product price changed event received: {} - {} -> {}",
             event.aggregateId(), event.getOldPrice(), event.getNewPrice());
 
-        // TODO: Send notification, publish to message broker, update cache, etc.
+        productCache.ifAvailable(cache -> cache.invalidate(event.aggregateId()));
+
+        // TODO: Send notification, publish to message broker, etc.
+    }
+
+    @EventListener
+    public void handleProductInfoUpdated(ProductInfoUpdatedEvent event) {
+        log.info("Product info updated event received: {} - {}",
+            event.aggregateId(), event.getProductName());
+
+        productCache.ifAvailable(cache -> cache.invalidate(event.aggregateId()));
+    }
+
+    @EventListener
+    public void handleProductStockChanged(ProductStockChangedEvent event) {
+        log.debug("Product stock changed event received: {} - {} -> {}",
+            event.aggregateId(), event.getOldQuantity(), event.getNewQuantity());
+
+        productCache.ifAvailable(cache -> cache.invalidate(event.aggregateId()));
+    }
+
+    @EventListener
+    public void handleProductStatusChanged(ProductStatusChangedEvent event) {
+        log.info("Product status changed event received: {} - {} -> {}",
+            event.aggregateId(), event.getOldStatus(), event.getNewStatus());
+
+        productCache.ifAvailable(cache -> cache.invalidate(event.aggregateId()));
     }
 }
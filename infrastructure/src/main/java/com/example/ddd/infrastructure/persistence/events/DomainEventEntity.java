@@ -2,44 +2,48 @@ package com.example.ddd.infrastructure.persistence.events;
 
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.Instant;
-import java.util.Map;
 import java.util.UUID;
 
 /**
- * DomainEventEntity class.
- * chatter.chat-domain
+ * JPA mapping of the domain_events table, the append-only event store.
+ * Each event is one row: typed aggregate ID, event type and an encoded payload.
+ * Rows are appended and replayed with plain JDBC by DomainEventStore;
+ * the mapping keeps the table under schema validation and lets tests generate it.
  *
  * @author JoshuaSalcedo
  * @since 10/13/2025 7:40 AM
  */
 @Entity
+@Table(name = "domain_events", indexes = @Index(name = "idx_domain_events_aggregate", columnList = "aggregate_id, id"))
 @Data
-@Builder(setterPrefix = "with")
 @NoArgsConstructor
-@AllArgsConstructor
 public class DomainEventEntity {
 
+    // Store-wide append order; replay of an aggregate follows it
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private  UUID eventId;
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
 
+    @Column(name = "event_id", nullable = false, unique = true)
+    private UUID eventId;
 
-    private Instant occurredOn;
-
-    private String eventType;
-
+    @Column(name = "aggregate_id", nullable = false)
+    private UUID aggregateId;
 
+    @Column(name = "aggregate_version")
     private Long aggregateVersion;
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    private Map<String,Object> metadata;
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
 
-    private Object aggregateId;
+    @Column(name = "occurred_on", nullable = false)
+    private Instant occurredOn;
 
-}
\ No newline at end of file
+    @Column(name = "payload", nullable = false, length = DomainEventStore.MAX_PAYLOAD_BYTES)
+    private byte[] payload;
+}
@@ -3,13 +3,13 @@ package com.example.ddd.infrastructure.persistence.events;
 
 import com.example.ddd.domain.event.DomainEvent;
 import com.example.ddd.domain.event.EventPublisher;
-import org.jmolecules.event.annotation.DomainEventPublisher;
 
 import java.util.List;
 
 /**
  * DomainEventPublisherAdapter class.
- * ddd-template
+ * EventPublisher that appends events straight to the event store, without the outbox or any dispatch.
+ * Useful where only the audit history is wanted; it is not registered as a bean by default.
  *
  * @author JoshuaSalcedo
  * @since 10/15/2025 3:48 PM
@@ -17,11 +17,19 @@ import java.util.List;
 
 public class DomainEventPublisherAdapter  implements EventPublisher {
 
-    private final DomainEventJpaRepository domainEventJpaRepository;
+    private final DomainEventStore domainEventStore;
 
-    public DomainEventPublisherAdapter(DomainEventJpaRepository domainEventJpaRepository) {
-        this.domainEventJpaRepository = domainEventJpaRepository;
+    public DomainEventPublisherAdapter(DomainEventStore domainEventStore) {
+        this.domainEventStore = domainEventStore;
     }
 
+    @Override
+    public void publish(DomainEvent<?> event) {
+        domainEventStore.append(List.of(event));
+    }
 
-}
\ No newline at end of file
+    @Override
+    public void publish(List<DomainEvent<?>> events) {
+        domainEventStore.append(events);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.ddd.infrastructure.persistence.events;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.infrastructure.messaging.DomainEventCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Append-only store of domain events in the domain_events table.
+ * Each event is written as a single row whose payload is produced by the DomainEventCodec,
+ * and a whole list of events is appended as one JDBC batch.
+ * An aggregate's history, or its tail after a known sequence, is read back in append order with one
+ * range scan of idx_domain_events_aggregate (aggregate_id, id). The whole store can be tailed by sequence
+ * through the primary key.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventStore {
+
+    // Upper bound of an encoded payload, also used as the column length where the database needs one
+    static final int MAX_PAYLOAD_BYTES = 65_536;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO domain_events (event_id, aggregate_id, aggregate_version, event_type, occurred_on, payload)
+        VALUES (:eventId, :aggregateId, :aggregateVersion, :eventType, :occurredOn, :payload)
+        """;
+
+    private static final String SELECT_BY_AGGREGATE_SQL = """
+        SELECT id, event_id, event_type, occurred_on, payload FROM domain_events
+        WHERE aggregate_id = :aggregateId AND id > :afterSequence
+        ORDER BY id
+        """;
+
+    private static final String SELECT_AFTER_SQL = """
+        SELECT id, event_id, event_type, occurred_on, payload FROM domain_events
+        WHERE id > :afterSequence
+        ORDER BY id
+        LIMIT :limit
+        """;
+
+    private static final String SELECT_BY_SEQUENCE_SQL = """
+        SELECT id, event_id, event_type, occurred_on, payload FROM domain_events
+        WHERE id IN (:sequences)
+        ORDER BY id
+        """;
+
+    private static final String LAST_SEQUENCE_SQL = "SELECT COALESCE(max(id), 0) FROM domain_events";
+
+    private static final String SELECT_EXISTING_IDS_SQL =
+        "SELECT event_id FROM domain_events WHERE event_id IN (:eventIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DomainEventCodec codec;
+
+    /**
+     * Append the events in order as one batch. Joins the caller's transaction when there is one.
+     */
+    public void append(Collection<? extends DomainEvent<?>> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = events.stream()
+            .map(this::parameters)
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        log.debug("Appended {} domain events to the event store", events.size());
+    }
+
+    /**
+     * Append the events that are not in the store yet, so delivering the same events twice is harmless.
+     * Costs one extra lookup by event ID for the whole batch.
+     */
+    public void appendMissing(Collection<? extends DomainEvent<?>> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<UUID> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_EXISTING_IDS_SQL,
+            new MapSqlParameterSource("eventIds", events.stream().map(DomainEvent::eventId).toList()), UUID.class));
+        append(existing.isEmpty()
+            ? events
+            : events.stream().filter(event -> !existing.contains(event.eventId())).toList());
+    }
+
+    /**
+     * All events of one aggregate, oldest first.
+     */
+    public List<DomainEvent<?>> findByAggregateId(UUID aggregateId) {
+        return readStream(aggregateId, 0).stream()
+            .<DomainEvent<?>>map(StoredDomainEvent::event)
+            .toList();
+    }
+
+    /**
+     * The events of one aggregate appended after the given store sequence, oldest first, with their sequences.
+     * Pass 0 to read the whole stream.
+     */
+    public List<StoredDomainEvent> readStream(UUID aggregateId, long afterSequence) {
+        return jdbcTemplate.query(SELECT_BY_AGGREGATE_SQL, new MapSqlParameterSource()
+            .addValue("aggregateId", aggregateId)
+            .addValue("afterSequence", afterSequence), this::storedEvent);
+    }
+
+    /**
+     * Events of every aggregate appended after the given store sequence, oldest first, at most {@code limit}.
+     * Sequences are assigned on insert, so a transaction still in flight may later commit an event
+     * below the newest sequence returned here.
+     */
+    public List<StoredDomainEvent> readAfter(long afterSequence, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER_SQL, new MapSqlParameterSource()
+            .addValue("afterSequence", afterSequence)
+            .addValue("limit", limit), this::storedEvent);
+    }
+
+    /**
+     * The events stored under the given sequences, oldest first; sequences with no event are left out.
+     */
+    public List<StoredDomainEvent> readSequences(Collection<Long> sequences) {
+        if (sequences.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_BY_SEQUENCE_SQL,
+            new MapSqlParameterSource("sequences", sequences), this::storedEvent);
+    }
+
+    /**
+     * Sequence of the newest stored event, or 0 when the store is empty.
+     */
+    public long lastSequence() {
+        Long last = jdbcTemplate.queryForObject(LAST_SEQUENCE_SQL, new MapSqlParameterSource(), Long.class);
+        return last == null ? 0 : last;
+    }
+
+    private StoredDomainEvent storedEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new StoredDomainEvent(
+            rs.getLong("id"),
+            codec.decodeBinary(
+                rs.getObject("event_id", UUID.class),
+                rs.getString("event_type"),
+                rs.getTimestamp("occurred_on").toInstant(),
+                rs.getBytes("payload")
+            )
+        );
+    }
+
+    private SqlParameterSource parameters(DomainEvent<?> event) {
+        byte[] payload = codec.encodeBinary(event);
+        if (payload.length > MAX_PAYLOAD_BYTES) {
+            throw new IllegalArgumentException("Payload of " + event.eventType() + " " + event.eventId()
+                + " is " + payload.length + " bytes; the event store accepts at most " + MAX_PAYLOAD_BYTES);
+        }
+        return new MapSqlParameterSource()
+            .addValue("eventId", event.eventId())
+            .addValue("aggregateId", codec.aggregateKey(event))
+            .addValue("aggregateVersion", event.aggregateVersion())
+            .addValue("eventType", event.eventType())
+            .addValue("occurredOn", Timestamp.from(event.occurredOn()))
+            .addValue("payload", payload);
+    }
+
+    /**
+     * An event read back from the store with its position in the store's append order.
+     */
+    public record StoredDomainEvent(long sequence, DomainEvent<?> event) {
+    }
+}
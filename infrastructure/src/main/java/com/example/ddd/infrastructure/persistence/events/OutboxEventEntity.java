@@ -0,0 +1,52 @@
+package com.example.ddd.infrastructure.persistence.events;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA mapping of the event_outbox table.
+ * Rows are written and claimed with plain JDBC by OutboxEventPublisher and OutboxRelay;
+ * the mapping keeps the table under schema validation and lets tests generate it.
+ */
+@Entity
+@Table(name = "event_outbox")
+@Data
+@NoArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, unique = true)
+    private UUID eventId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(name = "occurred_on", nullable = false)
+    private Instant occurredOn;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+}
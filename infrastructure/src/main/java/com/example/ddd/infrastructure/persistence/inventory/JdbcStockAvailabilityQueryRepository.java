@@ -0,0 +1,80 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import com.example.ddd.application.dto.LocationAvailabilityResponse;
+import com.example.ddd.application.query.StockAvailabilityQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.GeoPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC query side for stock held at locations.
+ * A "near" query range-scans the (latitude, longitude) index for the box around the search circle,
+ * joins the product's stock row at each location by primary key, and only then computes exact
+ * great-circle distances for the few rows left, dropping those outside the circle.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStockAvailabilityQueryRepository implements StockAvailabilityQueryRepository {
+
+    // Shortest length of one degree of latitude, so the box never cuts into the circle
+    private static final double KM_PER_DEGREE_LATITUDE = 110.574;
+    private static final double KM_PER_DEGREE_LONGITUDE_AT_EQUATOR = 111.320;
+
+    private static final String NEAR_SQL = """
+        SELECT l.code, l.name, l.latitude, l.longitude, s.quantity
+        FROM stock_locations l
+        JOIN product_location_stock s ON s.location_code = l.code AND s.product_id = :productId
+        WHERE l.latitude BETWEEN :minLatitude AND :maxLatitude
+          AND l.longitude BETWEEN :minLongitude AND :maxLongitude
+          AND s.quantity >= :minQuantity
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<LocationAvailabilityResponse> findAvailableNear(ProductId productId, GeoPoint position,
+                                                                double radiusKm, int minQuantity, int limit) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE_LATITUDE;
+        double minLatitude = Math.max(-90, position.getLatitude() - latitudeDelta);
+        double maxLatitude = Math.min(90, position.getLatitude() + latitudeDelta);
+
+        // Degrees of longitude shrink towards the poles; size the box for its widest-degree edge
+        double widestLatitude = Math.max(Math.abs(minLatitude), Math.abs(maxLatitude));
+        double longitudeDelta = widestLatitude >= 90 ? 360
+            : radiusKm / (KM_PER_DEGREE_LONGITUDE_AT_EQUATOR * Math.cos(Math.toRadians(widestLatitude)));
+        double minLongitude = position.getLongitude() - longitudeDelta;
+        double maxLongitude = position.getLongitude() + longitudeDelta;
+        if (minLongitude < -180 || maxLongitude > 180) {
+            // The box crosses the antimeridian; scan the whole latitude band instead
+            minLongitude = -180;
+            maxLongitude = 180;
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("productId", productId.toUuid())
+            .addValue("minLatitude", minLatitude)
+            .addValue("maxLatitude", maxLatitude)
+            .addValue("minLongitude", minLongitude)
+            .addValue("maxLongitude", maxLongitude)
+            .addValue("minQuantity", minQuantity);
+
+        List<LocationAvailabilityResponse> nearby = new ArrayList<>();
+        jdbcTemplate.query(NEAR_SQL, parameters, rs -> {
+            GeoPoint location = GeoPoint.of(rs.getDouble("latitude"), rs.getDouble("longitude"));
+            double distance = position.distanceKm(location);
+            if (distance <= radiusKm) {
+                nearby.add(new LocationAvailabilityResponse(rs.getString("code"), rs.getString("name"),
+                    location.getLatitude(), location.getLongitude(), distance, rs.getInt("quantity")));
+            }
+        });
+        nearby.sort(Comparator.comparingDouble(LocationAvailabilityResponse::distanceKm));
+        return nearby.size() > limit ? List.copyOf(nearby.subList(0, limit)) : nearby;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import com.example.ddd.domain.aggregateroot.inventory.LocationStockChange;
+import com.example.ddd.domain.aggregateroot.inventory.StockLocation;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.GeoPoint;
+import com.example.ddd.domain.repository.StockLocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of StockLocationRepository using plain JDBC.
+ * A stock movement is one conditional UPDATE of the product's row at that location, which also adds the
+ * units moved to the row's unrolled count; the products row is not touched. StockTotalRollup later moves
+ * the unrolled units into products.stock_quantity, so Product.isAvailable() and listings read a maintained
+ * total instead of summing locations on every read.
+ * <p>
+ * A product's first location stock makes its location rows the only source of its stock, so it is refused
+ * while the product still holds stock of its own. Only inserting a product's first row at a location locks
+ * its products row; of two requests inserting the same row at once, the later one hits a duplicate key and
+ * is retried as an update.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStockLocationRepository implements StockLocationRepository {
+
+    private static final String FIND_LOCATION_SQL =
+        "SELECT code, name, latitude, longitude FROM stock_locations WHERE code = :code";
+
+    private static final String UPDATE_LOCATION_SQL =
+        "UPDATE stock_locations SET name = :name, latitude = :latitude, longitude = :longitude WHERE code = :code";
+
+    private static final String INSERT_LOCATION_SQL = """
+        INSERT INTO stock_locations (code, name, latitude, longitude)
+        VALUES (:code, :name, :latitude, :longitude)
+        """;
+
+    private static final String ADD_STOCK_SQL = """
+        UPDATE product_location_stock
+        SET quantity = quantity + :quantity, unrolled = unrolled + :quantity, updated_at = :updatedAt
+        WHERE product_id = :productId AND location_code = :locationCode
+        """;
+
+    private static final String REMOVE_STOCK_SQL = """
+        UPDATE product_location_stock
+        SET quantity = quantity - :quantity, unrolled = unrolled - :quantity, updated_at = :updatedAt
+        WHERE product_id = :productId AND location_code = :locationCode AND quantity >= :quantity
+        """;
+
+    private static final String INSERT_STOCK_SQL = """
+        INSERT INTO product_location_stock (product_id, location_code, quantity, unrolled, updated_at)
+        VALUES (:productId, :locationCode, :quantity, :quantity, :updatedAt)
+        """;
+
+    private static final String STOCK_SQL =
+        "SELECT quantity FROM product_location_stock WHERE product_id = :productId AND location_code = :locationCode";
+
+    private static final String PRODUCT_EXISTS_SQL = "SELECT COUNT(*) FROM products WHERE id = :productId";
+
+    private static final String LOCATION_EXISTS_SQL = "SELECT COUNT(*) FROM stock_locations WHERE code = :locationCode";
+
+    private static final String LOCK_PRODUCT_SQL =
+        "SELECT stock_quantity, stock_by_location FROM products WHERE id = :productId FOR UPDATE";
+
+    private static final String ESCROWED_SQL =
+        "SELECT COALESCE(SUM(units), 0) FROM stock_ledger_allotments WHERE product_id = :productId";
+
+    private static final String MARK_STOCK_BY_LOCATION_SQL =
+        "UPDATE products SET stock_by_location = TRUE WHERE id = :productId";
+
+    private static final RowMapper<ProductStock> PRODUCT_STOCK_MAPPER = (rs, rowNum) ->
+        new ProductStock(rs.getLong("stock_quantity"), rs.getBoolean("stock_by_location"));
+
+    private static final RowMapper<StockLocation> LOCATION_MAPPER = (rs, rowNum) -> new StockLocation(
+        rs.getString("code"),
+        rs.getString("name"),
+        GeoPoint.of(rs.getDouble("latitude"), rs.getDouble("longitude"))
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional
+    public StockLocation save(StockLocation location) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("code", location.getCode())
+            .addValue("name", location.getName())
+            .addValue("latitude", location.getPosition().getLatitude())
+            .addValue("longitude", location.getPosition().getLongitude());
+        if (jdbcTemplate.update(UPDATE_LOCATION_SQL, parameters) == 0) {
+            jdbcTemplate.update(INSERT_LOCATION_SQL, parameters);
+        }
+        return location;
+    }
+
+    @Override
+    public Optional<StockLocation> findByCode(String code) {
+        return jdbcTemplate.query(FIND_LOCATION_SQL, new MapSqlParameterSource("code", code), LOCATION_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public LocationStockChange adjustStock(ProductId productId, String locationCode, int delta) {
+        if (delta == 0) {
+            throw new InvalidDomainStateException("Stock adjustment cannot be zero");
+        }
+        StockLocation.validateCode(locationCode);
+        try {
+            return transactionTemplate.execute(status -> move(productId, locationCode, delta));
+        } catch (DuplicateKeyException e) {
+            // Another request inserted the first stock at this location concurrently; the row is there now
+            return transactionTemplate.execute(status -> move(productId, locationCode, delta));
+        }
+    }
+
+    private LocationStockChange move(ProductId productId, String locationCode, int delta) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("productId", productId.toUuid())
+            .addValue("locationCode", locationCode)
+            .addValue("quantity", Math.abs(delta))
+            .addValue("updatedAt", Timestamp.from(Instant.now()));
+
+        int updated = jdbcTemplate.update(delta > 0 ? ADD_STOCK_SQL : REMOVE_STOCK_SQL, parameters);
+        if (updated == 0) {
+            Optional<Integer> current = findQuantity(parameters);
+            if (current.isPresent()) {
+                throw InvalidDomainStateException.insufficientStock(current.get(), -delta);
+            }
+            if (delta < 0) {
+                requireProduct(productId, parameters);
+                requireLocation(locationCode, parameters);
+                throw InvalidDomainStateException.insufficientStock(0, -delta);
+            }
+            // First stock of the product at this location
+            stockByLocation(productId, parameters);
+            requireLocation(locationCode, parameters);
+            jdbcTemplate.update(INSERT_STOCK_SQL, parameters);
+            return new LocationStockChange(productId, locationCode, 0, delta);
+        }
+        int quantity = findQuantity(parameters).orElseThrow();
+        return new LocationStockChange(productId, locationCode, quantity - delta, quantity);
+    }
+
+    /**
+     * Make the product's location rows the only source of its stock, unless they already are.
+     * The products row stays locked until the first location row is in, so a product-level adjustment or a
+     * stock ledger escrow either went first and is seen here, or waits and is then rejected.
+     */
+    private void stockByLocation(ProductId productId, MapSqlParameterSource parameters) {
+        ProductStock product = jdbcTemplate.query(LOCK_PRODUCT_SQL, parameters, PRODUCT_STOCK_MAPPER).stream()
+            .findFirst()
+            .orElseThrow(() -> EntityNotFoundException.forId(Product.class, productId.value()));
+        if (product.byLocation()) {
+            return;
+        }
+        Long escrowed = jdbcTemplate.queryForObject(ESCROWED_SQL, parameters, Long.class);
+        long unlocated = product.quantity() + (escrowed == null ? 0 : escrowed);
+        if (unlocated > 0) {
+            throw new InvalidDomainStateException(String.format(
+                "Product %s still has %d units of its own stock; remove them before stocking it at a location",
+                productId.value(), unlocated));
+        }
+        jdbcTemplate.update(MARK_STOCK_BY_LOCATION_SQL, parameters);
+    }
+
+    private Optional<Integer> findQuantity(MapSqlParameterSource parameters) {
+        List<Integer> rows = jdbcTemplate.queryForList(STOCK_SQL, parameters, Integer.class);
+        return rows.stream().findFirst();
+    }
+
+    private void requireProduct(ProductId productId, MapSqlParameterSource parameters) {
+        Integer products = jdbcTemplate.queryForObject(PRODUCT_EXISTS_SQL, parameters, Integer.class);
+        if (products == null || products == 0) {
+            throw EntityNotFoundException.forId(Product.class, productId.value());
+        }
+    }
+
+    private void requireLocation(String locationCode, MapSqlParameterSource parameters) {
+        Integer locations = jdbcTemplate.queryForObject(LOCATION_EXISTS_SQL, parameters, Integer.class);
+        if (locations == null || locations == 0) {
+            throw EntityNotFoundException.forId(StockLocation.class, locationCode);
+        }
+    }
+
+    private record ProductStock(long quantity, boolean byLocation) {
+    }
+}
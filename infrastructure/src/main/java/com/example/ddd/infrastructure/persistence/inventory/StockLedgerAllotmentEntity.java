@@ -0,0 +1,46 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * JPA mapping of the stock_ledger_allotments table, one row per ledger and product.
+ * Rows are written and read with plain JDBC by StockLedgerStore;
+ * the mapping keeps the table under schema validation and lets tests generate it.
+ */
+@Entity
+@Table(name = "stock_ledger_allotments")
+@IdClass(StockLedgerAllotmentEntity.Key.class)
+@Data
+@NoArgsConstructor
+public class StockLedgerAllotmentEntity {
+
+    @Id
+    @Column(name = "ledger_id", length = 100)
+    private String ledgerId;
+
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    // Units escrowed from the product's stock that the ledger has not yet flushed as granted
+    @Column(name = "units", nullable = false)
+    private long units;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String ledgerId;
+        private UUID productId;
+    }
+}
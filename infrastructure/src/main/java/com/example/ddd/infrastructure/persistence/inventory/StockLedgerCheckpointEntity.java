@@ -0,0 +1,27 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA mapping of the stock_ledger_checkpoints table.
+ * Rows are written and read with plain JDBC by StockLedgerStore;
+ * the mapping keeps the table under schema validation and lets tests generate it.
+ */
+@Entity
+@Table(name = "stock_ledger_checkpoints")
+@Data
+@NoArgsConstructor
+public class StockLedgerCheckpointEntity {
+
+    @Id
+    @Column(name = "ledger_id", length = 100)
+    private String ledgerId;
+
+    @Column(name = "applied_sequence", nullable = false)
+    private long appliedSequence;
+}
@@ -0,0 +1,225 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Database side of the stock reservation ledger.
+ * A ledger only grants units it has escrowed: escrow moves units from a product's stock_quantity into the
+ * ledger's row in stock_ledger_allotments under the product's row lock, so the ledgers of all nodes together
+ * never grant more than the product had. A flush takes the units granted since the last one out of the
+ * allotments as one JDBC batch, returns units the ledger no longer needs to their products and advances the
+ * ledger's checkpoint, all in one transaction. The checkpoint is the sequence of the last intent applied,
+ * so intents replayed after a crash are applied exactly once.
+ * <p>
+ * Every change to a products row writes a stock-changed event to the outbox and appends it to the event store
+ * in the same transaction, as every other stock write does, so a product loaded from its events never falls
+ * behind the row's version. Transactions that touch both tables lock the products row before the allotment
+ * row, so escrows and flushes never deadlock.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StockLedgerStore {
+
+    private static final String STOCK_SQL = "SELECT stock_quantity FROM products WHERE id = :id";
+
+    private static final String LOCK_SQL =
+        "SELECT stock_quantity, stock_by_location, version FROM products WHERE id = :id FOR UPDATE";
+
+    private static final String MOVE_SQL = """
+        UPDATE products SET stock_quantity = stock_quantity + :delta, updated_at = :updatedAt, version = version + 1
+        WHERE id = :id
+        """;
+
+    private static final String ALLOTMENTS_SQL =
+        "SELECT product_id, units FROM stock_ledger_allotments WHERE ledger_id = :ledgerId AND units > 0";
+
+    private static final String ADD_ALLOTMENT_SQL = """
+        UPDATE stock_ledger_allotments SET units = units + :units
+        WHERE ledger_id = :ledgerId AND product_id = :productId
+        """;
+
+    private static final String INSERT_ALLOTMENT_SQL = """
+        INSERT INTO stock_ledger_allotments (ledger_id, product_id, units)
+        VALUES (:ledgerId, :productId, :units)
+        """;
+
+    private static final String TAKE_ALLOTMENT_SQL = """
+        UPDATE stock_ledger_allotments SET units = units - :units
+        WHERE ledger_id = :ledgerId AND product_id = :productId AND units >= :units
+        """;
+
+    private static final String DELETE_EMPTY_ALLOTMENTS_SQL =
+        "DELETE FROM stock_ledger_allotments WHERE ledger_id = :ledgerId AND units = 0";
+
+    private static final String CHECKPOINT_SQL =
+        "SELECT applied_sequence FROM stock_ledger_checkpoints WHERE ledger_id = :ledgerId";
+
+    private static final String UPDATE_CHECKPOINT_SQL =
+        "UPDATE stock_ledger_checkpoints SET applied_sequence = :appliedSequence WHERE ledger_id = :ledgerId";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+        "INSERT INTO stock_ledger_checkpoints (ledger_id, applied_sequence) VALUES (:ledgerId, :appliedSequence)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventPublisher eventPublisher;
+    private final DomainEventStore eventStore;
+
+    /**
+     * A product's stock quantity, or empty when there is no such product.
+     */
+    public OptionalLong findStock(ProductId id) {
+        List<Long> rows = jdbcTemplate.queryForList(STOCK_SQL, new MapSqlParameterSource("id", id.toUuid()), Long.class);
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.getFirst());
+    }
+
+    /**
+     * Sequence of the last intent the ledger has applied, 0 when it has applied none.
+     */
+    public long appliedSequence(String ledgerId) {
+        List<Long> rows = jdbcTemplate.queryForList(CHECKPOINT_SQL,
+            new MapSqlParameterSource("ledgerId", ledgerId), Long.class);
+        return rows.isEmpty() ? 0 : rows.getFirst();
+    }
+
+    /**
+     * Units escrowed by the ledger and not yet flushed as granted, per product.
+     */
+    public Map<ProductId, Long> allotments(String ledgerId) {
+        Map<ProductId, Long> allotments = new HashMap<>();
+        jdbcTemplate.query(ALLOTMENTS_SQL, new MapSqlParameterSource("ledgerId", ledgerId), rs -> {
+            allotments.put(ProductId.of(rs.getObject("product_id", UUID.class)), rs.getLong("units"));
+        });
+        return allotments;
+    }
+
+    /**
+     * Move up to {@code units} of a product's stock into the ledger's allotment. Returns the units moved,
+     * fewer than asked for, possibly none, when the product has less stock.
+     * Throws EntityNotFoundException when the product does not exist, and InvalidDomainStateException when its
+     * stock is kept per location.
+     */
+    public long escrow(String ledgerId, ProductId id, long units) {
+        return transactionTemplate.execute(status -> {
+            Level level = lock(id).orElseThrow(() -> EntityNotFoundException.forId(Product.class, id.value()));
+            if (level.byLocation()) {
+                throw InvalidDomainStateException.stockKeptByLocation(id.value());
+            }
+            long taken = Math.min(level.quantity(), units);
+            if (taken > 0) {
+                ProductStockChangedEvent event = move(id, level, -taken, Instant.now());
+                eventPublisher.publish(event);
+                eventStore.append(List.of(event));
+                MapSqlParameterSource allotment = allotment(ledgerId, id, taken);
+                if (jdbcTemplate.update(ADD_ALLOTMENT_SQL, allotment) == 0) {
+                    jdbcTemplate.update(INSERT_ALLOTMENT_SQL, allotment);
+                }
+            }
+            return taken;
+        });
+    }
+
+    /**
+     * Take the units granted since the last flush out of the ledger's allotments, return {@code releases} to
+     * their products and record {@code throughSequence} as applied, in one transaction.
+     */
+    public void apply(String ledgerId, Map<ProductId, Long> removals, Map<ProductId, Long> releases,
+                      long throughSequence) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Instant now = Instant.now();
+            // Releases lock products rows, so they go before the batch locks allotment rows
+            List<DomainEvent<?>> events = new ArrayList<>(releases.size());
+            releases.forEach((id, units) -> {
+                Optional<Level> level = lock(id);
+                take(ledgerId, id, units);
+                level.ifPresentOrElse(
+                    present -> events.add(move(id, present, units, now)),
+                    () -> log.warn("Product {} was deleted with {} units escrowed by stock ledger {}", id, units, ledgerId));
+            });
+
+            List<ProductId> products = new ArrayList<>(removals.keySet());
+            SqlParameterSource[] batch = products.stream()
+                .map(id -> allotment(ledgerId, id, removals.get(id)))
+                .toArray(SqlParameterSource[]::new);
+            int[] counts = batch.length == 0 ? new int[0] : jdbcTemplate.batchUpdate(TAKE_ALLOTMENT_SQL, batch);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    throw overdrawn(ledgerId, products.get(i), removals.get(products.get(i)));
+                }
+            }
+            if (!events.isEmpty()) {
+                eventPublisher.publish(events);
+                eventStore.append(events);
+            }
+
+            MapSqlParameterSource checkpoint = new MapSqlParameterSource()
+                .addValue("ledgerId", ledgerId)
+                .addValue("appliedSequence", throughSequence);
+            if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, checkpoint) == 0) {
+                jdbcTemplate.update(INSERT_CHECKPOINT_SQL, checkpoint);
+            }
+            jdbcTemplate.update(DELETE_EMPTY_ALLOTMENTS_SQL, new MapSqlParameterSource("ledgerId", ledgerId));
+        });
+    }
+
+    private Optional<Level> lock(ProductId id) {
+        List<Level> rows = jdbcTemplate.query(LOCK_SQL, new MapSqlParameterSource("id", id.toUuid()),
+            (rs, rowNum) -> new Level(rs.getLong("stock_quantity"), rs.getBoolean("stock_by_location"),
+                rs.getLong("version")));
+        return rows.stream().findFirst();
+    }
+
+    private ProductStockChangedEvent move(ProductId id, Level level, long delta, Instant now) {
+        jdbcTemplate.update(MOVE_SQL, new MapSqlParameterSource()
+            .addValue("id", id.toUuid())
+            .addValue("delta", delta)
+            .addValue("updatedAt", Timestamp.from(now)));
+        return new ProductStockChangedEvent(id, (int) level.quantity(), (int) (level.quantity() + delta),
+            level.version() + 1);
+    }
+
+    private void take(String ledgerId, ProductId id, long units) {
+        if (jdbcTemplate.update(TAKE_ALLOTMENT_SQL, allotment(ledgerId, id, units)) == 0) {
+            throw overdrawn(ledgerId, id, units);
+        }
+    }
+
+    private static MapSqlParameterSource allotment(String ledgerId, ProductId id, long units) {
+        return new MapSqlParameterSource()
+            .addValue("ledgerId", ledgerId)
+            .addValue("productId", id.toUuid())
+            .addValue("units", units);
+    }
+
+    // Grants and releases only ever draw on escrowed units, so this means the allotment row was changed by hand
+    private static IllegalStateException overdrawn(String ledgerId, ProductId id, long units) {
+        return new IllegalStateException("Stock ledger " + ledgerId + " has fewer than " + units
+            + " units of product " + id.value() + " escrowed");
+    }
+
+    private record Level(long quantity, boolean byLocation, long version) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA mapping of the stock_locations table.
+ * Rows are written and read with plain JDBC by JdbcStockLocationRepository;
+ * the mapping keeps the table under schema validation and lets tests generate it.
+ */
+@Entity
+@Table(name = "stock_locations",
+    indexes = @Index(name = "idx_stock_locations_position", columnList = "latitude, longitude"))
+@Data
+@NoArgsConstructor
+public class StockLocationEntity {
+
+    @Id
+    @Column(name = "code", length = 50)
+    private String code;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "latitude", nullable = false)
+    private double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private double longitude;
+}
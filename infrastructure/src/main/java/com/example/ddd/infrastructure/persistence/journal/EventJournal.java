@@ -0,0 +1,198 @@
+package com.example.ddd.infrastructure.persistence.journal;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.infrastructure.messaging.DomainEventCodec;
+import com.example.ddd.infrastructure.persistence.journal.JournalSegment.JournalRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal of domain events in segmented, memory-mapped files.
+ * Appends copy the encoded event into the active segment's mapping, so they cost a memory copy rather
+ * than a database round trip; a background flusher forces dirty segments to disk every flush interval,
+ * which bounds what a machine crash can lose. A full segment is forced and replaced by a new one,
+ * and the oldest segments beyond the retention limit are deleted.
+ * Each segment keeps a sparse index of where every aggregate first appears and the time range it covers,
+ * so replays skip segments that cannot contain matching events.
+ * Opening a journal over an existing directory rebuilds the index from the segments found there.
+ */
+@Slf4j
+public class EventJournal implements AutoCloseable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final DomainEventCodec codec;
+
+    // Oldest first; the last segment is the one being appended to
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    public EventJournal(Path directory, int segmentSize, int maxSegments, Duration flushInterval,
+                        DomainEventCodec codec) {
+        if (segmentSize <= JournalSegment.HEADER_BYTES || maxSegments <= 0) {
+            throw new IllegalArgumentException("Journal segments need room for a record and at least one must be kept");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.codec = codec;
+        openSegments();
+        this.flusher = Thread.ofVirtual().name("event-journal-flusher").start(() -> flushPeriodically(flushInterval));
+    }
+
+    private void openSegments() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .forEach(path -> segments.add(JournalSegment.open(path, segmentSize)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open event journal in " + directory, e);
+        }
+        if (segments.isEmpty()) {
+            segments.add(JournalSegment.create(directory, 1, segmentSize));
+        }
+        log.info("Event journal opened in {} with {} segments", directory, segments.size());
+    }
+
+    /**
+     * Append the events in order. Events are durable once the next flush has run.
+     */
+    public void append(Collection<? extends DomainEvent<?>> events) {
+        writeLock.lock();
+        try {
+            checkOpen();
+            for (DomainEvent<?> event : events) {
+                appendOne(event);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void appendOne(DomainEvent<?> event) {
+        byte[] eventType = event.eventType().getBytes(StandardCharsets.UTF_8);
+        byte[] payload = codec.encodeBinary(event);
+        UUID aggregateId = codec.aggregateKey(event);
+        if (JournalSegment.recordLength(eventType, payload) > segmentSize) {
+            throw new IllegalArgumentException(event.eventType() + " " + event.eventId()
+                + " does not fit in a journal segment of " + segmentSize + " bytes");
+        }
+        if (!active().append(event.eventId(), aggregateId, event.occurredOn(), eventType, payload)) {
+            rollOver();
+            active().append(event.eventId(), aggregateId, event.occurredOn(), eventType, payload);
+        }
+    }
+
+    private void rollOver() {
+        JournalSegment full = active();
+        full.flush();
+        segments.add(JournalSegment.create(directory, full.number() + 1, segmentSize));
+        while (segments.size() > maxSegments) {
+            JournalSegment expired = segments.removeFirst();
+            expired.delete();
+            log.debug("Deleted journal segment {} past retention", expired.number());
+        }
+    }
+
+    /**
+     * All retained events of one aggregate, oldest first.
+     */
+    public List<DomainEvent<?>> readAggregate(UUID aggregateId) {
+        List<DomainEvent<?>> events = new ArrayList<>();
+        for (JournalSegment segment : segments) {
+            segment.scanAggregate(aggregateId, record -> events.add(decode(record)));
+        }
+        return events;
+    }
+
+    /**
+     * Replay, in append order, every retained event that occurred in [from, to).
+     */
+    public void replay(Instant from, Instant to, Consumer<? super DomainEvent<?>> action) {
+        for (JournalSegment segment : segments) {
+            if (segment.overlaps(from, to)) {
+                segment.scan(0, (aggregateId, occurredOn) -> !occurredOn.isBefore(from) && occurredOn.isBefore(to),
+                    record -> action.accept(decode(record)));
+            }
+        }
+    }
+
+    private DomainEvent<?> decode(JournalRecord record) {
+        return codec.decodeBinary(record.eventId(), record.eventType(), record.occurredOn(), record.payload());
+    }
+
+    /**
+     * Force everything appended so far to disk.
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            active().flush();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void flushPeriodically(Duration flushInterval) {
+        while (!closed) {
+            try {
+                Thread.sleep(flushInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Event journal flush failed", e);
+            }
+        }
+    }
+
+    private JournalSegment active() {
+        return segments.getLast();
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Event journal in " + directory + " is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flusher.interrupt();
+            active().flush();
+            segments.forEach(JournalSegment::close);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
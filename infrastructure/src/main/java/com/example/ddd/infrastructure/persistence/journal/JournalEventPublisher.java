@@ -0,0 +1,28 @@
+package com.example.ddd.infrastructure.persistence.journal;
+
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Implementation of EventPublisher that appends events to the local EventJournal.
+ * Nothing is dispatched to listeners; consumers read the journal through its replay API.
+ * Meant for edge nodes and high-rate test environments, where the outbox round trip is the bottleneck.
+ */
+@RequiredArgsConstructor
+public class JournalEventPublisher implements EventPublisher {
+
+    private final EventJournal journal;
+
+    @Override
+    public void publish(DomainEvent<?> event) {
+        journal.append(List.of(event));
+    }
+
+    @Override
+    public void publish(List<DomainEvent<?>> events) {
+        journal.append(events);
+    }
+}
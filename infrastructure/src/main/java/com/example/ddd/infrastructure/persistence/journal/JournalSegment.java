@@ -0,0 +1,239 @@
+package com.example.ddd.infrastructure.persistence.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * One memory-mapped file of the event journal.
+ * Records are laid out back to back:
+ * {@code length:int | seconds:long | nanos:int | aggregateId:2×long | eventId:2×long | typeLength:short | type | payload}.
+ * The length is written last, so a record torn by a crash reads as the end of the segment.
+ * A single writer appends under EventJournal's lock; readers scan up to the published write position.
+ */
+final class JournalSegment implements AutoCloseable {
+
+    static final String SUFFIX = ".journal";
+
+    // Everything before the event type: length, time, aggregate ID, event ID and type length
+    static final int HEADER_BYTES = 4 + 8 + 4 + 16 + 16 + 2;
+
+    private final long number;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    // Sparse index: where each aggregate first appears in this segment
+    private final Map<UUID, Integer> firstPositions = new ConcurrentHashMap<>();
+
+    private volatile int writePosition;
+    private volatile Instant minOccurredOn = Instant.MAX;
+    private volatile Instant maxOccurredOn = Instant.MIN;
+    private boolean dirty;
+
+    private JournalSegment(long number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.number = number;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create and map a new, empty segment of the given size.
+     */
+    static JournalSegment create(Path directory, long number, int size) {
+        Path path = directory.resolve(String.format("%020d%s", number, SUFFIX));
+        return map(number, path, size, StandardOpenOption.CREATE_NEW);
+    }
+
+    /**
+     * Map an existing segment and rebuild its index and write position by scanning its records.
+     */
+    static JournalSegment open(Path path, int minimumSize) {
+        String fileName = path.getFileName().toString();
+        long number = Long.parseLong(fileName.substring(0, fileName.length() - SUFFIX.length()));
+        try {
+            int size = (int) Math.max(Files.size(path), minimumSize);
+            JournalSegment segment = map(number, path, size);
+            segment.recover();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal segment " + path, e);
+        }
+    }
+
+    private static JournalSegment map(long number, Path path, int size, StandardOpenOption... extraOptions) {
+        try {
+            FileChannel channel = FileChannel.open(path, withReadWrite(extraOptions));
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new JournalSegment(number, path, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map journal segment " + path, e);
+        }
+    }
+
+    private static StandardOpenOption[] withReadWrite(StandardOpenOption... extraOptions) {
+        StandardOpenOption[] options = new StandardOpenOption[extraOptions.length + 2];
+        options[0] = StandardOpenOption.READ;
+        options[1] = StandardOpenOption.WRITE;
+        System.arraycopy(extraOptions, 0, options, 2, extraOptions.length);
+        return options;
+    }
+
+    private void recover() {
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + length > buffer.capacity()) {
+                break;
+            }
+            indexRecord(position, aggregateIdAt(position), occurredOnAt(position));
+            position += length;
+        }
+        writePosition = position;
+    }
+
+    /**
+     * Append one record. Returns false, writing nothing, when the segment has no room left for it.
+     */
+    boolean append(UUID eventId, UUID aggregateId, Instant occurredOn, byte[] eventType, byte[] payload) {
+        int length = recordLength(eventType, payload);
+        int position = writePosition;
+        if (position + length > buffer.capacity()) {
+            return false;
+        }
+        buffer.putLong(position + 4, occurredOn.getEpochSecond());
+        buffer.putInt(position + 12, occurredOn.getNano());
+        buffer.putLong(position + 16, aggregateId.getMostSignificantBits());
+        buffer.putLong(position + 24, aggregateId.getLeastSignificantBits());
+        buffer.putLong(position + 32, eventId.getMostSignificantBits());
+        buffer.putLong(position + 40, eventId.getLeastSignificantBits());
+        buffer.putShort(position + 48, (short) eventType.length);
+        buffer.put(position + HEADER_BYTES, eventType);
+        buffer.put(position + HEADER_BYTES + eventType.length, payload);
+        // Publish the record: the length makes it readable after a restart, the write position to live readers
+        buffer.putInt(position, length);
+        indexRecord(position, aggregateId, occurredOn);
+        writePosition = position + length;
+        dirty = true;
+        return true;
+    }
+
+    static int recordLength(byte[] eventType, byte[] payload) {
+        return HEADER_BYTES + eventType.length + payload.length;
+    }
+
+    private void indexRecord(int position, UUID aggregateId, Instant occurredOn) {
+        firstPositions.putIfAbsent(aggregateId, position);
+        if (occurredOn.isBefore(minOccurredOn)) {
+            minOccurredOn = occurredOn;
+        }
+        if (occurredOn.isAfter(maxOccurredOn)) {
+            maxOccurredOn = occurredOn;
+        }
+    }
+
+    /**
+     * Visit the aggregate's records in this segment in append order, scanning from its first appearance.
+     * Does nothing when the aggregate has no record in this segment.
+     */
+    void scanAggregate(UUID aggregateId, Consumer<JournalRecord> action) {
+        Integer first = firstPositions.get(aggregateId);
+        if (first != null) {
+            scan(first, (id, occurredOn) -> id.equals(aggregateId), action);
+        }
+    }
+
+    /**
+     * Visit, in append order, the records from the given position that the filter accepts.
+     * The filter sees only the record header, so rejected records are skipped without copying their payload.
+     */
+    void scan(int fromPosition, BiPredicate<UUID, Instant> filter, Consumer<JournalRecord> action) {
+        int end = writePosition;
+        int position = fromPosition;
+        while (position < end) {
+            int length = buffer.getInt(position);
+            UUID aggregateId = aggregateIdAt(position);
+            Instant occurredOn = occurredOnAt(position);
+            if (filter.test(aggregateId, occurredOn)) {
+                action.accept(readRecord(position, length, aggregateId, occurredOn));
+            }
+            position += length;
+        }
+    }
+
+    boolean overlaps(Instant from, Instant to) {
+        return !maxOccurredOn.isBefore(from) && minOccurredOn.isBefore(to);
+    }
+
+    private JournalRecord readRecord(int position, int length, UUID aggregateId, Instant occurredOn) {
+        UUID eventId = new UUID(buffer.getLong(position + 32), buffer.getLong(position + 40));
+        int typeLength = buffer.getShort(position + 48);
+        byte[] type = new byte[typeLength];
+        buffer.get(position + HEADER_BYTES, type);
+        byte[] payload = new byte[length - HEADER_BYTES - typeLength];
+        buffer.get(position + HEADER_BYTES + typeLength, payload);
+        return new JournalRecord(eventId, aggregateId, occurredOn, new String(type, StandardCharsets.UTF_8), payload);
+    }
+
+    private UUID aggregateIdAt(int position) {
+        return new UUID(buffer.getLong(position + 16), buffer.getLong(position + 24));
+    }
+
+    private Instant occurredOnAt(int position) {
+        return Instant.ofEpochSecond(buffer.getLong(position + 4), buffer.getInt(position + 12));
+    }
+
+    /**
+     * Force appended records to disk. Called by the journal's flusher and on rollover.
+     */
+    void flush() {
+        if (dirty) {
+            dirty = false;
+            buffer.force();
+        }
+    }
+
+    long number() {
+        return number;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete journal segment " + path, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close journal segment " + path, e);
+        }
+    }
+
+    /**
+     * A record as read back from a segment, before its payload is decoded.
+     */
+    record JournalRecord(UUID eventId, UUID aggregateId, Instant occurredOn, String eventType, byte[] payload) {
+    }
+}
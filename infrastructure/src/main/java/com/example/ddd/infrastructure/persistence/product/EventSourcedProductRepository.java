@@ -0,0 +1,182 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductKeyset;
+import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.domain.repository.ProductSelection;
+import com.example.ddd.domain.repository.RepricingSummary;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore.StoredDomainEvent;
+import com.example.ddd.infrastructure.persistence.product.ProductSnapshotStore.Pending;
+import com.example.ddd.infrastructure.persistence.product.ProductSnapshotStore.Snapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Event-sourced implementation of ProductRepository.
+ * A product's events in the event store are its source of truth: findById rebuilds the product from
+ * its latest snapshot plus the events stored after it. Saves append the product's events to the store
+ * in the same transaction as the products row, which ProductRepositoryImpl keeps as the projection
+ * that queries and listings read. Writers that change the products row without a repository, the stock
+ * ledger and the location stock rollup, append their events to the store in their own transaction the same
+ * way, so a product rebuilt from its stream is never behind the row's version.
+ * Once {@code snapshotEvery} events have accumulated since the last snapshot, a new one is written, so a load
+ * never replays more than that many events.
+ * Streams written before event sourcing are incomplete, so changeset 014 snapshotted every product that existed
+ * then from the projection; their loads start from that snapshot. A product whose stream still lacks its
+ * creation event loads from the projection until its first snapshot.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EventSourcedProductRepository implements ProductRepository {
+
+    private final ProductRepositoryImpl projection;
+    private final DomainEventStore eventStore;
+    private final ProductSnapshotStore snapshotStore;
+    private final int snapshotEvery;
+
+    @Override
+    @Transactional
+    public Product save(Product product) {
+        List<DomainEvent<?>> events = product.getDomainEvents();
+        projection.save(product);
+        eventStore.append(events);
+        if (!events.isEmpty()) {
+            snapshotIfDue(product);
+        }
+        return product;
+    }
+
+    @Override
+    @Transactional
+    public List<Product> saveAll(Collection<Product> products) {
+        List<DomainEvent<?>> events = new ArrayList<>();
+        List<Product> changed = new ArrayList<>();
+        for (Product product : products) {
+            if (!product.getDomainEvents().isEmpty()) {
+                events.addAll(product.getDomainEvents());
+                changed.add(product);
+            }
+        }
+        List<Product> saved = projection.saveAll(products);
+        eventStore.append(events);
+        changed.forEach(this::snapshotIfDue);
+        return saved;
+    }
+
+    /**
+     * Adjusts the projection with its conditional update and appends the resulting event to the stream.
+     * No snapshot is taken here, since that would mean loading the product; the next save takes it if due.
+     */
+    @Override
+    @Transactional
+    public ProductStockChangedEvent adjustStock(ProductId id, int delta) {
+        ProductStockChangedEvent event = projection.adjustStock(id, delta);
+        eventStore.append(List.of(event));
+        return event;
+    }
+
+    /**
+     * Reprices the projection chunk by chunk, appending each chunk's events to the store in the chunk's transaction.
+     */
+    @Override
+    public RepricingSummary repriceAll(String repricingId, ProductSelection selection, UnaryOperator<Money> repricer) {
+        return projection.repriceAll(repricingId, selection, repricer, eventStore::append);
+    }
+
+    private void snapshotIfDue(Product product) {
+        Pending pending = snapshotStore.pending(product.getId());
+        if (pending.count() >= snapshotEvery) {
+            snapshotStore.save(product, pending.lastSequence());
+            log.debug("Snapshot of product {} taken at event {}", product.getId().value(), pending.lastSequence());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Product> findById(ProductId id) {
+        Optional<Snapshot> snapshot = snapshotStore.find(id);
+        long after = snapshot.map(Snapshot::eventSequence).orElse(0L);
+        List<DomainEvent<?>> tail = eventStore.readStream(id.toUuid(), after).stream()
+            .<DomainEvent<?>>map(StoredDomainEvent::event)
+            .toList();
+
+        if (snapshot.isPresent()) {
+            Product product = snapshot.get().product();
+            product.replay(tail);
+            return Optional.of(product);
+        }
+        if (tail.isEmpty() || !(tail.getFirst() instanceof ProductCreatedEvent)) {
+            return projection.findById(id);
+        }
+        return Optional.of(Product.fromHistory(tail));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<ProductId> ids) {
+        return projection.findAllById(ids);
+    }
+
+    @Override
+    public List<Product> findPage(ProductId after, int limit) {
+        return projection.findPage(after, limit);
+    }
+
+    @Override
+    public void delete(Product product) {
+        projection.delete(product);
+    }
+
+    @Override
+    public List<Product> findByNameContaining(String searchTerm) {
+        return projection.findByNameContaining(searchTerm);
+    }
+
+    @Override
+    public List<Product> searchActiveByName(String query, int offset, int limit) {
+        return projection.searchActiveByName(query, offset, limit);
+    }
+
+    @Override
+    public List<Product> findAllActive() {
+        return projection.findAllActive();
+    }
+
+    @Override
+    public List<Product> findActivePage(ProductKeyset after, int limit) {
+        return projection.findActivePage(after, limit);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return projection.existsByName(name);
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return projection.findExistingNames(names);
+    }
+
+    @Override
+    public boolean existsById(ProductId id) {
+        return projection.existsById(id);
+    }
+
+    @Override
+    public void deleteById(ProductId id) {
+        projection.deleteById(id);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.repository.ProductKeyset;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of ProductQueryRepository.
+ * Rows are mapped straight into ProductResponse; no entity, Money or Product is built
+ * and nothing is registered in a persistence context.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcProductQueryRepository implements ProductQueryRepository {
+
+    private static final String COLUMNS =
+        "id, name, description, price, currency, stock_quantity, status, created_at, updated_at";
+
+    private static final String FIND_BY_ID_SQL =
+        "SELECT " + COLUMNS + " FROM products WHERE id = :id";
+
+    // Both page queries are served by idx_products_status_created_at_id
+    private static final String FIRST_PAGE_SQL = "SELECT " + COLUMNS + " FROM products "
+        + "WHERE status = 'ACTIVE' ORDER BY created_at, id LIMIT :limit";
+
+    private static final String PAGE_AFTER_SQL = "SELECT " + COLUMNS + " FROM products "
+        + "WHERE status = 'ACTIVE' AND (created_at, id) > (:createdAt, :id) "
+        + "ORDER BY created_at, id LIMIT :limit";
+
+    private static final String UPDATED_AT_SQL = "SELECT updated_at FROM products WHERE id = :id";
+
+    // Served from the top of idx_products_updated_at
+    private static final String LAST_UPDATED_AT_SQL = "SELECT max(updated_at) AS updated_at FROM products";
+
+    private static final RowMapper<Instant> UPDATED_AT_MAPPER = (rs, rowNum) -> {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return updatedAt == null ? null : updatedAt.toInstant();
+    };
+
+    private static final RowMapper<ProductResponse> ROW_MAPPER = (rs, rowNum) -> new ProductResponse(
+        ProductId.of(rs.getObject("id", UUID.class)).value(),
+        rs.getString("name"),
+        rs.getString("description"),
+        rs.getBigDecimal("price"),
+        rs.getString("currency"),
+        rs.getInt("stock_quantity"),
+        rs.getString("status"),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getTimestamp("updated_at").toInstant()
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<ProductResponse> findById(ProductId id) {
+        List<ProductResponse> rows = jdbcTemplate.query(
+            FIND_BY_ID_SQL, new MapSqlParameterSource("id", id.toUuid()), ROW_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public List<ProductResponse> findActivePage(ProductKeyset after, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, parameters, ROW_MAPPER);
+        }
+        parameters.addValue("createdAt", Timestamp.from(after.createdAt()))
+            .addValue("id", after.id().toUuid());
+        return jdbcTemplate.query(PAGE_AFTER_SQL, parameters, ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAt(ProductId id) {
+        List<Instant> rows = jdbcTemplate.query(
+            UPDATED_AT_SQL, new MapSqlParameterSource("id", id.toUuid()), UPDATED_AT_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Instant> findLastUpdatedAt() {
+        List<Instant> rows = jdbcTemplate.query(LAST_UPDATED_AT_SQL, UPDATED_AT_MAPPER);
+        return rows.stream().filter(Objects::nonNull).findFirst();
+    }
+}
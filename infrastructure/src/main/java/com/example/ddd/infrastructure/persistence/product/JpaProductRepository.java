@@ -1,21 +1,86 @@
 package com.example.ddd.infrastructure.persistence.product;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Spring Data JPA repository interface for ProductEntity.
  */
 @Repository
-public interface JpaProductRepository extends JpaRepository<ProductEntity, String> {
+public interface JpaProductRepository extends JpaRepository<ProductEntity, UUID> {
 
     List<ProductEntity> findByNameContainingIgnoreCase(String searchTerm);
 
+    /**
+     * Relevance-ranked name search over active products (PostgreSQL).
+     * Trigram distance is one minus similarity, so this ranks most similar first. The GiST index
+     * idx_products_active_name_trgm_gist returns rows in that order, so a page reads only the top
+     * matches instead of scoring and sorting all of them; rare terms can instead use idx_products_name_trgm.
+     */
+    @Query(value = """
+        SELECT * FROM products
+        WHERE status = 'ACTIVE'
+          AND (name ILIKE :pattern OR name % :query)
+        ORDER BY name <-> :query, id
+        LIMIT :limit OFFSET :offset
+        """, nativeQuery = true)
+    List<ProductEntity> searchActiveByName(@Param("query") String query,
+                                           @Param("pattern") String pattern,
+                                           @Param("offset") int offset,
+                                           @Param("limit") int limit);
+
     @Query("SELECT p FROM ProductEntity p WHERE p.status = 'ACTIVE'")
     List<ProductEntity> findAllActive();
 
+    /**
+     * First page of active products in keyset order.
+     * Served by idx_products_status_created_at_id.
+     */
+    @Query("SELECT p FROM ProductEntity p WHERE p.status = 'ACTIVE' ORDER BY p.createdAt, p.id")
+    List<ProductEntity> findActiveFirstPage(Limit limit);
+
+    /**
+     * Next page of active products strictly after the given (createdAt, id) position.
+     * The row-value comparison lets the composite index seek straight to the position.
+     */
+    @Query("""
+        SELECT p FROM ProductEntity p
+        WHERE p.status = 'ACTIVE'
+          AND (p.createdAt, p.id) > (:createdAt, :id)
+        ORDER BY p.createdAt, p.id
+        """)
+    List<ProductEntity> findActivePageAfter(@Param("createdAt") Instant createdAt,
+                                            @Param("id") UUID id,
+                                            Limit limit);
+
+    /**
+     * First page of all products in primary-key order.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM ProductEntity p ORDER BY p.id")
+    List<ProductEntity> findFirstPage(Limit limit);
+
+    /**
+     * Next page of all products with IDs strictly after the given one, read as a primary-key range scan.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM ProductEntity p WHERE p.id > :id ORDER BY p.id")
+    List<ProductEntity> findPageAfter(@Param("id") UUID id, Limit limit);
+
     boolean existsByName(String name);
+
+    @Query("SELECT p.name FROM ProductEntity p WHERE p.name IN :names")
+    Set<String> findNamesIn(@Param("names") Collection<String> names);
 }
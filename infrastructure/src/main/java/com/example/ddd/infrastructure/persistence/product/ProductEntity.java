@@ -1,5 +1,6 @@
 package com.example.ddd.infrastructure.persistence.product;
 
+import com.example.ddd.domain.model.CurrencyTable;
 import com.example.ddd.domain.model.Money;
 import com.example.ddd.domain.aggregateroot.product.Product;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
@@ -7,26 +8,34 @@ import com.example.ddd.domain.aggregateroot.product.ProductStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Currency;
+import java.util.UUID;
 
 /**
  * JPA Entity for Product.
  * This is the infrastructure representation of the Product aggregate.
+ * Implements Persistable so new products are persisted with a single INSERT
+ * instead of being merged, which would SELECT by the pre-assigned ID first.
+ * The ID is stored as a native UUID rather than its 32-character text form.
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", uniqueConstraints = @UniqueConstraint(name = ProductEntity.UNIQUE_NAME_CONSTRAINT, columnNames = "name"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class ProductEntity {
+public class ProductEntity implements Persistable<UUID> {
+
+    public static final String UNIQUE_NAME_CONSTRAINT = "uk_products_name";
 
     @Id
-    @Column(name = "id", length = 36)
-    private String id;
+    @Column(name = "id")
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -43,6 +52,11 @@ public class ProductEntity {
     @Column(name = "stock_quantity", nullable = false)
     private int stockQuantity;
 
+    // Set with plain JDBC when the product first gets stock at a location, never written through JPA
+    @ColumnDefault("false")
+    @Column(name = "stock_by_location", nullable = false, insertable = false, updatable = false)
+    private boolean stockByLocation;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private ProductStatus status;
@@ -53,11 +67,30 @@ public class ProductEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     /**
      * Convert JPA entity to domain model.
      */
     public Product toDomain() {
-        Money money = Money.of(this.price, Currency.getInstance(this.currency));
+        Money money = Money.of(this.price, CurrencyTable.forCode(this.currency));
         return new Product(
             ProductId.of(this.id),
             this.name,
@@ -66,7 +99,8 @@ public class ProductEntity {
             this.stockQuantity,
             this.status,
             this.createdAt,
-            this.updatedAt
+            this.updatedAt,
+            this.version
         );
     }
 
@@ -75,15 +109,18 @@ public class ProductEntity {
      */
     public static ProductEntity fromDomain(Product product) {
         return new ProductEntity(
-            product.getId().value(),
+            product.getId().toUuid(),
             product.getName(),
             product.getDescription(),
             product.getPrice().getAmount(),
             product.getPrice().getCurrency().getCurrencyCode(),
             product.getStockQuantity(),
+            false,
             product.getStatus(),
             product.getCreatedAt(),
-            product.getUpdatedAt()
+            product.getUpdatedAt(),
+            product.getVersion(),
+            product.isNew()
         );
     }
 }
@@ -0,0 +1,241 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductField;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.exception.StaleAggregateException;
+import com.example.ddd.domain.model.CurrencyTable;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductSelection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Writes only the dirty fields of already persisted products.
+ * Each save is a single {@code UPDATE products SET <changed columns> WHERE id = ? AND version = ?},
+ * without loading or merging the row first. A zero update count means the row was changed
+ * (or deleted) concurrently and is reported as a StaleAggregateException.
+ * Stock adjustments skip the version check: the availability check is the UPDATE's own condition,
+ * so concurrent adjustments of one product queue on its row lock instead of failing and retrying.
+ * Products whose stock is kept per location are never adjusted here; the condition excludes them too.
+ * Bulk repricing locks a chunk of selected rows in ID order and writes their new prices as one batch.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductPartialUpdater {
+
+    private static final String ADD_STOCK_SQL = """
+        UPDATE products SET stock_quantity = stock_quantity + :quantity, updated_at = :updatedAt, version = version + 1
+        WHERE id = :id AND NOT stock_by_location
+        """;
+
+    private static final String REMOVE_STOCK_SQL = """
+        UPDATE products SET stock_quantity = stock_quantity - :quantity, updated_at = :updatedAt, version = version + 1
+        WHERE id = :id AND stock_quantity >= :quantity AND NOT stock_by_location
+        """;
+
+    private static final String STOCK_LEVEL_SQL =
+        "SELECT stock_quantity, stock_by_location, version FROM products WHERE id = :id";
+
+    private static final String UPDATE_PRICE_SQL = """
+        UPDATE products SET price = :price, currency = :currency, updated_at = :updatedAt, version = version + 1
+        WHERE id = :id
+        """;
+
+    private static final RowMapper<PriceRow> PRICE_ROW_MAPPER = (rs, rowNum) -> new PriceRow(
+        ProductId.of(rs.getObject("id", UUID.class)),
+        Money.of(rs.getBigDecimal("price"), CurrencyTable.forCode(rs.getString("currency"))),
+        rs.getLong("version"));
+
+    private static final RowMapper<StockLevel> STOCK_LEVEL_MAPPER = (rs, rowNum) ->
+        new StockLevel(rs.getInt("stock_quantity"), rs.getBoolean("stock_by_location"), rs.getLong("version"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Write the product's dirty fields. Returns false when there was nothing to write.
+     */
+    public boolean update(Product product) {
+        Set<ProductField> dirtyFields = product.getDirtyFields();
+        if (dirtyFields.isEmpty()) {
+            return false;
+        }
+        int updated = jdbcTemplate.update(updateSql(dirtyFields), parameters(product));
+        if (updated == 0) {
+            throw StaleAggregateException.forVersion(Product.class, product.getId().value(), product.getVersion());
+        }
+        return true;
+    }
+
+    /**
+     * Write the dirty fields of many products as JDBC batches, one batch per distinct set of dirty fields.
+     * Returns the products that were written.
+     */
+    public List<Product> updateAll(Collection<Product> products) {
+        Map<Set<ProductField>, List<Product>> byDirtyFields = products.stream()
+            .filter(product -> !product.getDirtyFields().isEmpty())
+            .collect(Collectors.groupingBy(Product::getDirtyFields, LinkedHashMap::new, Collectors.toList()));
+
+        byDirtyFields.forEach((dirtyFields, group) -> {
+            SqlParameterSource[] batch = group.stream()
+                .map(this::parameters)
+                .toArray(SqlParameterSource[]::new);
+            int[] counts = jdbcTemplate.batchUpdate(updateSql(dirtyFields), batch);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    Product stale = group.get(i);
+                    throw StaleAggregateException.forVersion(Product.class, stale.getId().value(), stale.getVersion());
+                }
+            }
+        });
+
+        return byDirtyFields.values().stream()
+            .flatMap(List::stream)
+            .toList();
+    }
+
+    /**
+     * Add {@code delta} units of stock, or remove them when negative, with one conditional UPDATE.
+     * Returns the stock level after the change, read back while the UPDATE still holds the row lock,
+     * or empty when the product does not exist, has too little stock or keeps its stock per location.
+     */
+    public Optional<StockLevel> adjustStock(ProductId id, int delta, Instant updatedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("id", id.toUuid())
+            .addValue("quantity", Math.abs(delta))
+            .addValue("updatedAt", Timestamp.from(updatedAt));
+        int updated = jdbcTemplate.update(delta > 0 ? ADD_STOCK_SQL : REMOVE_STOCK_SQL, parameters);
+        return updated == 0 ? Optional.empty() : findStockLevel(id);
+    }
+
+    /**
+     * Read a product's stock quantity, whether it is kept per location, and the version.
+     */
+    public Optional<StockLevel> findStockLevel(ProductId id) {
+        return jdbcTemplate.query(STOCK_LEVEL_SQL, new MapSqlParameterSource("id", id.toUuid()), STOCK_LEVEL_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Lock and read the price of up to {@code limit} selected products with IDs after {@code after},
+     * in ID order, or from the first ID when {@code after} is null.
+     */
+    public List<PriceRow> lockPrices(ProductSelection selection, UUID after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT id, price, currency, version FROM products WHERE 1 = 1");
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        if (selection.status() != null) {
+            sql.append(" AND status = :status");
+            parameters.addValue("status", selection.status().name());
+        }
+        if (selection.namePattern() != null) {
+            sql.append(" AND LOWER(name) LIKE :namePattern ESCAPE '\\'");
+            parameters.addValue("namePattern", likePattern(selection.namePattern()));
+        }
+        if (selection.ids() != null) {
+            if (selection.ids().isEmpty()) {
+                return List.of();
+            }
+            sql.append(" AND id IN (:ids)");
+            parameters.addValue("ids", selection.ids().stream().map(ProductId::toUuid).toList());
+        }
+        if (after != null) {
+            sql.append(" AND id > :after");
+            parameters.addValue("after", after);
+        }
+        sql.append(" ORDER BY id LIMIT :limit FOR UPDATE");
+        return jdbcTemplate.query(sql.toString(), parameters, PRICE_ROW_MAPPER);
+    }
+
+    /**
+     * Write new prices as one JDBC batch. Each row carries the product's new price.
+     */
+    public void updatePrices(List<PriceRow> repriced, Instant updatedAt) {
+        if (repriced.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.from(updatedAt);
+        jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, repriced.stream()
+            .map(row -> new MapSqlParameterSource()
+                .addValue("id", row.id().toUuid())
+                .addValue("price", row.price().getAmount())
+                .addValue("currency", row.price().getCurrency().getCurrencyCode())
+                .addValue("updatedAt", timestamp))
+            .toArray(SqlParameterSource[]::new));
+    }
+
+    // Translate a name pattern with * wildcards to a lower-case LIKE pattern
+    private static String likePattern(String namePattern) {
+        StringBuilder like = new StringBuilder(namePattern.length() + 2);
+        for (char c : namePattern.toLowerCase(Locale.ROOT).toCharArray()) {
+            switch (c) {
+                case '*' -> like.append('%');
+                case '%', '_', '\\' -> like.append('\\').append(c);
+                default -> like.append(c);
+            }
+        }
+        return like.toString();
+    }
+
+    private static String updateSql(Set<ProductField> dirtyFields) {
+        StringBuilder sql = new StringBuilder("UPDATE products SET ");
+        for (ProductField field : ProductField.values()) {
+            if (dirtyFields.contains(field)) {
+                sql.append(assignment(field)).append(", ");
+            }
+        }
+        return sql.append("updated_at = :updatedAt, version = version + 1 WHERE id = :id AND version = :version")
+            .toString();
+    }
+
+    private static String assignment(ProductField field) {
+        return switch (field) {
+            case NAME -> "name = :name";
+            case DESCRIPTION -> "description = :description";
+            case PRICE -> "price = :price, currency = :currency";
+            case STOCK_QUANTITY -> "stock_quantity = :stockQuantity";
+            case STATUS -> "status = :status";
+        };
+    }
+
+    private SqlParameterSource parameters(Product product) {
+        return new MapSqlParameterSource()
+            .addValue("id", product.getId().toUuid())
+            .addValue("version", product.getVersion())
+            .addValue("name", product.getName())
+            .addValue("description", product.getDescription())
+            .addValue("price", product.getPrice().getAmount())
+            .addValue("currency", product.getPrice().getCurrency().getCurrencyCode())
+            .addValue("stockQuantity", product.getStockQuantity())
+            .addValue("status", product.getStatus().name())
+            .addValue("updatedAt", Timestamp.from(product.getUpdatedAt()));
+    }
+
+    /**
+     * A product's stock quantity, whether it is kept per location, and the row version that holds it.
+     */
+    public record StockLevel(int quantity, boolean byLocation, long version) {
+    }
+
+    /**
+     * A product's price and the row version that holds it.
+     */
+    public record PriceRow(ProductId id, Money price, long version) {
+    }
+}
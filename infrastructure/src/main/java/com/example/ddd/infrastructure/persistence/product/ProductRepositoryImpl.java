@@ -2,40 +2,264 @@ package com.example.ddd.infrastructure.persistence.product;
 
 import com.example.ddd.domain.aggregateroot.product.Product;
 import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductKeyset;
 import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.domain.repository.ProductSelection;
+import com.example.ddd.domain.repository.RepricingSummary;
+import com.example.ddd.infrastructure.persistence.product.ProductPartialUpdater.PriceRow;
+import com.example.ddd.infrastructure.persistence.product.ProductPartialUpdater.StockLevel;
+import com.example.ddd.infrastructure.persistence.product.RepricingProgressStore.Progress;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of ProductRepository using Spring Data JPA.
  * This adapter translates between domain and infrastructure layers.
+ * New products are inserted through JPA; changes to persisted products are written
+ * as targeted updates of their dirty fields by ProductPartialUpdater.
+ * Name uniqueness is enforced by the uk_products_name constraint, so a create is a single
+ * INSERT and a violation surfaces as InvalidDomainStateException.
+ * Pending domain events are written to the outbox in the same transaction as the change
+ * and then cleared from the aggregate.
+ * Stock adjustments bypass the aggregate: ProductPartialUpdater applies them as one conditional UPDATE.
+ * Bulk repricing does too: it locks the selected rows a chunk at a time, writes the new prices as one batch
+ * and publishes the chunk's price-changed events together, committing each chunk on its own together with
+ * the repricing's progress in RepricingProgressStore.
  */
 @Component
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    // Matches hibernate.jdbc.batch_size so each flush sends full JDBC batches
+    private static final int BATCH_SIZE = 500;
+
+    // Products locked, repriced and committed together by repriceAll
+    private static final int REPRICE_CHUNK = 1000;
+
     private final JpaProductRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final ProductPartialUpdater partialUpdater;
+    private final EventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final RepricingProgressStore progressStore;
 
     @Override
+    @Transactional
     public Product save(Product product) {
-        ProductEntity entity = ProductEntity.fromDomain(product);
-        ProductEntity savedEntity = jpaRepository.save(entity);
-        return savedEntity.toDomain();
+        try {
+            if (product.isNew()) {
+                // Flush now so a duplicate name is reported here rather than at commit
+                jpaRepository.saveAndFlush(ProductEntity.fromDomain(product));
+                product.markPersisted(product.getVersion());
+            } else if (partialUpdater.update(product)) {
+                product.markPersisted(product.getVersion() + 1);
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, product.getName());
+        }
+        publishEvents(List.of(product));
+        return product;
+    }
+
+    @Override
+    @Transactional
+    public List<Product> saveAll(Collection<Product> products) {
+        List<ProductEntity> chunk = new ArrayList<>(BATCH_SIZE);
+        List<Product> inserted = new ArrayList<>();
+        List<Product> existing = new ArrayList<>();
+        try {
+            for (Product product : products) {
+                if (!product.isNew()) {
+                    existing.add(product);
+                    continue;
+                }
+                inserted.add(product);
+                chunk.add(ProductEntity.fromDomain(product));
+                if (chunk.size() == BATCH_SIZE) {
+                    flushChunk(chunk);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                flushChunk(chunk);
+            }
+            inserted.forEach(product -> product.markPersisted(product.getVersion()));
+            partialUpdater.updateAll(existing)
+                .forEach(product -> product.markPersisted(product.getVersion() + 1));
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, null);
+        }
+        publishEvents(products);
+        return List.copyOf(products);
+    }
+
+    @Override
+    @Transactional
+    public ProductStockChangedEvent adjustStock(ProductId id, int delta) {
+        if (delta == 0) {
+            throw new InvalidDomainStateException("Stock adjustment cannot be zero");
+        }
+        StockLevel after = partialUpdater.adjustStock(id, delta, Instant.now())
+            .orElseThrow(() -> partialUpdater.findStockLevel(id)
+                .<RuntimeException>map(level -> level.byLocation()
+                    ? InvalidDomainStateException.stockKeptByLocation(id.value())
+                    : InvalidDomainStateException.insufficientStock(level.quantity(), -delta))
+                .orElseGet(() -> EntityNotFoundException.forId(Product.class, id.value())));
+        ProductStockChangedEvent event = new ProductStockChangedEvent(
+            id, after.quantity() - delta, after.quantity(), after.version());
+        eventPublisher.publish(event);
+        return event;
+    }
+
+    @Override
+    public RepricingSummary repriceAll(String repricingId, ProductSelection selection, UnaryOperator<Money> repricer) {
+        return repriceAll(repricingId, selection, repricer, events -> { });
+    }
+
+    /**
+     * Reprice the selection as repriceAll does, also handing each chunk's events to
+     * {@code inTransaction} before the chunk commits.
+     */
+    public RepricingSummary repriceAll(String repricingId, ProductSelection selection, UnaryOperator<Money> repricer,
+                                       Consumer<List<DomainEvent<?>>> inTransaction) {
+        // An ID set is walked in chunks of its own sorted IDs, so no IN list grows past the chunk size
+        List<UUID> ids = selection.ids() == null ? null
+            : selection.ids().stream().map(ProductId::toUuid).sorted().toList();
+        progressStore.begin(repricingId);
+        Progress progress;
+        do {
+            progress = transactionTemplate.execute(
+                status -> repriceChunk(repricingId, selection, ids, repricer, inTransaction));
+        } while (!progress.completed());
+        return progress.summary();
+    }
+
+    private Progress repriceChunk(String repricingId, ProductSelection selection, List<UUID> ids,
+                                  UnaryOperator<Money> repricer, Consumer<List<DomainEvent<?>>> inTransaction) {
+        Progress progress = progressStore.lock(repricingId);
+        if (progress.completed()) {
+            return progress;
+        }
+        UUID after = progress.lastProductId();
+        List<PriceRow> rows;
+        UUID last;
+        boolean completed;
+        if (ids != null) {
+            int found = after == null ? -1 : Collections.binarySearch(ids, after);
+            int from = found >= 0 ? found + 1 : -found - 1;
+            List<UUID> chunk = ids.subList(from, Math.min(from + REPRICE_CHUNK, ids.size()));
+            rows = chunk.isEmpty() ? List.of() : partialUpdater.lockPrices(selection.withIds(
+                chunk.stream().map(ProductId::of).collect(Collectors.toSet())), null, REPRICE_CHUNK);
+            last = chunk.isEmpty() ? after : chunk.getLast();
+            completed = from + chunk.size() == ids.size();
+        } else {
+            rows = partialUpdater.lockPrices(selection, after, REPRICE_CHUNK);
+            last = rows.isEmpty() ? after : rows.getLast().id().toUuid();
+            completed = rows.size() < REPRICE_CHUNK;
+        }
+
+        List<PriceRow> changed = new ArrayList<>(rows.size());
+        List<DomainEvent<?>> events = new ArrayList<>(rows.size());
+        for (PriceRow row : rows) {
+            Money newPrice = repricer.apply(row.price());
+            if (!newPrice.equals(row.price())) {
+                changed.add(new PriceRow(row.id(), newPrice, row.version() + 1));
+                events.add(new ProductPriceChangedEvent(row.id(), row.price(), newPrice, row.version() + 1));
+            }
+        }
+        partialUpdater.updatePrices(changed, Instant.now());
+        if (!events.isEmpty()) {
+            eventPublisher.publish(events);
+            inTransaction.accept(events);
+        }
+        Progress advanced = progress.advance(last, rows.size(), changed.size(), completed);
+        progressStore.save(repricingId, advanced);
+        return advanced;
+    }
+
+    /**
+     * Write the products' pending events to the outbox as one batch and clear them.
+     */
+    private void publishEvents(Collection<Product> products) {
+        List<DomainEvent<?>> events = products.stream()
+            .flatMap(product -> product.getDomainEvents().stream())
+            .collect(Collectors.toList());
+        eventPublisher.publish(events);
+        products.forEach(Product::clearDomainEvents);
+    }
+
+    /**
+     * Map a violation of the unique name constraint to the domain error callers already handle.
+     * Any other integrity violation is rethrown unchanged.
+     */
+    private static RuntimeException translateIntegrityViolation(DataIntegrityViolationException e, String name) {
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (!detail.contains(ProductEntity.UNIQUE_NAME_CONSTRAINT)) {
+            return e;
+        }
+        return new InvalidDomainStateException(name == null
+            ? "A product with one of the given names already exists"
+            : "Product with name '" + name + "' already exists");
+    }
+
+    /**
+     * Write one chunk as JDBC batches and clear the persistence context
+     * so large batches don't accumulate managed entities.
+     */
+    private void flushChunk(List<ProductEntity> chunk) {
+        jpaRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
     }
 
     @Override
     public Optional<Product> findById(ProductId id) {
-        return jpaRepository.findById(id.value())
+        return jpaRepository.findById(id.toUuid())
             .map(ProductEntity::toDomain);
     }
 
     @Override
-    public List<Product> findAll() {
-        return List.of();
+    public List<Product> findAllById(Collection<ProductId> ids) {
+        List<UUID> rawIds = ids.stream().map(ProductId::toUuid).toList();
+        return jpaRepository.findAllById(rawIds).stream()
+            .map(ProductEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findPage(ProductId after, int limit) {
+        List<ProductEntity> entities = after == null
+            ? jpaRepository.findFirstPage(Limit.of(limit))
+            : jpaRepository.findPageAfter(after.toUuid(), Limit.of(limit));
+        return entities.stream()
+            .map(ProductEntity::toDomain)
+            .collect(Collectors.toList());
     }
 
     @Override
@@ -45,12 +269,12 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     @Override
     public boolean existsById(ProductId id) {
-        return jpaRepository.existsById(id.value());
+        return jpaRepository.existsById(id.toUuid());
     }
 
     @Override
     public void deleteById(ProductId id) {
-        jpaRepository.deleteById(id.value());
+        jpaRepository.deleteById(id.toUuid());
     }
 
     @Override
@@ -60,6 +284,24 @@ public class ProductRepositoryImpl implements ProductRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> searchActiveByName(String query, int offset, int limit) {
+        return jpaRepository.searchActiveByName(query, containsPattern(query), offset, limit).stream()
+            .map(ProductEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Build an ILIKE pattern matching the query anywhere, with LIKE wildcards in the query escaped.
+     */
+    private static String containsPattern(String query) {
+        String escaped = query
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
     @Override
     public List<Product> findAllActive() {
         return jpaRepository.findAllActive().stream()
@@ -67,8 +309,26 @@ public class ProductRepositoryImpl implements ProductRepository {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> findActivePage(ProductKeyset after, int limit) {
+        List<ProductEntity> entities = after == null
+            ? jpaRepository.findActiveFirstPage(Limit.of(limit))
+            : jpaRepository.findActivePageAfter(after.createdAt(), after.id().toUuid(), Limit.of(limit));
+        return entities.stream()
+            .map(ProductEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsByName(String name) {
         return jpaRepository.existsByName(name);
     }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        return jpaRepository.findNamesIn(names);
+    }
 }
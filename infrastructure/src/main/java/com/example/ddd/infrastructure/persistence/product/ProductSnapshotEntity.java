@@ -0,0 +1,57 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA mapping of the product_snapshots table.
+ * Rows are written and read with plain JDBC by ProductSnapshotStore;
+ * the mapping keeps the table under schema validation and lets tests generate it.
+ */
+@Entity
+@Table(name = "product_snapshots")
+@Data
+@NoArgsConstructor
+public class ProductSnapshotEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Column(name = "event_sequence", nullable = false)
+    private long eventSequence;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @Column(name = "price", nullable = false, precision = 19, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "stock_quantity", nullable = false)
+    private int stockQuantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ProductStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+}
@@ -0,0 +1,114 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.model.CurrencyTable;
+import com.example.ddd.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads and writes the latest snapshot of event-sourced products in product_snapshots.
+ * A snapshot holds the product's full state together with the event store sequence of the last event it includes.
+ */
+@RequiredArgsConstructor
+public class ProductSnapshotStore {
+
+    private static final String SELECT_SQL = """
+        SELECT product_id, event_sequence, name, description, price, currency, stock_quantity, status,
+               created_at, updated_at, version
+        FROM product_snapshots WHERE product_id = :productId
+        """;
+
+    private static final String UPDATE_SQL = """
+        UPDATE product_snapshots SET event_sequence = :eventSequence, name = :name, description = :description,
+            price = :price, currency = :currency, stock_quantity = :stockQuantity, status = :status,
+            updated_at = :updatedAt, version = :version
+        WHERE product_id = :productId
+        """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO product_snapshots (product_id, event_sequence, name, description, price, currency,
+            stock_quantity, status, created_at, updated_at, version)
+        VALUES (:productId, :eventSequence, :name, :description, :price, :currency,
+            :stockQuantity, :status, :createdAt, :updatedAt, :version)
+        """;
+
+    // Events stored after the product's snapshot (all of them when there is none), in one range scan
+    private static final String PENDING_SQL = """
+        SELECT count(*) AS pending, max(e.id) AS last_sequence FROM domain_events e
+        WHERE e.aggregate_id = :productId
+          AND e.id > COALESCE((SELECT s.event_sequence FROM product_snapshots s WHERE s.product_id = :productId), 0)
+        """;
+
+    private static final RowMapper<Snapshot> ROW_MAPPER = (rs, rowNum) -> new Snapshot(
+        rs.getLong("event_sequence"),
+        new Product(
+            ProductId.of(rs.getObject("product_id", UUID.class)),
+            rs.getString("name"),
+            rs.getString("description"),
+            Money.of(rs.getBigDecimal("price"), CurrencyTable.forCode(rs.getString("currency"))),
+            rs.getInt("stock_quantity"),
+            ProductStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant(),
+            rs.getLong("version")
+        )
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<Snapshot> find(ProductId id) {
+        return jdbcTemplate.query(SELECT_SQL, new MapSqlParameterSource("productId", id.toUuid()), ROW_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Events stored for the product since its snapshot, and the sequence of the newest one.
+     */
+    public Pending pending(ProductId id) {
+        return jdbcTemplate.queryForObject(PENDING_SQL, new MapSqlParameterSource("productId", id.toUuid()),
+            (rs, rowNum) -> new Pending(rs.getInt("pending"), rs.getLong("last_sequence")));
+    }
+
+    /**
+     * Store the product's current state as its snapshot, replacing any previous one.
+     */
+    public void save(Product product, long eventSequence) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("productId", product.getId().toUuid())
+            .addValue("eventSequence", eventSequence)
+            .addValue("name", product.getName())
+            .addValue("description", product.getDescription())
+            .addValue("price", product.getPrice().getAmount())
+            .addValue("currency", product.getPrice().getCurrency().getCurrencyCode())
+            .addValue("stockQuantity", product.getStockQuantity())
+            .addValue("status", product.getStatus().name())
+            .addValue("createdAt", Timestamp.from(product.getCreatedAt()))
+            .addValue("updatedAt", Timestamp.from(product.getUpdatedAt()))
+            .addValue("version", product.getVersion());
+        if (jdbcTemplate.update(UPDATE_SQL, parameters) == 0) {
+            jdbcTemplate.update(INSERT_SQL, parameters);
+        }
+    }
+
+    /**
+     * A stored snapshot: the product as of the event with the given store sequence.
+     */
+    public record Snapshot(long eventSequence, Product product) {
+    }
+
+    /**
+     * Events stored after a product's snapshot.
+     */
+    public record Pending(int count, long lastSequence) {
+    }
+}
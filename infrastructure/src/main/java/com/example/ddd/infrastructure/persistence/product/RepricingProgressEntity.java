@@ -0,0 +1,42 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA mapping of the repricing_progress table.
+ * Rows are written and read with plain JDBC by RepricingProgressStore;
+ * the mapping keeps the table under schema validation and lets tests generate it.
+ */
+@Entity
+@Table(name = "repricing_progress")
+@Data
+@NoArgsConstructor
+public class RepricingProgressEntity {
+
+    @Id
+    @Column(name = "repricing_id", length = 100)
+    private String repricingId;
+
+    @Column(name = "last_product_id")
+    private UUID lastProductId;
+
+    @Column(name = "selected", nullable = false)
+    private long selected;
+
+    @Column(name = "repriced", nullable = false)
+    private long repriced;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,102 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.repository.RepricingSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of bulk repricings in repricing_progress, one row per repricing ID.
+ * Each chunk locks the row, reprices the products after the last one recorded and advances the row in the
+ * chunk's own transaction, so a retry of a failed repricing resumes where it stopped, and two attempts
+ * running at once take turns chunk by chunk instead of repricing the same products.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepricingProgressStore {
+
+    private static final String LOCK_SQL = """
+        SELECT last_product_id, selected, repriced, completed FROM repricing_progress
+        WHERE repricing_id = :repricingId FOR UPDATE
+        """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO repricing_progress (repricing_id, selected, repriced, completed, updated_at)
+        VALUES (:repricingId, 0, 0, FALSE, :updatedAt)
+        """;
+
+    private static final String UPDATE_SQL = """
+        UPDATE repricing_progress SET last_product_id = :lastProductId, selected = :selected, repriced = :repriced,
+            completed = :completed, updated_at = :updatedAt
+        WHERE repricing_id = :repricingId
+        """;
+
+    private static final String EXISTS_SQL =
+        "SELECT COUNT(*) FROM repricing_progress WHERE repricing_id = :repricingId";
+
+    private static final RowMapper<Progress> PROGRESS_MAPPER = (rs, rowNum) -> new Progress(
+        rs.getObject("last_product_id", UUID.class),
+        rs.getLong("selected"),
+        rs.getLong("repriced"),
+        rs.getBoolean("completed")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Record the repricing as started, unless an earlier attempt with the same ID already did.
+     */
+    public void begin(String repricingId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("repricingId", repricingId)
+            .addValue("updatedAt", Timestamp.from(Instant.now()));
+        Integer rows = jdbcTemplate.queryForObject(EXISTS_SQL, parameters, Integer.class);
+        if (rows == null || rows == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, parameters);
+            } catch (DuplicateKeyException e) {
+                // Another attempt of the same repricing started it first
+            }
+        }
+    }
+
+    /**
+     * Lock and read the repricing's progress until the calling transaction ends. Call begin first.
+     */
+    public Progress lock(String repricingId) {
+        return jdbcTemplate.queryForObject(LOCK_SQL, new MapSqlParameterSource("repricingId", repricingId),
+            PROGRESS_MAPPER);
+    }
+
+    public void save(String repricingId, Progress progress) {
+        jdbcTemplate.update(UPDATE_SQL, new MapSqlParameterSource()
+            .addValue("repricingId", repricingId)
+            .addValue("lastProductId", progress.lastProductId())
+            .addValue("selected", progress.selected())
+            .addValue("repriced", progress.repriced())
+            .addValue("completed", progress.completed())
+            .addValue("updatedAt", Timestamp.from(Instant.now())));
+    }
+
+    /**
+     * How far a repricing has got: the last product ID it has passed, in the order it walks the selection,
+     * and the products selected and repriced so far.
+     */
+    public record Progress(UUID lastProductId, long selected, long repriced, boolean completed) {
+
+        public Progress advance(UUID lastProductId, int selected, int repriced, boolean completed) {
+            return new Progress(lastProductId, this.selected + selected, this.repriced + repriced, completed);
+        }
+
+        public RepricingSummary summary() {
+            return new RepricingSummary(selected, repriced);
+        }
+    }
+}
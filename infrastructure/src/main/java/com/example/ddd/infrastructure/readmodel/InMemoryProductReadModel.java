@@ -0,0 +1,399 @@
+package com.example.ddd.infrastructure.readmodel;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductInfoUpdatedEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStatusChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductKeyset;
+import com.example.ddd.infrastructure.config.ProductReadModelProperties;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore.StoredDomainEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory projection of the product catalog that answers product queries without touching the database.
+ * At startup it loads every row of the products table, then keeps itself current by tailing the domain_events
+ * table by sequence on a virtual thread. Every node tails the whole store, whichever node's relay copied an
+ * event there. Until that first load completes, queries fall through to the JDBC repository.
+ * <p>
+ * Reads never lock: products are kept in a ConcurrentHashMap by ID and, while active, in a ConcurrentSkipListMap
+ * in keyset order. The single writer replaces one immutable entry per event in both, so applying a poll costs
+ * in proportion to the events it read, never to the size of the catalog. A reader may see some of a poll's
+ * events applied before the rest; the last update time and the watermark only move once all of them are.
+ * A load builds new maps and swaps them in whole.
+ * Each product keeps the aggregate version it was last brought to, and events older than that are ignored.
+ * Events of the current version are applied again, which is harmless because every event carries absolute
+ * values. The load also replays the last {@code loadOverlap} stored events, which covers events that
+ * transactions in flight during the load commit below the newest sequence.
+ * <p>
+ * Sequences are assigned on insert, so a lower one can commit after a higher one has been read. A missing
+ * sequence is kept as a gap and read again on later polls until it appears or {@code gapTimeout} passes,
+ * after which it is taken to be a rolled-back insert.
+ * <p>
+ * {@link #watermark()} is the store sequence through which the model has applied every event.
+ * Timestamps of changes applied from events are the events' occurrence times. Hard deletes publish no
+ * event, so a deleted product stays visible until the next load.
+ */
+@Slf4j
+public class InMemoryProductReadModel implements ProductQueryRepository, SmartLifecycle {
+
+    private static final String LOAD_SQL = """
+        SELECT id, name, description, price, currency, stock_quantity, status, created_at, updated_at, version
+        FROM products
+        """;
+
+    // Same order as the (created_at, id) index: UUIDs compare as unsigned bytes in the database
+    private static final Comparator<Position> KEYSET_ORDER = Comparator
+        .comparing(Position::createdAt)
+        .thenComparing(Position::uuid, InMemoryProductReadModel::compareUnsigned);
+
+    // A jump in sequence larger than this is not tracked sequence by sequence
+    private static final int MAX_GAP = 1_000;
+
+    private final ProductQueryRepository fallback;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DomainEventStore eventStore;
+    private final ProductReadModelProperties properties;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Timer lag;
+
+    // Tail position and missing sequences below it; guarded by writeLock
+    private long cursor;
+    private long loadedThrough;
+    private final NavigableMap<Long, Instant> gaps = new TreeMap<>();
+
+    private volatile Catalog catalog;
+    private volatile Instant lastUpdatedAt;
+    private volatile long watermark;
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public InMemoryProductReadModel(ProductQueryRepository fallback, NamedParameterJdbcTemplate jdbcTemplate,
+                                    DomainEventStore eventStore, ProductReadModelProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.fallback = fallback;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventStore = eventStore;
+        this.properties = properties;
+        this.lag = Timer.builder("products.read.model.lag")
+            .description("Time from a product change to the read model reflecting it")
+            .register(meterRegistry);
+        Gauge.builder("products.read.model.size", this, model -> {
+                Catalog current = model.catalog;
+                return current == null ? 0 : current.byId().size();
+            })
+            .description("Products held by the read model")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        load();
+        running = true;
+        worker = Thread.ofVirtual().name("product-read-model").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(properties.pollInterval().multipliedBy(4));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            int read;
+            try {
+                read = poll();
+            } catch (RuntimeException e) {
+                log.error("Product read model poll failed; retrying after {}", properties.pollInterval(), e);
+                read = 0;
+            }
+            // A full batch means more events are likely waiting
+            if (read < properties.batchSize()) {
+                try {
+                    Thread.sleep(properties.pollInterval());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the model with the current contents of the products table, and tail the event store from
+     * {@code loadOverlap} events before its newest one.
+     */
+    public void load() {
+        writeLock.lock();
+        try {
+            Instant startedAt = Instant.now();
+            // Read before the table, so events committed during the load have later sequences or lie in the overlap
+            long lastSequence = eventStore.lastSequence();
+            ConcurrentMap<ProductId, Entry> byId = new ConcurrentHashMap<>();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                UUID uuid = rs.getObject("id", UUID.class);
+                ProductResponse product = new ProductResponse(
+                    ProductId.of(uuid).value(),
+                    rs.getString("name"),
+                    rs.getString("description"),
+                    rs.getBigDecimal("price"),
+                    rs.getString("currency"),
+                    rs.getInt("stock_quantity"),
+                    rs.getString("status"),
+                    rs.getTimestamp("created_at").toInstant(),
+                    rs.getTimestamp("updated_at").toInstant()
+                );
+                byId.put(ProductId.of(uuid), new Entry(uuid, product, rs.getLong("version")));
+            });
+            ConcurrentNavigableMap<Position, Entry> active = new ConcurrentSkipListMap<>(KEYSET_ORDER);
+            Instant loadedUpdatedAt = null;
+            for (Entry entry : byId.values()) {
+                if (entry.isActive()) {
+                    active.put(entry.position(), entry);
+                }
+                loadedUpdatedAt = later(loadedUpdatedAt, entry.product().updatedAt());
+            }
+            cursor = Math.max(0, lastSequence - properties.loadOverlap());
+            loadedThrough = lastSequence;
+            gaps.clear();
+            lastUpdatedAt = loadedUpdatedAt;
+            watermark = cursor;
+            catalog = new Catalog(byId, active);
+            log.info("Product read model loaded {} products ({} active) in {} ms",
+                byId.size(), active.size(), Duration.between(startedAt, Instant.now()).toMillis());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Store sequence through which every event has been applied. Empty until the model has loaded.
+     */
+    public OptionalLong watermark() {
+        return catalog == null ? OptionalLong.empty() : OptionalLong.of(watermark);
+    }
+
+    /**
+     * Apply the events stored after the cursor, and those that have filled earlier gaps, to the catalog.
+     * Returns the number of events read after the cursor.
+     */
+    int poll() {
+        writeLock.lock();
+        try {
+            Catalog current = catalog;
+            if (current == null) {
+                return 0;
+            }
+            Instant now = Instant.now();
+            List<StoredDomainEvent> events = new ArrayList<>();
+            if (!gaps.isEmpty()) {
+                for (StoredDomainEvent filled : eventStore.readSequences(gaps.keySet())) {
+                    gaps.remove(filled.sequence());
+                    events.add(filled);
+                }
+                gaps.values().removeIf(seenAt -> seenAt.plus(properties.gapTimeout()).isBefore(now));
+            }
+            List<StoredDomainEvent> tail = eventStore.readAfter(cursor, properties.batchSize());
+            for (StoredDomainEvent stored : tail) {
+                if (stored.sequence() - cursor - 1 > MAX_GAP) {
+                    log.warn("Event store sequence jumped from {} to {}; not waiting for the missing events",
+                        cursor, stored.sequence());
+                } else {
+                    for (long missing = cursor + 1; missing < stored.sequence(); missing++) {
+                        gaps.put(missing, now);
+                    }
+                }
+                cursor = stored.sequence();
+            }
+            events.addAll(tail);
+            apply(current, events, now);
+            watermark = gaps.isEmpty() ? cursor : gaps.firstKey() - 1;
+            return tail.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void apply(Catalog current, List<StoredDomainEvent> events, Instant now) {
+        Instant latest = lastUpdatedAt;
+        for (StoredDomainEvent stored : events) {
+            DomainEvent<?> event = stored.event();
+            if (!(event.aggregateId() instanceof ProductId id)) {
+                continue;
+            }
+            Entry existing = current.byId().get(id);
+            Long version = event.aggregateVersion();
+            if (existing != null && version != null && version < existing.version()) {
+                continue;
+            }
+            Entry updated = applyTo(existing, id, event);
+            if (updated == existing) {
+                continue;
+            }
+            if (updated == null) {
+                log.debug("Read model has no product {} for {}; ignoring it", id, event.eventType());
+                continue;
+            }
+            current.byId().put(id, updated);
+            // createdAt and id never change, so an entry keeps its position in the active index
+            if (updated.isActive()) {
+                current.active().put(updated.position(), updated);
+            } else if (existing != null && existing.isActive()) {
+                current.active().remove(existing.position());
+            }
+            latest = later(latest, updated.product().updatedAt());
+            if (stored.sequence() > loadedThrough) {
+                lag.record(Duration.between(event.occurredOn(), now));
+            }
+        }
+        lastUpdatedAt = latest;
+    }
+
+    private static Entry applyTo(Entry existing, ProductId id, DomainEvent<?> event) {
+        long version = event.aggregateVersion() != null
+            ? event.aggregateVersion()
+            : existing != null ? existing.version() + 1 : 0L;
+        Instant at = event.occurredOn();
+        if (event instanceof ProductCreatedEvent created) {
+            if (existing != null) {
+                return existing;
+            }
+            Money price = created.getPrice();
+            return new Entry(id.toUuid(), new ProductResponse(id.value(), created.getProductName(),
+                created.getDescription(), price.getAmount(), price.getCurrency().getCurrencyCode(),
+                created.getInitialStock(), ProductStatus.ACTIVE.name(), at, at), version);
+        }
+        if (existing == null) {
+            return null;
+        }
+        ProductResponse p = existing.product();
+        ProductResponse changed = switch (event) {
+            case ProductPriceChangedEvent e -> new ProductResponse(p.id(), p.name(), p.description(),
+                e.getNewPrice().getAmount(), e.getNewPrice().getCurrency().getCurrencyCode(),
+                p.stockQuantity(), p.status(), p.createdAt(), at);
+            case ProductInfoUpdatedEvent e -> new ProductResponse(p.id(), e.getProductName(), e.getDescription(),
+                p.price(), p.currency(), p.stockQuantity(), p.status(), p.createdAt(), at);
+            case ProductStockChangedEvent e -> new ProductResponse(p.id(), p.name(), p.description(),
+                p.price(), p.currency(), e.getNewQuantity(), p.status(), p.createdAt(), at);
+            case ProductStatusChangedEvent e -> new ProductResponse(p.id(), p.name(), p.description(),
+                p.price(), p.currency(), p.stockQuantity(), e.getNewStatus().name(), p.createdAt(), at);
+            default -> null;
+        };
+        return changed == null ? null : new Entry(existing.uuid(), changed, version);
+    }
+
+    @Override
+    public Optional<ProductResponse> findById(ProductId id) {
+        Catalog current = catalog;
+        if (current == null) {
+            return fallback.findById(id);
+        }
+        return Optional.ofNullable(current.byId().get(id)).map(Entry::product);
+    }
+
+    @Override
+    public List<ProductResponse> findActivePage(ProductKeyset after, int limit) {
+        Catalog current = catalog;
+        if (current == null) {
+            return fallback.findActivePage(after, limit);
+        }
+        Map<Position, Entry> page = after == null
+            ? current.active()
+            : current.active().tailMap(new Position(after.createdAt(), after.id().toUuid()), false);
+        return page.values().stream()
+            .limit(limit)
+            .map(Entry::product)
+            .toList();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAt(ProductId id) {
+        Catalog current = catalog;
+        if (current == null) {
+            return fallback.findUpdatedAt(id);
+        }
+        return Optional.ofNullable(current.byId().get(id)).map(entry -> entry.product().updatedAt());
+    }
+
+    @Override
+    public Optional<Instant> findLastUpdatedAt() {
+        Catalog current = catalog;
+        if (current == null) {
+            return fallback.findLastUpdatedAt();
+        }
+        return Optional.ofNullable(lastUpdatedAt);
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static Instant later(Instant a, Instant b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    private record Entry(UUID uuid, ProductResponse product, long version) {
+
+        boolean isActive() {
+            return ProductStatus.ACTIVE.name().equals(product.status());
+        }
+
+        Position position() {
+            return new Position(product.createdAt(), uuid);
+        }
+    }
+
+    private record Position(Instant createdAt, UUID uuid) {
+    }
+
+    /**
+     * The catalog as of the last load, kept current in place by polls. {@code active} holds the active
+     * products in keyset order.
+     */
+    private record Catalog(ConcurrentMap<ProductId, Entry> byId, ConcurrentNavigableMap<Position, Entry> active) {
+    }
+}
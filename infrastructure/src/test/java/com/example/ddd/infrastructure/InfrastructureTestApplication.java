@@ -0,0 +1,13 @@
+package com.example.ddd.infrastructure;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+
+/**
+ * Minimal boot configuration for infrastructure slice tests.
+ * Deliberately does not component-scan, so each test imports only the adapters it exercises.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+public class InfrastructureTestApplication {
+}
@@ -0,0 +1,115 @@
+package com.example.ddd.infrastructure.cache;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.query.ProductQueryRepository;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.repository.ProductKeyset;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CachingProductQueryRepository Tests")
+class CachingProductQueryRepositoryTest {
+
+    private final CountingQueryRepository delegate = new CountingQueryRepository();
+    private CachingProductQueryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingProductQueryRepository(delegate, Caffeine.newBuilder().maximumSize(100).build());
+    }
+
+    @Test
+    @DisplayName("should serve repeated reads from the cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        ProductId id = delegate.store("Laptop");
+
+        // When
+        repository.findById(id);
+        Optional<ProductResponse> second = repository.findById(id);
+
+        // Then
+        assertThat(second).map(ProductResponse::name).contains("Laptop");
+        assertThat(delegate.reads).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not cache missing products")
+    void shouldNotCacheMissingProducts() {
+        // Given
+        ProductId id = ProductId.generate();
+        assertThat(repository.findById(id)).isEmpty();
+
+        // When
+        delegate.store(id, "Laptop");
+
+        // Then
+        assertThat(repository.findById(id)).isPresent();
+    }
+
+    @Test
+    @DisplayName("should reload a product after invalidation")
+    void shouldReloadAfterInvalidation() {
+        // Given
+        ProductId id = delegate.store("Laptop");
+        repository.findById(id);
+        delegate.store(id, "Gaming Laptop");
+
+        // When
+        repository.invalidate(id);
+
+        // Then
+        assertThat(repository.findById(id)).map(ProductResponse::name).contains("Gaming Laptop");
+        assertThat(delegate.reads).isEqualTo(2);
+    }
+
+    private static class CountingQueryRepository implements ProductQueryRepository {
+
+        private final Map<ProductId, ProductResponse> products = new HashMap<>();
+        private int reads;
+
+        ProductId store(String name) {
+            return store(ProductId.generate(), name);
+        }
+
+        ProductId store(ProductId id, String name) {
+            Instant now = Instant.now();
+            products.put(id, new ProductResponse(
+                id.value(), name, null, BigDecimal.TEN, "USD", 1, "ACTIVE", now, now));
+            return id;
+        }
+
+        @Override
+        public Optional<ProductResponse> findById(ProductId id) {
+            reads++;
+            return Optional.ofNullable(products.get(id));
+        }
+
+        @Override
+        public List<ProductResponse> findActivePage(ProductKeyset after, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<Instant> findUpdatedAt(ProductId id) {
+            return findById(id).map(ProductResponse::updatedAt);
+        }
+
+        @Override
+        public Optional<Instant> findLastUpdatedAt() {
+            return products.values().stream().map(ProductResponse::updatedAt).max(Comparator.naturalOrder());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.ddd.infrastructure.inventory;
+
+import com.example.ddd.application.inventory.StockLedger;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.inventory.StockLedgerStore;
+import com.example.ddd.infrastructure.persistence.product.ProductPartialUpdater;
+import com.example.ddd.infrastructure.persistence.product.ProductRepositoryImpl;
+import com.example.ddd.infrastructure.persistence.product.RepricingProgressStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs outside a test transaction, so escrows made on the request threads see the products and commit.
+ */
+@DisplayName("StockReservationLedger Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({StockLedgerStore.class, ProductRepositoryImpl.class, ProductPartialUpdater.class,
+    RepricingProgressStore.class, DomainEventStore.class, JsonDomainEventCodec.class})
+class StockReservationLedgerTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+    private static final String LEDGER_ID = "test";
+    private static final int ALLOTMENT = 16;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private StockLedgerStore store;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private final List<StockReservationLedger> ledgers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ledgers.stream().filter(StockReservationLedger::isRunning).forEach(StockReservationLedger::stop);
+        jdbcTemplate.update("DELETE FROM stock_ledger_allotments");
+        jdbcTemplate.update("DELETE FROM stock_ledger_checkpoints");
+        jdbcTemplate.update("DELETE FROM domain_events");
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    @DisplayName("should never grant more than the stock when many threads remove from one product")
+    void shouldNotOversellUnderContention() throws Exception {
+        // Given
+        Product product = productRepository.save(Product.create("Console", null, PRICE, 1000));
+        StockReservationLedger ledger = startLedger(LEDGER_ID);
+
+        // When
+        int granted = removeConcurrently(product, List.of(ledger), 1600);
+        ledger.flush();
+
+        // Then
+        assertThat(granted).isEqualTo(1000);
+        assertThat(ledger.available(product.getId())).isZero();
+        assertThat(store.findStock(product.getId())).hasValue(0);
+        assertThat(store.appliedSequence(LEDGER_ID)).isEqualTo(1000);
+        assertThat(store.allotments(LEDGER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should never grant more than the stock when two nodes share one database")
+    void shouldNotOversellAcrossNodes() throws Exception {
+        // Given
+        Product product = productRepository.save(Product.create("Console", null, PRICE, 500));
+        StockReservationLedger nodeA = startLedger("node-a");
+        StockReservationLedger nodeB = startLedger("node-b");
+
+        // When
+        int granted = removeConcurrently(product, List.of(nodeA, nodeB), 1600);
+        nodeA.stop();
+        nodeB.stop();
+
+        // Then
+        assertThat(granted).isEqualTo(500);
+        assertThat(store.findStock(product.getId())).hasValue(0);
+        assertThat(store.appliedSequence("node-a") + store.appliedSequence("node-b")).isEqualTo(500);
+        assertThat(store.allotments("node-a")).isEmpty();
+        assertThat(store.allotments("node-b")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should deny a removal larger than the stock")
+    void shouldDenyRemovalLargerThanStock() {
+        // Given
+        Product product = productRepository.save(Product.create("Mouse", null, PRICE, 2));
+        StockReservationLedger ledger = startLedger(LEDGER_ID);
+
+        // When & Then
+        assertThatThrownBy(() -> ledger.removeStock(product.getId(), 3))
+            .isInstanceOf(InvalidDomainStateException.class)
+            .hasMessage("Insufficient stock. Available: 2, Requested: 3");
+        assertThat(ledger.removeStock(product.getId(), 2).newQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("should return units another node left idle so this node can grant them")
+    void shouldReturnIdleAllotment() {
+        // Given
+        Product product = productRepository.save(Product.create("Laptop", null, PRICE, 10));
+        StockReservationLedger nodeA = startLedger("node-a");
+        StockReservationLedger nodeB = startLedger("node-b");
+        nodeA.removeStock(product.getId(), 1);
+        assertThatThrownBy(() -> nodeB.removeStock(product.getId(), 5))
+            .isInstanceOf(InvalidDomainStateException.class);
+
+        // When
+        nodeA.flush();
+        nodeA.flush();
+        StockLedger.Removal removal = nodeB.removeStock(product.getId(), 5);
+        nodeB.stop();
+
+        // Then
+        assertThat(removal.previousQuantity()).isEqualTo(9);
+        assertThat(removal.newQuantity()).isEqualTo(4);
+        assertThat(store.findStock(product.getId())).hasValue(4);
+        assertThat(store.allotments("node-a")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should apply intents left by a previous run exactly once on start and return its escrow")
+    void shouldApplyIntentsLeftByPreviousRun() {
+        // Given a run that escrowed 8 units and granted 7 before it crashed
+        Product product = productRepository.save(Product.create("Laptop", null, PRICE, 10));
+        store.escrow(LEDGER_ID, product.getId(), 8);
+        try (ReservationIntentLog log = ReservationIntentLog.open(directory.resolve(LEDGER_ID + ".intents"),
+                64, () -> 0, () -> { })) {
+            log.append(product.getId(), 3);
+            log.append(product.getId(), 4);
+        }
+
+        // When
+        StockReservationLedger ledger = startLedger(LEDGER_ID);
+        ledger.stop();
+        ledger = startLedger(LEDGER_ID);
+
+        // Then
+        assertThat(store.findStock(product.getId())).hasValue(3);
+        assertThat(store.appliedSequence(LEDGER_ID)).isEqualTo(2);
+        assertThat(store.allotments(LEDGER_ID)).isEmpty();
+        assertThat(ledger.removeStock(product.getId(), 3).newQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("should escrow stock added outside the ledger")
+    void shouldEscrowStockAddedOutside() {
+        // Given
+        Product product = productRepository.save(Product.create("Monitor", null, PRICE, 5));
+        StockReservationLedger ledger = startLedger(LEDGER_ID);
+        ledger.removeStock(product.getId(), 2);
+
+        // When
+        productRepository.adjustStock(product.getId(), 10);
+        long left = ledger.removeStock(product.getId(), 13).newQuantity();
+        ledger.flush();
+
+        // Then
+        assertThat(left).isZero();
+        assertThat(store.findStock(product.getId())).hasValue(0);
+        assertThat(store.allotments(LEDGER_ID)).isEmpty();
+    }
+
+    private int removeConcurrently(Product product, List<StockReservationLedger> nodes, int attempts)
+            throws Exception {
+        AtomicInteger granted = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int t = 0; t < 16; t++) {
+                StockReservationLedger ledger = nodes.get(t % nodes.size());
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < attempts / 16; i++) {
+                        try {
+                            ledger.removeStock(product.getId(), 1);
+                            granted.incrementAndGet();
+                        } catch (InvalidDomainStateException denied) {
+                            // Sold out
+                        }
+                    }
+                }));
+            }
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        return granted.get();
+    }
+
+    private StockReservationLedger startLedger(String ledgerId) {
+        // Flushed explicitly by each test, so the flusher thread never races it
+        StockReservationLedger started = new StockReservationLedger(store, ledgerId, directory, 4096, 4, ALLOTMENT,
+            Duration.ofHours(1), new SimpleMeterRegistry());
+        started.start();
+        ledgers.add(started);
+        return started;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.ddd.infrastructure.inventory;
+
+import com.example.ddd.domain.aggregateroot.inventory.StockLocation;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.model.GeoPoint;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.config.InventoryConfiguration;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.inventory.JdbcStockLocationRepository;
+import com.example.ddd.infrastructure.persistence.product.ProductPartialUpdater;
+import com.example.ddd.infrastructure.persistence.product.ProductRepositoryImpl;
+import com.example.ddd.infrastructure.persistence.product.RepricingProgressStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("StockTotalRollup Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "app.inventory.rollup.enabled=false",
+    "app.inventory.rollup.batch-size=2"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({StockTotalRollup.class, InventoryConfiguration.class, JdbcStockLocationRepository.class,
+    ProductRepositoryImpl.class, ProductPartialUpdater.class, RepricingProgressStore.class, DomainEventStore.class,
+    JsonDomainEventCodec.class})
+class StockTotalRollupTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private StockTotalRollup rollup;
+
+    @Autowired
+    private JdbcStockLocationRepository locationRepository;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private DomainEventStore eventStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should roll up movements of many products one batch size at a time")
+    void shouldRollUpInBatches() {
+        // Given
+        locationRepository.save(StockLocation.create("AMS-1", "Amsterdam", GeoPoint.of(52.3676, 4.9041)));
+        Product laptop = productRepository.save(Product.create("Laptop", null, PRICE, 0));
+        Product mouse = productRepository.save(Product.create("Mouse", null, PRICE, 0));
+        Product monitor = productRepository.save(Product.create("Monitor", null, PRICE, 0));
+        locationRepository.adjustStock(laptop.getId(), "AMS-1", 3);
+        locationRepository.adjustStock(mouse.getId(), "AMS-1", 5);
+        locationRepository.adjustStock(monitor.getId(), "AMS-1", 7);
+        locationRepository.adjustStock(monitor.getId(), "AMS-1", -2);
+
+        // When
+        int first = rollup.rollUpBatch();
+        int second = rollup.rollUpBatch();
+        int third = rollup.rollUpBatch();
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(third).isZero();
+        assertThat(totalStock(laptop.getId())).isEqualTo(3);
+        assertThat(totalStock(mouse.getId())).isEqualTo(5);
+        assertThat(totalStock(monitor.getId())).isEqualTo(5);
+        assertThat(eventStore.findByAggregateId(monitor.getId().toUuid())).singleElement()
+            .isInstanceOfSatisfying(ProductStockChangedEvent.class,
+                event -> assertThat(event.getNewQuantity()).isEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("should recount a total from its locations rather than take it below zero")
+    void shouldRecountTotalInsteadOfGoingBelowZero() {
+        // Given
+        locationRepository.save(StockLocation.create("AMS-1", "Amsterdam", GeoPoint.of(52.3676, 4.9041)));
+        Product product = productRepository.save(Product.create("Laptop", null, PRICE, 0));
+        locationRepository.adjustStock(product.getId(), "AMS-1", 5);
+        rollup.rollUpBatch();
+        jdbcTemplate.update("UPDATE products SET stock_quantity = 1 WHERE id = ?", product.getId().toUuid());
+        locationRepository.adjustStock(product.getId(), "AMS-1", -3);
+
+        // When
+        int claimed = rollup.rollUpBatch();
+
+        // Then
+        assertThat(claimed).isEqualTo(1);
+        assertThat(totalStock(product.getId())).isEqualTo(2);
+        assertThat(rollup.rollUpBatch()).isZero();
+        verify(eventPublisher).publish(argThat((List<DomainEvent<?>> events) -> events.size() == 1
+            && events.getFirst() instanceof ProductStockChangedEvent e
+            && e.getOldQuantity() == 1 && e.getNewQuantity() == 2));
+    }
+
+    private int totalStock(ProductId id) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, id.toUuid());
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.PostgresTestConfiguration;
+import com.example.ddd.infrastructure.config.MessagingConfiguration;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs outside a test transaction, so the relay's own transactions commit and roll back as in production.
+ */
+@DisplayName("Outbox failure Tests (PostgreSQL)")
+@DataJpaTest(properties = {
+    "app.events.outbox.relay-enabled=false",
+    "app.events.dispatcher.enabled=false",
+    "app.events.price-coalescing.enabled=true",
+    "app.events.price-coalescing.window=1m"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PostgresTestConfiguration.class, MessagingConfiguration.class, OutboxEventPublisher.class, OutboxRelay.class,
+    JsonDomainEventCodec.class, DomainEventStore.class, OutboxRelayFailureTest.FailingListener.class})
+class OutboxRelayFailureTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private OutboxEventPublisher publisher;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private FailingListener listener;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM event_outbox");
+        jdbcTemplate.update("DELETE FROM domain_events");
+        listener.failing = false;
+        listener.lockingRow = false;
+        listener.received.clear();
+    }
+
+    @Test
+    @DisplayName("should count an attempt against the event a transactional listener fails on")
+    void shouldRecordFailureOfTransactionalListener() {
+        // Given
+        List<DomainEvent<?>> events = publishCreatedAndRepriced();
+        listener.failing = true;
+
+        // When
+        int claimed = relay.relayBatch();
+
+        // Then
+        assertThat(claimed).isZero();
+        assertThat(listener.received).containsExactly(events.get(0).eventId(), events.get(1).eventId());
+        assertThat(processedAt(events.get(0))).isNotNull();
+        assertThat(processedAt(events.get(1))).isNull();
+        assertThat(attempts(events.get(1))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM domain_events", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should relay the failed event on a later batch once its listener succeeds")
+    void shouldRetryFailedEvent() {
+        // Given
+        List<DomainEvent<?>> events = publishCreatedAndRepriced();
+        listener.failing = true;
+        relay.relayBatch();
+        listener.failing = false;
+
+        // When
+        int claimed = relay.relayBatch();
+
+        // Then
+        assertThat(claimed).isEqualTo(1);
+        assertThat(processedAt(events.get(1))).isNotNull();
+        assertThat(attempts(events.get(1))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM domain_events", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should count an attempt against every event a failed coalesced delivery stands for")
+    void shouldRecordFailureOfCoalescedDeliveryOnAllSources() {
+        // Given two price changes that reach listeners as one event
+        Product product = Product.create("Laptop", "Fast", Money.of(new BigDecimal("100.00"), USD), 10);
+        product.changePrice(Money.of(new BigDecimal("120.00"), USD));
+        product.changePrice(Money.of(new BigDecimal("130.00"), USD));
+        List<DomainEvent<?>> events = List.copyOf(product.getDomainEvents());
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(events));
+        listener.failing = true;
+
+        // When
+        relay.relayBatch();
+
+        // Then
+        assertThat(listener.received).containsExactly(events.get(0).eventId(), events.get(2).eventId());
+        assertThat(processedAt(events.get(0))).isNotNull();
+        assertThat(attempts(events.get(1))).isEqualTo(1);
+        assertThat(attempts(events.get(2))).isEqualTo(1);
+        assertThat(processedAt(events.get(1))).isNull();
+        assertThat(processedAt(events.get(2))).isNull();
+    }
+
+    @Test
+    @DisplayName("should hold no lock on the claimed rows while listeners run")
+    void shouldDispatchWithoutHoldingRowLocks() {
+        // Given
+        List<DomainEvent<?>> events = publishCreatedAndRepriced();
+        listener.lockingRow = true;
+
+        // When
+        int claimed = relay.relayBatch();
+
+        // Then
+        assertThat(claimed).isEqualTo(2);
+        assertThat(processedAt(events.get(0))).isNotNull();
+        assertThat(processedAt(events.get(1))).isNotNull();
+        assertThat(attempts(events.get(1))).isZero();
+    }
+
+    private List<DomainEvent<?>> publishCreatedAndRepriced() {
+        Product product = Product.create("Laptop", "Fast", Money.of(new BigDecimal("100.00"), USD), 10);
+        product.changePrice(Money.of(new BigDecimal("120.00"), USD));
+        List<DomainEvent<?>> events = List.copyOf(product.getDomainEvents());
+        transactionTemplate.executeWithoutResult(status -> publisher.publish(events));
+        return events;
+    }
+
+    private Object processedAt(DomainEvent<?> event) {
+        return jdbcTemplate.queryForObject(
+            "SELECT processed_at FROM event_outbox WHERE event_id = ?", Object.class, event.eventId());
+    }
+
+    private int attempts(DomainEvent<?> event) {
+        return jdbcTemplate.queryForObject(
+            "SELECT attempts FROM event_outbox WHERE event_id = ?", Integer.class, event.eventId());
+    }
+
+    /**
+     * Joins whatever transaction delivers the event, and fails price changes while failing is set.
+     * While lockingRow is set it locks the event's own outbox row without waiting, so it fails if the
+     * relay still holds that lock.
+     */
+    static class FailingListener {
+
+        private final List<UUID> received = new ArrayList<>();
+        private volatile boolean failing;
+        private volatile boolean lockingRow;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Transactional
+        @EventListener
+        public void on(DomainEvent<?> event) {
+            received.add(event.eventId());
+            if (lockingRow) {
+                jdbcTemplate.queryForList("SELECT id FROM event_outbox WHERE event_id = ? FOR UPDATE NOWAIT",
+                    event.eventId());
+            }
+            if (failing && event instanceof ProductPriceChangedEvent) {
+                throw new IllegalStateException("Listener failed");
+            }
+        }
+    }
+}
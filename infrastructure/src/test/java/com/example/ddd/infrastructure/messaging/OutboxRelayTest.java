@@ -0,0 +1,163 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.config.MessagingConfiguration;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Outbox Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "app.events.outbox.relay-enabled=false",
+    "app.events.dispatcher.enabled=false"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MessagingConfiguration.class, OutboxEventPublisher.class, OutboxRelay.class,
+    JsonDomainEventCodec.class, DomainEventStore.class, OutboxRelayTest.RecordingListener.class})
+class OutboxRelayTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    @Autowired
+    private OutboxEventPublisher publisher;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private DomainEventStore eventStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        listener.events.clear();
+    }
+
+    @Test
+    @DisplayName("should store events without dispatching them")
+    void shouldStoreEventsWithoutDispatching() {
+        // Given
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+
+        // When
+        publisher.publish(product.getDomainEvents());
+
+        // Then
+        assertThat(pendingRows()).isEqualTo(1);
+        assertThat(listener.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should dispatch pending events in order and mark them processed")
+    void shouldDispatchPendingEventsInOrder() {
+        // Given
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+        product.changePrice(Money.of(new BigDecimal("120.00"), Currency.getInstance("USD")));
+        List<DomainEvent<?>> events = product.getDomainEvents();
+        publisher.publish(events);
+
+        // When
+        int claimed = relay.relayBatch();
+
+        // Then
+        assertThat(claimed).isEqualTo(2);
+        assertThat(pendingRows()).isZero();
+        assertThat(listener.events).extracting(DomainEvent::eventId)
+            .containsExactly(events.get(0).eventId(), events.get(1).eventId());
+        assertThat(listener.events.get(0)).isInstanceOf(ProductCreatedEvent.class);
+        ProductPriceChangedEvent priceChanged = (ProductPriceChangedEvent) listener.events.get(1);
+        assertThat(priceChanged.aggregateId()).isEqualTo(product.getId());
+        assertThat(priceChanged.getNewPrice().getAmount()).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    @DisplayName("should copy relayed events to the event store as one row each")
+    void shouldCopyRelayedEventsToEventStore() {
+        // Given
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+        product.changePrice(Money.of(new BigDecimal("120.00"), Currency.getInstance("USD")));
+        List<DomainEvent<?>> events = product.getDomainEvents();
+        publisher.publish(events);
+
+        // When
+        relay.relayBatch();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM domain_events", Integer.class)).isEqualTo(2);
+        List<DomainEvent<?>> history = eventStore.findByAggregateId(product.getId().toUuid());
+        assertThat(history).extracting(DomainEvent::eventId)
+            .containsExactly(events.get(0).eventId(), events.get(1).eventId());
+        ProductPriceChangedEvent priceChanged = (ProductPriceChangedEvent) history.get(1);
+        assertThat(priceChanged.getOldPrice().getAmount()).isEqualByComparingTo("100.00");
+        assertThat(priceChanged.getNewPrice().getAmount()).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    @DisplayName("should leave rows leased to another relay until the lease runs out")
+    void shouldSkipRowsLeasedToAnotherRelay() {
+        // Given
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+        publisher.publish(product.getDomainEvents());
+        jdbcTemplate.update("UPDATE event_outbox SET claimed_by = 'other-relay', claimed_until = ?",
+            Timestamp.from(Instant.now().plus(Duration.ofMinutes(5))));
+
+        // When
+        int whileLeased = relay.relayBatch();
+        jdbcTemplate.update("UPDATE event_outbox SET claimed_until = ?",
+            Timestamp.from(Instant.now().minus(Duration.ofSeconds(1))));
+        int afterLease = relay.relayBatch();
+
+        // Then
+        assertThat(whileLeased).isZero();
+        assertThat(afterLease).isEqualTo(1);
+        assertThat(pendingRows()).isZero();
+        assertThat(listener.events).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM event_outbox WHERE claimed_by IS NOT NULL", Integer.class)).isZero();
+    }
+
+    private int pendingRows() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM event_outbox WHERE processed_at IS NULL", Integer.class);
+    }
+
+    static class RecordingListener {
+
+        private final List<DomainEvent<?>> events = new ArrayList<>();
+
+        @EventListener
+        void on(DomainEvent<?> event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.config.EventDispatcherProperties;
+import com.example.ddd.infrastructure.config.EventDispatcherProperties.OverflowPolicy;
+import com.example.ddd.infrastructure.messaging.PartitionedEventDispatcher.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PartitionedEventDispatcher Tests")
+class PartitionedEventDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PartitionedEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null && dispatcher.isRunning()) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should handle each aggregate's events in dispatch order")
+    void shouldKeepOrderPerAggregate() {
+        // Given
+        List<DomainEvent<?>> handled = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = new PartitionedEventDispatcher(
+            new EventDispatcherProperties(true, 4, 100, OverflowPolicy.BLOCK), event -> handled.add((DomainEvent<?>) event), meterRegistry);
+        dispatcher.start();
+        ProductId first = ProductId.generate();
+        ProductId second = ProductId.generate();
+        List<DomainEvent<?>> firstEvents = new ArrayList<>();
+        List<DomainEvent<?>> secondEvents = new ArrayList<>();
+
+        // When
+        for (int i = 1; i <= 50; i++) {
+            DomainEvent<?> a = priceChanged(first, i);
+            DomainEvent<?> b = priceChanged(second, i);
+            firstEvents.add(a);
+            secondEvents.add(b);
+            dispatcher.dispatch(a);
+            dispatcher.dispatch(b);
+        }
+        dispatcher.stop();
+
+        // Then
+        assertThat(handled).hasSize(100);
+        assertThat(handled).filteredOn(event -> event.aggregateId().equals(first)).containsExactlyElementsOf(firstEvents);
+        assertThat(handled).filteredOn(event -> event.aggregateId().equals(second)).containsExactlyElementsOf(secondEvents);
+    }
+
+    @Test
+    @DisplayName("should refuse events for a full lane under the SPILL policy")
+    void shouldRefuseEventsForFullLaneWhenSpilling() throws InterruptedException {
+        // Given a single lane whose handler is stuck on the first event
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher = new PartitionedEventDispatcher(
+            new EventDispatcherProperties(true, 1, 1, OverflowPolicy.SPILL), event -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, meterRegistry);
+        dispatcher.start();
+        ProductId id = ProductId.generate();
+        assertThat(dispatcher.dispatch(priceChanged(id, 1))).isTrue();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When the queue fills up
+        boolean queued = dispatcher.dispatch(priceChanged(id, 2));
+        boolean spilled = dispatcher.dispatch(priceChanged(id, 3));
+
+        // Then
+        assertThat(queued).isTrue();
+        assertThat(spilled).isFalse();
+        assertThat(dispatcher.queueDepth(0)).isEqualTo(1);
+        assertThat(meterRegistry.get("events.dispatcher.queue.depth").tag("lane", "0").gauge().value()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("should count dropped events under the DROP policy")
+    void shouldCountDroppedEvents() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher = new PartitionedEventDispatcher(
+            new EventDispatcherProperties(true, 1, 1, OverflowPolicy.DROP), event -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, meterRegistry);
+        dispatcher.start();
+        ProductId id = ProductId.generate();
+        dispatcher.dispatch(priceChanged(id, 1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(priceChanged(id, 2));
+
+        // When
+        boolean accepted = dispatcher.dispatch(priceChanged(id, 3));
+
+        // Then
+        assertThat(accepted).isTrue();
+        assertThat(meterRegistry.get("events.dispatcher.dropped").tag("lane", "0").counter().count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("should report batch outcomes and skip an aggregate's later events after one fails")
+    void shouldReportBatchOutcomes() throws Exception {
+        // Given
+        ProductId failing = ProductId.generate();
+        ProductId healthy = ProductId.generate();
+        DomainEvent<?> poison = priceChanged(failing, 1);
+        List<DomainEvent<?>> handled = Collections.synchronizedList(new ArrayList<>());
+        dispatcher = new PartitionedEventDispatcher(
+            new EventDispatcherProperties(true, 2, 100, OverflowPolicy.BLOCK), event -> {
+                if (event == poison) {
+                    throw new IllegalStateException("Listener failed");
+                }
+                handled.add((DomainEvent<?>) event);
+            }, meterRegistry);
+        dispatcher.start();
+        PartitionedEventDispatcher.Batch batch = dispatcher.batch();
+        DomainEvent<?> overtaking = priceChanged(failing, 2);
+        DomainEvent<?> unrelated = priceChanged(healthy, 1);
+
+        // When
+        CompletableFuture<Outcome> failed = batch.dispatch(poison);
+        CompletableFuture<Outcome> skipped = batch.dispatch(overtaking);
+        CompletableFuture<Outcome> succeeded = batch.dispatch(unrelated);
+
+        // Then
+        assertThat(failed.get(5, TimeUnit.SECONDS)).isEqualTo(Outcome.FAILED);
+        assertThat(skipped.get(5, TimeUnit.SECONDS)).isEqualTo(Outcome.SKIPPED);
+        assertThat(succeeded.get(5, TimeUnit.SECONDS)).isEqualTo(Outcome.HANDLED);
+        assertThat(handled).containsExactly(unrelated);
+    }
+
+    private static DomainEvent<?> priceChanged(ProductId id, int amount) {
+        Money oldPrice = Money.of(BigDecimal.valueOf(amount), Currency.getInstance("USD"));
+        Money newPrice = Money.of(BigDecimal.valueOf(amount + 1), Currency.getInstance("USD"));
+        return new ProductPriceChangedEvent(id, oldPrice, newPrice);
+    }
+}
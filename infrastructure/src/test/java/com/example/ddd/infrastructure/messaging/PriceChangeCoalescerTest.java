@@ -0,0 +1,101 @@
+package com.example.ddd.infrastructure.messaging;
+
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStatusChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.messaging.PriceChangeCoalescer.Coalesced;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PriceChangeCoalescer Tests")
+class PriceChangeCoalescerTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final PriceChangeCoalescer coalescer = new PriceChangeCoalescer(Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("should merge a burst into the first old price and the last new price")
+    void shouldMergeBurst() {
+        // Given
+        ProductId product = ProductId.generate();
+        List<DomainEvent<?>> events = List.of(
+            priceChanged(product, 0, "100.00", "110.00"),
+            priceChanged(product, 300, "110.00", "120.00"),
+            priceChanged(product, 600, "120.00", "130.00"));
+
+        // When
+        List<Coalesced<DomainEvent<?>>> result = coalescer.coalesce(events, Function.identity());
+
+        // Then
+        assertThat(result).hasSize(1);
+        ProductPriceChangedEvent merged = (ProductPriceChangedEvent) result.getFirst().event();
+        assertThat(merged.getOldPrice().getAmount()).isEqualByComparingTo("100.00");
+        assertThat(merged.getNewPrice().getAmount()).isEqualByComparingTo("130.00");
+        assertThat(merged.eventId()).isEqualTo(events.getLast().eventId());
+        assertThat(result.getFirst().sources()).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("should not merge changes further apart than the window")
+    void shouldRespectWindow() {
+        // Given
+        ProductId product = ProductId.generate();
+        List<DomainEvent<?>> events = List.of(
+            priceChanged(product, 0, "100.00", "110.00"),
+            priceChanged(product, 900, "110.00", "120.00"),
+            priceChanged(product, 1500, "120.00", "130.00"));
+
+        // When
+        List<Coalesced<DomainEvent<?>>> result = coalescer.coalesce(events, Function.identity());
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).sources()).hasSize(2);
+        assertThat(result.get(1).event()).isSameAs(events.get(2));
+    }
+
+    @Test
+    @DisplayName("should keep each product's other events in order around its price changes")
+    void shouldKeepOrderPerProduct() {
+        // Given
+        ProductId product = ProductId.generate();
+        ProductId other = ProductId.generate();
+        DomainEvent<?> first = priceChanged(product, 0, "100.00", "110.00");
+        DomainEvent<?> otherChange = priceChanged(other, 100, "50.00", "55.00");
+        DomainEvent<?> second = priceChanged(product, 200, "110.00", "120.00");
+        DomainEvent<?> statusChanged = new ProductStatusChangedEvent(UUID.randomUUID(), START.plusMillis(300), 3L,
+            product, ProductStatus.ACTIVE, ProductStatus.INACTIVE);
+        DomainEvent<?> third = priceChanged(product, 400, "120.00", "130.00");
+
+        // When
+        List<Coalesced<DomainEvent<?>>> result = coalescer.coalesce(
+            List.of(first, otherChange, second, statusChanged, third), Function.identity());
+
+        // Then
+        assertThat(result).extracting(Coalesced::sources).containsExactly(
+            List.of(otherChange), List.of(first, second), List.of(statusChanged), List.of(third));
+    }
+
+    private static ProductPriceChangedEvent priceChanged(ProductId product, long offsetMillis, String from, String to) {
+        return new ProductPriceChangedEvent(UUID.randomUUID(), START.plusMillis(offsetMillis), offsetMillis,
+            product, usd(from), usd(to));
+    }
+
+    private static Money usd(String amount) {
+        return Money.of(new BigDecimal(amount), Currency.getInstance("USD"));
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.ddd.infrastructure.persistence.inventory;
+
+import com.example.ddd.application.dto.LocationAvailabilityResponse;
+import com.example.ddd.domain.aggregateroot.inventory.LocationStockChange;
+import com.example.ddd.domain.aggregateroot.inventory.StockLocation;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.model.GeoPoint;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.config.InventoryConfiguration;
+import com.example.ddd.infrastructure.inventory.StockTotalRollup;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.product.ProductPartialUpdater;
+import com.example.ddd.infrastructure.persistence.product.ProductRepositoryImpl;
+import com.example.ddd.infrastructure.persistence.product.RepricingProgressStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("JdbcStockLocationRepository Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "app.inventory.rollup.enabled=false"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JdbcStockLocationRepository.class, JdbcStockAvailabilityQueryRepository.class, StockTotalRollup.class,
+    InventoryConfiguration.class, ProductRepositoryImpl.class, ProductPartialUpdater.class,
+    RepricingProgressStore.class, DomainEventStore.class, JsonDomainEventCodec.class})
+class JdbcStockLocationRepositoryTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    private static final GeoPoint AMSTERDAM = GeoPoint.of(52.3676, 4.9041);
+    private static final GeoPoint UTRECHT = GeoPoint.of(52.0907, 5.1214);
+    private static final GeoPoint PARIS = GeoPoint.of(48.8566, 2.3522);
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcStockLocationRepository locationRepository;
+
+    @Autowired
+    private JdbcStockAvailabilityQueryRepository availabilityRepository;
+
+    @Autowired
+    private StockTotalRollup rollup;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should move stock at a location without touching the product total until the rollup")
+    void shouldRollUpLocationMovementsIntoTotal() {
+        // Given
+        Product product = productRepository.save(Product.create("Laptop", null, PRICE, 0));
+        locationRepository.save(StockLocation.create("AMS-1", "Amsterdam", AMSTERDAM));
+        locationRepository.save(StockLocation.create("UTR-1", "Utrecht", UTRECHT));
+
+        // When
+        LocationStockChange first = locationRepository.adjustStock(product.getId(), "AMS-1", 10);
+        LocationStockChange second = locationRepository.adjustStock(product.getId(), "AMS-1", -3);
+        locationRepository.adjustStock(product.getId(), "UTR-1", 4);
+        int totalBefore = totalStock(product.getId());
+        int claimed = rollup.rollUpBatch();
+
+        // Then
+        assertThat(first.oldQuantity()).isZero();
+        assertThat(first.newQuantity()).isEqualTo(10);
+        assertThat(second.oldQuantity()).isEqualTo(10);
+        assertThat(second.newQuantity()).isEqualTo(7);
+        assertThat(totalBefore).isZero();
+        assertThat(claimed).isEqualTo(2);
+        assertThat(totalStock(product.getId())).isEqualTo(11);
+        assertThat(rollup.rollUpBatch()).isZero();
+        verify(eventPublisher).publish(argThat((List<DomainEvent<?>> events) -> events.size() == 1
+            && events.getFirst() instanceof ProductStockChangedEvent e
+            && e.getOldQuantity() == 0 && e.getNewQuantity() == 11));
+    }
+
+    @Test
+    @DisplayName("should keep the stock of a product with location stock at its locations only")
+    void shouldKeepStockAtLocationsOnly() {
+        // Given
+        Product owned = productRepository.save(Product.create("Keyboard", null, PRICE, 3));
+        Product located = productRepository.save(Product.create("Headset", null, PRICE, 0));
+        locationRepository.save(StockLocation.create("AMS-1", "Amsterdam", AMSTERDAM));
+        locationRepository.adjustStock(located.getId(), "AMS-1", 4);
+
+        // When & Then
+        assertThatThrownBy(() -> locationRepository.adjustStock(owned.getId(), "AMS-1", 1))
+            .isInstanceOf(InvalidDomainStateException.class)
+            .hasMessageContaining("still has 3 units of its own stock");
+        assertThatThrownBy(() -> productRepository.adjustStock(located.getId(), 5))
+            .isInstanceOf(InvalidDomainStateException.class)
+            .hasMessageContaining("is kept per location");
+        productRepository.adjustStock(owned.getId(), -3);
+        assertThat(locationRepository.adjustStock(owned.getId(), "AMS-1", 1).newQuantity()).isEqualTo(1);
+        assertThat(totalStock(owned.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject removing more than the location holds or an unknown location")
+    void shouldRejectInvalidRemovals() {
+        // Given
+        Product product = productRepository.save(Product.create("Mouse", null, PRICE, 0));
+        locationRepository.save(StockLocation.create("AMS-1", "Amsterdam", AMSTERDAM));
+        locationRepository.save(StockLocation.create("UTR-1", "Utrecht", UTRECHT));
+        locationRepository.adjustStock(product.getId(), "AMS-1", 2);
+
+        // When & Then
+        assertThatThrownBy(() -> locationRepository.adjustStock(product.getId(), "AMS-1", -3))
+            .isInstanceOf(InvalidDomainStateException.class)
+            .hasMessage("Insufficient stock. Available: 2, Requested: 3");
+        assertThatThrownBy(() -> locationRepository.adjustStock(product.getId(), "UTR-1", -1))
+            .isInstanceOf(InvalidDomainStateException.class)
+            .hasMessage("Insufficient stock. Available: 0, Requested: 1");
+        assertThatThrownBy(() -> locationRepository.adjustStock(product.getId(), "NOWHERE", 1))
+            .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> locationRepository.adjustStock(ProductId.generate(), "AMS-1", 1))
+            .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should find locations with stock within the radius, nearest first")
+    void shouldFindStockNearPosition() {
+        // Given
+        Product product = productRepository.save(Product.create("Monitor", null, PRICE, 0));
+        locationRepository.save(StockLocation.create("AMS-1", "Amsterdam", AMSTERDAM));
+        locationRepository.save(StockLocation.create("AMS-2", "Amsterdam South", GeoPoint.of(52.3383, 4.8728)));
+        locationRepository.save(StockLocation.create("UTR-1", "Utrecht", UTRECHT));
+        locationRepository.save(StockLocation.create("PAR-1", "Paris", PARIS));
+        locationRepository.adjustStock(product.getId(), "AMS-1", 1);
+        locationRepository.adjustStock(product.getId(), "UTR-1", 8);
+        locationRepository.adjustStock(product.getId(), "PAR-1", 20);
+
+        // When
+        List<LocationAvailabilityResponse> nearby = availabilityRepository.findAvailableNear(
+            product.getId(), GeoPoint.of(52.37, 4.89), 50, 1, 10);
+        List<LocationAvailabilityResponse> enough = availabilityRepository.findAvailableNear(
+            product.getId(), GeoPoint.of(52.37, 4.89), 50, 5, 10);
+
+        // Then
+        assertThat(nearby).extracting(LocationAvailabilityResponse::locationCode).containsExactly("AMS-1", "UTR-1");
+        assertThat(nearby.get(1).distanceKm()).isBetween(30.0, 40.0);
+        assertThat(enough).extracting(LocationAvailabilityResponse::locationCode).containsExactly("UTR-1");
+    }
+
+    private int totalStock(ProductId id) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM products WHERE id = ?", Integer.class, id.toUuid());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.ddd.infrastructure.persistence.journal;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventJournal Tests")
+class EventJournalTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    private final JsonDomainEventCodec codec = new JsonDomainEventCodec(new ObjectMapper());
+
+    @TempDir
+    Path directory;
+
+    private EventJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("should replay one aggregate's events in append order")
+    void shouldReplayAggregateInOrder() {
+        // Given
+        journal = open(1024 * 1024, 4);
+        Product laptop = Product.create("Laptop", "Fast", PRICE, 10);
+        laptop.changePrice(Money.of(new BigDecimal("120.00"), Currency.getInstance("USD")));
+        Product phone = Product.create("Phone", "Small", PRICE, 5);
+        journal.append(laptop.getDomainEvents());
+        journal.append(phone.getDomainEvents());
+
+        // When
+        List<DomainEvent<?>> history = journal.readAggregate(laptop.getId().toUuid());
+
+        // Then
+        assertThat(history).extracting(DomainEvent::eventId)
+            .containsExactlyElementsOf(laptop.getDomainEvents().stream().map(DomainEvent::eventId).toList());
+        ProductPriceChangedEvent priceChanged = (ProductPriceChangedEvent) history.get(1);
+        assertThat(priceChanged.getNewPrice().getAmount()).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    @DisplayName("should replay only events inside the time range")
+    void shouldReplayTimeRange() {
+        // Given
+        journal = open(1024 * 1024, 4);
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+        DomainEvent<?> created = product.getDomainEvents().getFirst();
+        journal.append(product.getDomainEvents());
+
+        // When
+        List<DomainEvent<?>> inside = new ArrayList<>();
+        journal.replay(created.occurredOn(), created.occurredOn().plusNanos(1), inside::add);
+        List<DomainEvent<?>> before = new ArrayList<>();
+        journal.replay(Instant.EPOCH, created.occurredOn(), before::add);
+
+        // Then
+        assertThat(inside).extracting(DomainEvent::eventId).containsExactly(created.eventId());
+        assertThat(before).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should rebuild its index from existing segments when reopened")
+    void shouldRebuildIndexWhenReopened() {
+        // Given
+        journal = open(1024 * 1024, 4);
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+        journal.append(product.getDomainEvents());
+        journal.close();
+
+        // When
+        journal = open(1024 * 1024, 4);
+        Product other = Product.create("Phone", "Small", PRICE, 5);
+        journal.append(other.getDomainEvents());
+
+        // Then
+        assertThat(journal.readAggregate(product.getId().toUuid())).hasSize(1);
+        assertThat(journal.readAggregate(other.getId().toUuid())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should roll over full segments and delete those past retention")
+    void shouldRollOverAndApplyRetention() throws IOException {
+        // Given segments that hold only a few events each
+        journal = open(1024, 2);
+        List<Product> products = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            Product product = Product.create("Product " + i, null, PRICE, 1);
+            products.add(product);
+            journal.append(product.getDomainEvents());
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+        assertThat(journal.readAggregate(products.getFirst().getId().toUuid())).isEmpty();
+        assertThat(journal.readAggregate(products.getLast().getId().toUuid())).hasSize(1);
+    }
+
+    private EventJournal open(int segmentSize, int maxSegments) {
+        return new EventJournal(directory, segmentSize, maxSegments, Duration.ofMillis(50), codec);
+    }
+}
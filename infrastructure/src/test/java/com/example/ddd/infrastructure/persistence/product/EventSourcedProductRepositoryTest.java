@@ -0,0 +1,130 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.inventory.StockLedgerStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventSourcedProductRepository Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ProductRepositoryImpl.class, ProductPartialUpdater.class, RepricingProgressStore.class,
+    DomainEventStore.class, JsonDomainEventCodec.class})
+class EventSourcedProductRepositoryTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+    private static final int SNAPSHOT_EVERY = 3;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private ProductRepositoryImpl projection;
+
+    @Autowired
+    private DomainEventStore eventStore;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ProductSnapshotStore snapshotStore;
+    private EventSourcedProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        snapshotStore = new ProductSnapshotStore(jdbcTemplate);
+        repository = new EventSourcedProductRepository(projection, eventStore, snapshotStore, SNAPSHOT_EVERY);
+    }
+
+    @Test
+    @DisplayName("should rebuild a product from its stored events")
+    void shouldRebuildProductFromEvents() {
+        // Given
+        Product product = repository.save(Product.create("Laptop", "Fast", PRICE, 10));
+        Product loaded = repository.findById(product.getId()).orElseThrow();
+        loaded.changePrice(Money.of(new BigDecimal("90.00"), Currency.getInstance("USD")));
+        repository.save(loaded);
+
+        // When
+        Product rebuilt = repository.findById(product.getId()).orElseThrow();
+
+        // Then
+        assertThat(rebuilt.getName()).isEqualTo("Laptop");
+        assertThat(rebuilt.getPrice().getAmount()).isEqualByComparingTo("90.00");
+        assertThat(rebuilt.getStockQuantity()).isEqualTo(10);
+        assertThat(rebuilt.getVersion()).isEqualTo(1L);
+        assertThat(snapshotStore.find(product.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should snapshot after enough events and load from the snapshot plus its tail")
+    void shouldLoadFromSnapshotAndTail() {
+        // Given four events: created, price, stock (snapshot due), status
+        Product product = repository.save(Product.create("Laptop", "Fast", PRICE, 10));
+        Product loaded = repository.findById(product.getId()).orElseThrow();
+        loaded.changePrice(Money.of(new BigDecimal("90.00"), Currency.getInstance("USD")));
+        loaded.addStock(5);
+        repository.save(loaded);
+        Product again = repository.findById(product.getId()).orElseThrow();
+        again.deactivate();
+        repository.save(again);
+
+        // When
+        Product rebuilt = repository.findById(product.getId()).orElseThrow();
+
+        // Then
+        assertThat(snapshotStore.find(product.getId())).isPresent();
+        assertThat(snapshotStore.pending(product.getId()).count()).isEqualTo(1);
+        assertThat(rebuilt.getStockQuantity()).isEqualTo(15);
+        assertThat(rebuilt.getStatus()).isEqualTo(ProductStatus.INACTIVE);
+        assertThat(rebuilt.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("should load stock a ledger escrowed and save the product after it")
+    void shouldSaveAfterLedgerEscrow() {
+        // Given
+        Product product = repository.save(Product.create("Laptop", "Fast", PRICE, 10));
+        StockLedgerStore ledgerStore = new StockLedgerStore(jdbcTemplate, transactionTemplate, eventPublisher,
+            eventStore);
+        ledgerStore.escrow("test", product.getId(), 4);
+
+        // When
+        Product loaded = repository.findById(product.getId()).orElseThrow();
+        loaded.changePrice(Money.of(new BigDecimal("90.00"), Currency.getInstance("USD")));
+        repository.save(loaded);
+
+        // Then
+        Product rebuilt = repository.findById(product.getId()).orElseThrow();
+        assertThat(loaded.getStockQuantity()).isEqualTo(6);
+        assertThat(rebuilt.getStockQuantity()).isEqualTo(6);
+        assertThat(rebuilt.getPrice().getAmount()).isEqualByComparingTo("90.00");
+        assertThat(rebuilt.getVersion()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductKeyset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JdbcProductQueryRepository Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({JdbcProductQueryRepository.class, ProductRepositoryImpl.class, ProductPartialUpdater.class,
+    RepricingProgressStore.class})
+class JdbcProductQueryRepositoryTest {
+
+    private static final Money VALID_PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcProductQueryRepository queryRepository;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Test
+    @DisplayName("should project a stored product into a response")
+    void shouldProjectStoredProduct() {
+        // Given
+        Product product = productRepository.save(Product.create("Laptop", "Fast", VALID_PRICE, 10));
+
+        // When
+        ProductResponse response = queryRepository.findById(product.getId()).orElseThrow();
+
+        // Then
+        assertThat(response.id()).isEqualTo(product.getId().value());
+        assertThat(response.name()).isEqualTo("Laptop");
+        assertThat(response.description()).isEqualTo("Fast");
+        assertThat(response.price()).isEqualByComparingTo("100.00");
+        assertThat(response.currency()).isEqualTo("USD");
+        assertThat(response.stockQuantity()).isEqualTo(10);
+        assertThat(response.status()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("should return empty for an unknown ID")
+    void shouldReturnEmptyForUnknownId() {
+        assertThat(queryRepository.findById(ProductId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should page active products in keyset order")
+    void shouldPageActiveProductsInKeysetOrder() {
+        // Given
+        Product first = productRepository.save(Product.create("Laptop", null, VALID_PRICE, 1));
+        Product second = productRepository.save(Product.create("Monitor", null, VALID_PRICE, 1));
+        Product inactive = Product.create("Keyboard", null, VALID_PRICE, 1);
+        inactive.deactivate();
+        productRepository.save(inactive);
+
+        // When
+        List<ProductResponse> firstPage = queryRepository.findActivePage(null, 1);
+        ProductResponse last = firstPage.getLast();
+        List<ProductResponse> secondPage = queryRepository.findActivePage(
+            new ProductKeyset(last.createdAt(), ProductId.of(last.id())), 10);
+
+        // Then
+        assertThat(firstPage).extracting(ProductResponse::name).containsExactly(first.getName());
+        assertThat(secondPage).extracting(ProductResponse::name).containsExactly(second.getName());
+    }
+}
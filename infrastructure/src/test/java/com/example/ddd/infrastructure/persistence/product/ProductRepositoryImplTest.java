@@ -0,0 +1,473 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.event.ProductStockChangedEvent;
+import com.example.ddd.domain.aggregateroot.product.ProductId;
+import com.example.ddd.domain.aggregateroot.product.ProductStatus;
+import com.example.ddd.domain.exception.EntityNotFoundException;
+import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.exception.StaleAggregateException;
+import com.example.ddd.domain.model.Discount;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.domain.repository.ProductSelection;
+import com.example.ddd.domain.repository.RepricingSummary;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ProductRepositoryImpl Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ProductRepositoryImpl.class, ProductPartialUpdater.class, RepricingProgressStore.class})
+class ProductRepositoryImplTest {
+
+    private static final Money VALID_PRICE = Money.of(BigDecimal.valueOf(100.00), Currency.getInstance("USD"));
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("Saving new products")
+    class SavingNewProducts {
+
+        @Test
+        @DisplayName("should write a new product with a single INSERT and no SELECT")
+        void shouldWriteNewProductWithSingleInsert() {
+            // Given
+            Product product = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+
+            // When
+            productRepository.save(product);
+            testEntityManager.flush();
+
+            // Then
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should batch new products without a SELECT per product")
+        void shouldBatchNewProductsWithoutSelects() {
+            // Given
+            Product first = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+            Product second = Product.create("Monitor", "Wide", VALID_PRICE, 5);
+
+            // When
+            productRepository.saveAll(List.of(first, second));
+
+            // Then
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should reject a product whose name is already taken")
+        void shouldRejectDuplicateName() {
+            // Given
+            productRepository.save(Product.create("Laptop", "Fast", VALID_PRICE, 10));
+            Product duplicate = Product.create("Laptop", "Another one", VALID_PRICE, 3);
+
+            // When/Then
+            assertThatThrownBy(() -> productRepository.save(duplicate))
+                .isInstanceOf(InvalidDomainStateException.class)
+                .hasMessageContaining("Product with name 'Laptop' already exists");
+        }
+
+        @Test
+        @DisplayName("should mark product as persisted after saving")
+        void shouldMarkProductAsPersistedAfterSaving() {
+            // Given
+            Product product = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+            assertThat(product.isNew()).isTrue();
+
+            // When
+            Product saved = productRepository.save(product);
+
+            // Then
+            assertThat(saved).isSameAs(product);
+            assertThat(saved.isNew()).isFalse();
+        }
+
+        @Test
+        @DisplayName("should hand pending events to the outbox and clear them")
+        void shouldPublishAndClearPendingEvents() {
+            // Given
+            Product product = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+
+            // When
+            productRepository.save(product);
+
+            // Then
+            verify(eventPublisher).publish(argThat((List<DomainEvent<?>> events) ->
+                events.size() == 1 && events.getFirst() instanceof ProductCreatedEvent));
+            assertThat(product.getDomainEvents()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Saving existing products")
+    class SavingExistingProducts {
+
+        @Test
+        @DisplayName("should update a reloaded product instead of inserting it again")
+        void shouldUpdateReloadedProduct() {
+            // Given
+            Product product = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+            productRepository.save(product);
+            testEntityManager.flush();
+            testEntityManager.clear();
+            Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+
+            // When
+            reloaded.updateInfo("Gaming Laptop", "Faster");
+            productRepository.save(reloaded);
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            // Then
+            assertThat(reloaded.isNew()).isFalse();
+            assertThat(reloaded.getVersion()).isEqualTo(1L);
+            assertThat(reloaded.getDirtyFields()).isEmpty();
+            Product stored = productRepository.findById(product.getId()).orElseThrow();
+            assertThat(stored.getName()).isEqualTo("Gaming Laptop");
+            assertThat(stored.getPrice()).isEqualTo(product.getPrice());
+            assertThat(stored.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should not touch the database when nothing changed")
+        void shouldSkipSaveWhenNothingChanged() {
+            // Given
+            Product product = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+            productRepository.save(product);
+            testEntityManager.flush();
+            testEntityManager.clear();
+            Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+            statistics.clear();
+
+            // When
+            reloaded.updateInfo("Laptop", "Fast");
+            productRepository.save(reloaded);
+
+            // Then
+            assertThat(reloaded.getVersion()).isZero();
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("should reject saving a product changed concurrently")
+        void shouldRejectStaleSave() {
+            // Given
+            Product product = Product.create("Laptop", "Fast", VALID_PRICE, 10);
+            productRepository.save(product);
+            testEntityManager.flush();
+            testEntityManager.clear();
+            Product first = productRepository.findById(product.getId()).orElseThrow();
+            Product second = productRepository.findById(product.getId()).orElseThrow();
+            first.addStock(5);
+            productRepository.save(first);
+
+            // When/Then
+            second.removeStock(3);
+            assertThatThrownBy(() -> productRepository.save(second))
+                .isInstanceOf(StaleAggregateException.class)
+                .hasMessageContaining("expected version 0");
+        }
+    }
+
+    @Nested
+    @DisplayName("Adjusting stock")
+    class AdjustingStock {
+
+        @Test
+        @DisplayName("should remove stock in place and publish a stock-changed event")
+        void shouldRemoveStockAndPublishEvent() {
+            // Given
+            Product product = productRepository.save(Product.create("Laptop", "Fast", VALID_PRICE, 10));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            // When
+            ProductStockChangedEvent changed = productRepository.adjustStock(product.getId(), -4);
+
+            // Then
+            assertThat(changed.getOldQuantity()).isEqualTo(10);
+            assertThat(changed.getNewQuantity()).isEqualTo(6);
+            assertThat(changed.aggregateVersion()).isEqualTo(1L);
+            verify(eventPublisher).publish(changed);
+            Product stored = productRepository.findById(product.getId()).orElseThrow();
+            assertThat(stored.getStockQuantity()).isEqualTo(6);
+            assertThat(stored.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should reject removing more than is in stock and leave the stock unchanged")
+        void shouldRejectInsufficientStock() {
+            // Given
+            Product product = productRepository.save(Product.create("Laptop", "Fast", VALID_PRICE, 3));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            // When/Then
+            assertThatThrownBy(() -> productRepository.adjustStock(product.getId(), -5))
+                .isInstanceOf(InvalidDomainStateException.class)
+                .hasMessage("Insufficient stock. Available: 3, Requested: 5");
+            assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("should report an unknown product as not found")
+        void shouldReportUnknownProduct() {
+            assertThatThrownBy(() -> productRepository.adjustStock(ProductId.generate(), 1))
+                .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Paging the catalog")
+    class PagingTheCatalog {
+
+        @Test
+        @DisplayName("should walk every product of any status in ID order, one page after another")
+        void shouldWalkCatalogInIdOrder() {
+            // Given
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                products.add(Product.create("Product " + i, null, VALID_PRICE, i));
+            }
+            products.get(2).deactivate();
+            productRepository.saveAll(products);
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            // When
+            List<Product> first = productRepository.findPage(null, 2);
+            List<Product> second = productRepository.findPage(first.getLast().getId(), 2);
+            List<Product> third = productRepository.findPage(second.getLast().getId(), 2);
+
+            // Then
+            List<ProductId> expected = products.stream()
+                .map(Product::getId)
+                .sorted(Comparator.comparing(ProductId::toUuid))
+                .toList();
+            assertThat(Stream.of(first, second, third).flatMap(List::stream).map(Product::getId))
+                .containsExactlyElementsOf(expected);
+            assertThat(third).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Repricing in bulk")
+    class RepricingInBulk {
+
+        private static final Currency USD = Currency.getInstance("USD");
+
+        @Test
+        @DisplayName("should reprice only the selected products and publish one event per product in one batch")
+        void shouldRepriceSelection() {
+            // Given
+            Product gaming = productRepository.save(Product.create("Gaming Laptop", null, usd("100.00"), 1));
+            Product office = productRepository.save(Product.create("Office laptop", null, usd("99.99"), 1));
+            Product mouse = productRepository.save(Product.create("Mouse", null, usd("20.00"), 1));
+            Product retired = Product.create("Old Laptop", null, usd("50.00"), 1);
+            retired.deactivate();
+            productRepository.save(retired);
+            testEntityManager.flush();
+            testEntityManager.clear();
+            ProductSelection selection = new ProductSelection(ProductStatus.ACTIVE, "*LAPTOP*", null);
+
+            // When
+            RepricingSummary summary = productRepository.repriceAll("laptops", selection,
+                price -> Discount.ofPercentage(new BigDecimal("12.5")).applyTo(price));
+            testEntityManager.clear();
+
+            // Then
+            assertThat(summary).isEqualTo(new RepricingSummary(2, 2));
+            assertThat(priceOf(gaming)).isEqualByComparingTo("87.50");
+            assertThat(priceOf(office)).isEqualByComparingTo("87.49");
+            assertThat(priceOf(mouse)).isEqualByComparingTo("20.00");
+            assertThat(priceOf(retired)).isEqualByComparingTo("50.00");
+            assertThat(productRepository.findById(gaming.getId()).orElseThrow().getVersion()).isEqualTo(1L);
+            verify(eventPublisher).publish(argThat((List<DomainEvent<?>> events) -> events.size() == 2
+                && events.stream().allMatch(ProductPriceChangedEvent.class::isInstance)));
+        }
+
+        @Test
+        @DisplayName("should count selected products whose price does not change without writing them")
+        void shouldSkipUnchangedPrices() {
+            // Given
+            Product product = productRepository.save(Product.create("Cable", null, usd("0.01"), 1));
+            testEntityManager.flush();
+            testEntityManager.clear();
+
+            // When
+            RepricingSummary summary = productRepository.repriceAll("cables",
+                new ProductSelection(null, null, Set.of(product.getId(), ProductId.generate())),
+                price -> Discount.ofPercentage(10).applyTo(price));
+            testEntityManager.clear();
+
+            // Then
+            assertThat(summary).isEqualTo(new RepricingSummary(1, 0));
+            assertThat(productRepository.findById(product.getId()).orElseThrow().getVersion()).isZero();
+        }
+
+        @Test
+        @DisplayName("should reprice nothing when a finished repricing is repeated")
+        void shouldNotRepeatFinishedRepricing() {
+            // Given
+            Product product = productRepository.save(Product.create("Tablet", null, usd("100.00"), 1));
+            ProductSelection selection = new ProductSelection(null, null, Set.of(product.getId()));
+            productRepository.repriceAll("tablets", selection, price -> Discount.ofPercentage(10).applyTo(price));
+            testEntityManager.clear();
+
+            // When
+            RepricingSummary summary = productRepository.repriceAll("tablets", selection,
+                price -> Discount.ofPercentage(10).applyTo(price));
+            testEntityManager.clear();
+
+            // Then
+            assertThat(summary).isEqualTo(new RepricingSummary(1, 1));
+            assertThat(priceOf(product)).isEqualByComparingTo("90.00");
+        }
+
+        private Money usd(String amount) {
+            return Money.of(new BigDecimal(amount), USD);
+        }
+
+        private BigDecimal priceOf(Product product) {
+            return productRepository.findById(product.getId()).orElseThrow().getPrice().getAmount();
+        }
+    }
+
+    /**
+     * Runs outside a test transaction, so each chunk commits, or rolls back, on its own as in production.
+     */
+    @Nested
+    @DisplayName("Resuming a failed repricing")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class ResumingRepricing {
+
+        // More than one chunk of 1000
+        private static final int CATALOG_SIZE = 2500;
+
+        private static final UnaryOperator<Money> TEN_PERCENT_OFF = price -> Discount.ofPercentage(10).applyTo(price);
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @AfterEach
+        void tearDown() {
+            jdbcTemplate.update("DELETE FROM repricing_progress");
+            jdbcTemplate.update("DELETE FROM products");
+        }
+
+        @Test
+        @DisplayName("should resume after the last committed chunk when the whole catalog is retried")
+        void shouldResumeWholeCatalog() {
+            // Given
+            seedCatalog();
+
+            // When
+            assertThatThrownBy(() -> productRepository.repriceAll("sale", ProductSelection.all(), failingAt(1500)))
+                .isInstanceOf(IllegalStateException.class);
+            RepricingSummary summary = productRepository.repriceAll("sale", ProductSelection.all(), TEN_PERCENT_OFF);
+
+            // Then
+            assertThat(summary).isEqualTo(new RepricingSummary(CATALOG_SIZE, CATALOG_SIZE));
+            assertThat(distinctPrices()).containsExactly(new BigDecimal("90.00"));
+        }
+
+        @Test
+        @DisplayName("should resume after the last committed chunk when an ID set is retried")
+        void shouldResumeIdSet() {
+            // Given
+            Set<ProductId> ids = seedCatalog();
+            ProductSelection selection = new ProductSelection(null, null, ids);
+
+            // When
+            assertThatThrownBy(() -> productRepository.repriceAll("sale", selection, failingAt(2100)))
+                .isInstanceOf(IllegalStateException.class);
+            RepricingSummary summary = productRepository.repriceAll("sale", selection, TEN_PERCENT_OFF);
+
+            // Then
+            assertThat(summary).isEqualTo(new RepricingSummary(CATALOG_SIZE, CATALOG_SIZE));
+            assertThat(distinctPrices()).containsExactly(new BigDecimal("90.00"));
+        }
+
+        private Set<ProductId> seedCatalog() {
+            List<Product> products = new ArrayList<>(CATALOG_SIZE);
+            for (int i = 0; i < CATALOG_SIZE; i++) {
+                products.add(Product.create("Item " + i, null, VALID_PRICE, 1));
+            }
+            return productRepository.saveAll(products).stream().map(Product::getId).collect(Collectors.toSet());
+        }
+
+        // Discounts as TEN_PERCENT_OFF until the given product, where the attempt fails
+        private UnaryOperator<Money> failingAt(int failure) {
+            AtomicInteger calls = new AtomicInteger();
+            return price -> {
+                if (calls.incrementAndGet() == failure) {
+                    throw new IllegalStateException("Repricing interrupted");
+                }
+                return TEN_PERCENT_OFF.apply(price);
+            };
+        }
+
+        private List<BigDecimal> distinctPrices() {
+            return jdbcTemplate.queryForList("SELECT DISTINCT price FROM products", BigDecimal.class);
+        }
+    }
+}
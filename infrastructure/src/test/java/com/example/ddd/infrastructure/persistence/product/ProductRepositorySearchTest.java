@@ -0,0 +1,135 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.PostgresTestConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Product search Tests (PostgreSQL)")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostgresTestConfiguration.class, ProductRepositoryImpl.class, ProductPartialUpdater.class,
+    RepricingProgressStore.class})
+class ProductRepositorySearchTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("should rank the closest names first and leave out names that do not match")
+    void shouldRankByRelevance() {
+        // Given
+        store("Gaming Laptop Pro 15 inch", "Laptop", "Laptop Stand", "Mouse");
+
+        // When
+        List<String> names = names(productRepository.searchActiveByName("laptop", 0, 10));
+
+        // Then
+        assertThat(names).containsExactly("Laptop", "Laptop Stand", "Gaming Laptop Pro 15 inch");
+    }
+
+    @Test
+    @DisplayName("should find close misspellings")
+    void shouldFindFuzzyMatches() {
+        // Given
+        store("Laptop", "Keyboard");
+
+        // When & Then
+        assertThat(names(productRepository.searchActiveByName("labtop", 0, 10))).containsExactly("Laptop");
+    }
+
+    @Test
+    @DisplayName("should leave out inactive products")
+    void shouldExcludeInactiveProducts() {
+        // Given
+        store("Laptop");
+        Product retired = Product.create("Laptop Classic", null, PRICE, 1);
+        retired.deactivate();
+        productRepository.save(retired);
+
+        // When & Then
+        assertThat(names(productRepository.searchActiveByName("laptop", 0, 10))).containsExactly("Laptop");
+    }
+
+    @Test
+    @DisplayName("should match LIKE wildcards in the query literally")
+    void shouldEscapeWildcards() {
+        // Given
+        store("Cotton 100% Shirt", "Cotton 1000 Shirt");
+
+        // When & Then
+        assertThat(names(productRepository.searchActiveByName("100%", 0, 10))).containsExactly("Cotton 100% Shirt");
+    }
+
+    @Test
+    @DisplayName("should page through the ranking without gaps or overlaps")
+    void shouldPageThroughRanking() {
+        // Given
+        store(IntStream.range(0, 25).mapToObj(i -> "Laptop " + i).toArray(String[]::new));
+        List<String> all = names(productRepository.searchActiveByName("laptop", 0, 25));
+
+        // When
+        List<String> paged = IntStream.range(0, 3)
+            .mapToObj(page -> productRepository.searchActiveByName("laptop", page * 10, 10))
+            .flatMap(page -> names(page).stream())
+            .toList();
+
+        // Then
+        assertThat(paged).hasSize(25).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    @DisplayName("should be able to read the ranking from the GiST index in distance order")
+    void shouldRankThroughGistIndex() {
+        // Given
+        store("Laptop", "Laptop Stand");
+        // Disabling the alternatives makes the plan independent of how few rows the test table holds
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_sort = off");
+
+        // When
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+            EXPLAIN SELECT * FROM products
+            WHERE status = 'ACTIVE' AND (name ILIKE '%laptop%' OR name % 'laptop')
+            ORDER BY name <-> 'laptop', id
+            LIMIT 20
+            """, String.class));
+
+        // Then
+        assertThat(plan).contains("idx_products_active_name_trgm_gist").doesNotContain("Seq Scan");
+    }
+
+    private void store(String... names) {
+        for (String name : names) {
+            productRepository.save(Product.create(name, null, PRICE, 1));
+        }
+    }
+
+    private static List<String> names(List<Product> products) {
+        return products.stream().map(Product::getName).toList();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.ddd.infrastructure.persistence.product;
+
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.DomainEvent;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductCreatedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.PostgresTestConfiguration;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs outside a test transaction, so the migration, which Liquibase runs on its own connection, sees the data.
+ */
+@DisplayName("Product snapshot migration Tests (PostgreSQL)")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PostgresTestConfiguration.class, ProductRepositoryImpl.class, ProductPartialUpdater.class,
+    RepricingProgressStore.class, DomainEventStore.class, JsonDomainEventCodec.class})
+class ProductSnapshotMigrationTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final String CHANGE_SET = "014-snapshot-products-from-projection";
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private ProductRepositoryImpl projection;
+
+    @Autowired
+    private DomainEventStore eventStore;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SpringLiquibase liquibase;
+
+    private EventSourcedProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new EventSourcedProductRepository(projection, eventStore, new ProductSnapshotStore(jdbcTemplate), 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_snapshots", Map.of());
+        jdbcTemplate.update("DELETE FROM domain_events", Map.of());
+        jdbcTemplate.update("DELETE FROM products", Map.of());
+    }
+
+    @Test
+    @DisplayName("should load a product whose stream the outbox relay wrote before event sourcing from the projection")
+    void shouldLoadLegacyStreamFromProjectionSnapshot() throws Exception {
+        // Given a product stored without event sourcing, whose creation event the relay copied without
+        // description or initial stock, and whose stock change left no event
+        Product product = Product.create("Laptop", "Fast", Money.of(new BigDecimal("100.00"), USD), 10);
+        transactionTemplate.executeWithoutResult(status -> {
+            projection.save(product);
+            eventStore.append(List.of(new ProductCreatedEvent(product.getId(), "Laptop", product.getPrice())));
+            projection.adjustStock(product.getId(), 5);
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            Product stored = projection.findById(product.getId()).orElseThrow();
+            stored.changePrice(Money.of(new BigDecimal("120.00"), USD));
+            List<DomainEvent<?>> events = List.copyOf(stored.getDomainEvents());
+            projection.save(stored);
+            eventStore.append(events);
+        });
+        Product current = projection.findById(product.getId()).orElseThrow();
+
+        // When
+        rerunMigration();
+        Product loaded = repository.findById(product.getId()).orElseThrow();
+
+        // Then
+        assertThat(loaded.getDescription()).isEqualTo("Fast");
+        assertThat(loaded.getStockQuantity()).isEqualTo(15);
+        assertThat(loaded.getPrice().getAmount()).isEqualByComparingTo("120.00");
+        assertThat(loaded.getVersion()).isEqualTo(current.getVersion());
+    }
+
+    @Test
+    @DisplayName("should replay events written after the migration on top of its snapshot")
+    void shouldReplayEventsAfterMigration() throws Exception {
+        // Given
+        Product product = Product.create("Laptop", "Fast", Money.of(new BigDecimal("100.00"), USD), 10);
+        transactionTemplate.executeWithoutResult(status -> {
+            projection.save(product);
+            eventStore.append(List.of(new ProductCreatedEvent(product.getId(), "Laptop", product.getPrice())));
+        });
+        rerunMigration();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            Product loaded = repository.findById(product.getId()).orElseThrow();
+            loaded.addStock(5);
+            repository.save(loaded);
+        });
+
+        // Then
+        Product reloaded = repository.findById(product.getId()).orElseThrow();
+        assertThat(reloaded.getStockQuantity()).isEqualTo(15);
+        assertThat(reloaded.getDescription()).isEqualTo("Fast");
+        assertThat(reloaded.getVersion()).isEqualTo(projection.findById(product.getId()).orElseThrow().getVersion());
+    }
+
+    private void rerunMigration() throws Exception {
+        // The change set already ran against the empty schema; forget it so Liquibase runs it again
+        jdbcTemplate.update("DELETE FROM databasechangelog WHERE id = :id", Map.of("id", CHANGE_SET));
+        liquibase.afterPropertiesSet();
+    }
+}
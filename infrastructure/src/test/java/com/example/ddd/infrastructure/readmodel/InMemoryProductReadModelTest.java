@@ -0,0 +1,173 @@
+package com.example.ddd.infrastructure.readmodel;
+
+import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.domain.aggregateroot.product.Product;
+import com.example.ddd.domain.event.EventPublisher;
+import com.example.ddd.domain.event.ProductPriceChangedEvent;
+import com.example.ddd.domain.model.Money;
+import com.example.ddd.infrastructure.config.ProductReadModelProperties;
+import com.example.ddd.infrastructure.messaging.JsonDomainEventCodec;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore;
+import com.example.ddd.infrastructure.persistence.events.DomainEventStore.StoredDomainEvent;
+import com.example.ddd.infrastructure.persistence.product.JdbcProductQueryRepository;
+import com.example.ddd.infrastructure.persistence.product.ProductPartialUpdater;
+import com.example.ddd.infrastructure.persistence.product.ProductRepositoryImpl;
+import com.example.ddd.infrastructure.persistence.product.RepricingProgressStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryProductReadModel Tests")
+@DataJpaTest(properties = {
+    "spring.liquibase.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({JdbcProductQueryRepository.class, ProductRepositoryImpl.class, ProductPartialUpdater.class,
+    RepricingProgressStore.class, DomainEventStore.class, JsonDomainEventCodec.class})
+class InMemoryProductReadModelTest {
+
+    private static final Money PRICE = Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"));
+
+    // No load overlap, so the tail starts at the newest stored event; gaps are waited for throughout a test
+    private static final ProductReadModelProperties PROPERTIES =
+        new ProductReadModelProperties(true, Duration.ofMillis(500), 1000, Duration.ofHours(1), 0);
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcProductQueryRepository queryRepository;
+
+    @Autowired
+    private ProductRepositoryImpl productRepository;
+
+    @Autowired
+    private DomainEventStore eventStore;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private InMemoryProductReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new InMemoryProductReadModel(queryRepository, jdbcTemplate, eventStore, PROPERTIES,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("should load the table and page it in the same order as the database")
+    void shouldLoadAndPageLikeDatabase() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(Product.create("Product " + i, null, PRICE, i));
+        }
+        Product inactive = Product.create("Keyboard", null, PRICE, 1);
+        inactive.deactivate();
+        productRepository.save(inactive);
+
+        // When
+        readModel.load();
+
+        // Then
+        List<ProductResponse> expected = queryRepository.findActivePage(null, 10);
+        assertThat(readModel.findActivePage(null, 10)).containsExactlyElementsOf(expected);
+        assertThat(readModel.findActivePage(null, 2)).containsExactlyElementsOf(expected.subList(0, 2));
+        assertThat(readModel.findById(inactive.getId())).isPresent();
+        assertThat(readModel.watermark()).isPresent();
+    }
+
+    @Test
+    @DisplayName("should apply a stored change event and ignore a stale one")
+    void shouldApplyChangeAndIgnoreStaleEvent() {
+        // Given
+        Product saved = productRepository.save(Product.create("Laptop", "Fast", PRICE, 10));
+        readModel.load();
+        Product product = productRepository.findById(saved.getId()).orElseThrow();
+        product.changePrice(Money.of(new BigDecimal("90.00"), Currency.getInstance("USD")));
+        ProductPriceChangedEvent change = (ProductPriceChangedEvent) product.getDomainEvents().getLast();
+        eventStore.append(List.of(change, new ProductPriceChangedEvent(saved.getId(), PRICE,
+            Money.of(new BigDecimal("80.00"), Currency.getInstance("USD")), change.aggregateVersion() - 1)));
+
+        // When
+        int read = readModel.poll();
+
+        // Then
+        ProductResponse response = readModel.findById(saved.getId()).orElseThrow();
+        assertThat(read).isEqualTo(2);
+        assertThat(response.price()).isEqualByComparingTo("90.00");
+        assertThat(response.updatedAt()).isEqualTo(change.occurredOn());
+    }
+
+    @Test
+    @DisplayName("should add created products to the listing and drop deactivated ones")
+    void shouldTrackCreationAndDeactivation() {
+        // Given
+        readModel.load();
+        Product product = Product.create("Monitor", "Wide", PRICE, 3);
+        Product other = Product.create("Keyboard", null, PRICE, 1);
+
+        // When
+        eventStore.append(product.getDomainEvents());
+        eventStore.append(other.getDomainEvents());
+        readModel.poll();
+        List<ProductResponse> afterCreate = readModel.findActivePage(null, 10);
+        product.clearDomainEvents();
+        product.deactivate();
+        eventStore.append(product.getDomainEvents());
+        readModel.poll();
+
+        // Then
+        assertThat(afterCreate).extracting(ProductResponse::name).containsExactlyInAnyOrder("Monitor", "Keyboard");
+        assertThat(readModel.findActivePage(null, 10)).extracting(ProductResponse::name).containsExactly("Keyboard");
+        assertThat(readModel.findById(product.getId()).orElseThrow().status()).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    @DisplayName("should hold the watermark below a missing sequence until its event commits")
+    void shouldHoldWatermarkBelowGap() {
+        // Given an event stored before the load, so the tail starts at a known sequence
+        eventStore.append(Product.create("Seed", null, PRICE, 1).getDomainEvents());
+        readModel.load();
+        Product product = Product.create("Laptop", "Fast", PRICE, 10);
+        product.changePrice(Money.of(new BigDecimal("90.00"), Currency.getInstance("USD")));
+        product.changePrice(Money.of(new BigDecimal("80.00"), Currency.getInstance("USD")));
+        eventStore.append(product.getDomainEvents());
+        List<Long> sequences = eventStore.readStream(product.getId().toUuid(), 0).stream()
+            .map(StoredDomainEvent::sequence)
+            .toList();
+        long middle = sequences.get(1);
+        // Hide the first price change as if its transaction had not committed yet
+        jdbcTemplate.update("UPDATE domain_events SET id = -id WHERE id = :id", Map.of("id", middle));
+
+        // When
+        readModel.poll();
+        OptionalLong behindGap = readModel.watermark();
+        jdbcTemplate.update("UPDATE domain_events SET id = -id WHERE id = :id", Map.of("id", -middle));
+        readModel.poll();
+
+        // Then
+        assertThat(behindGap).hasValue(middle - 1);
+        assertThat(readModel.watermark()).hasValue(sequences.get(2));
+        assertThat(readModel.findById(product.getId()).orElseThrow().price()).isEqualByComparingTo("80.00");
+    }
+}
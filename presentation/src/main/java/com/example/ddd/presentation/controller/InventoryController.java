@@ -0,0 +1,147 @@
+package com.example.ddd.presentation.controller;
+
+import com.example.ddd.application.dto.LocationAvailabilityResponse;
+import com.example.ddd.application.dto.LocationStockAdjustmentResponse;
+import com.example.ddd.application.dto.StockAdjustmentRequest;
+import com.example.ddd.application.dto.StockLocationRequest;
+import com.example.ddd.application.dto.StockLocationResponse;
+import com.example.ddd.application.usecase.AdjustLocationStockUseCase;
+import com.example.ddd.application.usecase.FindNearbyStockUseCase;
+import com.example.ddd.application.usecase.SaveStockLocationUseCase;
+import com.example.ddd.presentation.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for stock held at warehouse and store locations.
+ * Movements at a location write only that location's stock; a product's total stock,
+ * as returned by the product endpoints, follows in the background.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+@Tag(name = "Inventory", description = "Stock locations and per-location stock")
+public class InventoryController {
+
+    private final SaveStockLocationUseCase saveStockLocationUseCase;
+    private final AdjustLocationStockUseCase adjustLocationStockUseCase;
+    private final FindNearbyStockUseCase findNearbyStockUseCase;
+
+    @Operation(
+        summary = "Create or update a stock location",
+        description = "Creates the warehouse or store with the given code, or updates its name and position."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Location saved",
+            content = @Content(schema = @Schema(implementation = StockLocationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid code, name or position",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PutMapping("/locations/{code}")
+    public ResponseEntity<StockLocationResponse> saveLocation(
+            @Parameter(description = "Location code", required = true, example = "AMS-1")
+            @PathVariable String code,
+            @Valid @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Location name and position",
+                required = true
+            )
+            StockLocationRequest request) {
+        log.info("Received request to save stock location {}", code);
+        return ResponseEntity.ok(saveStockLocationUseCase.execute(code, request));
+    }
+
+    @Operation(
+        summary = "Adjust a product's stock at a location",
+        description = "Adds stock at the location, or removes it when delta is negative. " +
+            "Only the location's stock is checked and written; the product's total stock follows shortly after."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stock adjusted",
+            content = @Content(schema = @Schema(implementation = LocationStockAdjustmentResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Product or location not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid delta or insufficient stock at the location",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/products/{productId}/locations/{code}/stock-adjustments")
+    public ResponseEntity<LocationStockAdjustmentResponse> adjustLocationStock(
+            @Parameter(description = "Product ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String productId,
+            @Parameter(description = "Location code", required = true, example = "AMS-1")
+            @PathVariable String code,
+            @Valid @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Units to add or remove",
+                required = true
+            )
+            StockAdjustmentRequest request) {
+        log.debug("Received request to adjust stock of product {} at {} by {}", productId, code, request.delta());
+        return ResponseEntity.ok(adjustLocationStockUseCase.execute(productId, code, request));
+    }
+
+    @Operation(
+        summary = "Find stock of a product near a position",
+        description = "Lists the locations within radiusKm of the position that hold at least minQuantity units " +
+            "of the product, nearest first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Nearby locations with stock, possibly none",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = LocationAvailabilityResponse.class)))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid position or radius",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/products/{productId}/availability")
+    public ResponseEntity<List<LocationAvailabilityResponse>> findNearbyStock(
+            @Parameter(description = "Product ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String productId,
+            @Parameter(description = "Latitude in decimal degrees", required = true, example = "52.3676")
+            @RequestParam double latitude,
+            @Parameter(description = "Longitude in decimal degrees", required = true, example = "4.9041")
+            @RequestParam double longitude,
+            @Parameter(description = "Search radius in kilometres", example = "50")
+            @RequestParam(defaultValue = "50") double radiusKm,
+            @Parameter(description = "Minimum units a location must hold", example = "1")
+            @RequestParam(defaultValue = "1") int minQuantity,
+            @Parameter(description = "Maximum number of locations (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Received request for stock of product {} near {}, {}", productId, latitude, longitude);
+        return ResponseEntity.ok(
+            findNearbyStockUseCase.execute(productId, latitude, longitude, radiusKm, minQuantity, limit));
+    }
+}
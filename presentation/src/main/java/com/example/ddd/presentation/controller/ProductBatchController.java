@@ -0,0 +1,65 @@
+package com.example.ddd.presentation.controller;
+
+import com.example.ddd.application.dto.BatchProductRequest;
+import com.example.ddd.application.dto.BatchProductResponse;
+import com.example.ddd.application.usecase.BatchProductsUseCase;
+import com.example.ddd.presentation.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for custom methods on the product collection ({@code /api/products:<method>}).
+ * Kept apart from ProductController because a class-level {@code /api/products} mapping
+ * would insert a path separator before the method suffix.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Products", description = "Product management API - handles product catalog operations")
+public class ProductBatchController {
+
+    private final BatchProductsUseCase batchProductsUseCase;
+
+    @Operation(
+        summary = "Create and update products in bulk",
+        description = "Creates and updates up to 1000 products each in a single unit of work. " +
+            "Items that break domain rules are rejected individually; the response carries one result per item."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed; see per-item results",
+            content = @Content(schema = @Schema(implementation = BatchProductResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Malformed batch or an item failed validation",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/products:batch")
+    public ResponseEntity<BatchProductResponse> batchProducts(
+            @Valid @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Products to create and update",
+                required = true
+            )
+            BatchProductRequest request) {
+        log.info("Received product batch request");
+        BatchProductResponse response = batchProductsUseCase.execute(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,13 +1,29 @@
 package com.example.ddd.presentation.controller;
 
 import com.example.ddd.application.dto.CreateProductRequest;
+import com.example.ddd.application.dto.ProductPageResponse;
+import com.example.ddd.application.dto.ProductSearchResponse;
 import com.example.ddd.application.dto.ProductResponse;
+import com.example.ddd.application.dto.RepriceProductsRequest;
+import com.example.ddd.application.dto.RepriceProductsResponse;
+import com.example.ddd.application.dto.StockAdjustmentRequest;
+import com.example.ddd.application.dto.StockAdjustmentResponse;
 import com.example.ddd.application.dto.UpdateProductRequest;
+import com.example.ddd.application.usecase.AdjustStockUseCase;
 import com.example.ddd.application.usecase.CreateProductUseCase;
+import com.example.ddd.application.usecase.ExportProductsUseCase;
+import com.example.ddd.application.usecase.GetCatalogVersionUseCase;
 import com.example.ddd.application.usecase.GetProductUseCase;
+import com.example.ddd.application.usecase.GetProductVersionUseCase;
 import com.example.ddd.application.usecase.ListProductsUseCase;
+import com.example.ddd.application.usecase.RepriceProductsUseCase;
+import com.example.ddd.application.usecase.SearchProductsUseCase;
 import com.example.ddd.application.usecase.UpdateProductUseCase;
 import com.example.ddd.presentation.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,15 +34,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 
 /**
  * REST controller for Product operations.
  * This is the presentation layer entry point.
+ * Product and list reads carry strong ETags. A request with If-None-Match is first checked
+ * against a version lookup and answered with 304 before the body is read or serialized.
  */
 @Slf4j
 @RestController
@@ -35,10 +60,20 @@ import java.util.List;
 @Tag(name = "Products", description = "Product management API - handles product catalog operations")
 public class ProductController {
 
+    // Rows between explicit flushes; the first row is always flushed so the client sees bytes immediately
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final CreateProductUseCase createProductUseCase;
     private final GetProductUseCase getProductUseCase;
+    private final GetProductVersionUseCase getProductVersionUseCase;
+    private final GetCatalogVersionUseCase getCatalogVersionUseCase;
     private final UpdateProductUseCase updateProductUseCase;
+    private final AdjustStockUseCase adjustStockUseCase;
+    private final RepriceProductsUseCase repriceProductsUseCase;
     private final ListProductsUseCase listProductsUseCase;
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "Create a new product",
@@ -79,6 +114,10 @@ public class ProductController {
             description = "Product found and returned",
             content = @Content(schema = @Schema(implementation = ProductResponse.class))
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Product unchanged since the ETag given in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Product not found with the given ID",
@@ -88,10 +127,16 @@ public class ProductController {
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getProduct(
             @Parameter(description = "Product ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable String id) {
+            @PathVariable String id,
+            WebRequest webRequest) {
         log.debug("Received request to get product: {}", id);
+        if (isConditional(webRequest) && webRequest.checkNotModified(eTag(getProductVersionUseCase.execute(id)))) {
+            return null;
+        }
         ProductResponse response = getProductUseCase.execute(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(eTag(response.updatedAt()))
+            .body(response);
     }
 
     @Operation(
@@ -131,20 +176,192 @@ public class ProductController {
     }
 
     @Operation(
-        summary = "List all active products",
-        description = "Retrieves a list of all active products in the catalog. Inactive and discontinued products are excluded."
+        summary = "Adjust product stock",
+        description = "Adds stock to a product, or removes it when delta is negative. The availability check " +
+            "and the change are applied atomically, so concurrent adjustments of the same product are never lost."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "List of products retrieved successfully",
-            content = @Content(schema = @Schema(implementation = ProductResponse.class))
+            description = "Stock adjusted",
+            content = @Content(schema = @Schema(implementation = StockAdjustmentResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Product not found with the given ID",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid delta or insufficient stock",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/{id}/stock-adjustments")
+    public ResponseEntity<StockAdjustmentResponse> adjustStock(
+            @Parameter(description = "Product ID", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable String id,
+            @Valid @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Units to add or remove",
+                required = true
+            )
+            StockAdjustmentRequest request) {
+        log.debug("Received request to adjust stock of product {} by {}", id, request.delta());
+        StockAdjustmentResponse response = adjustStockUseCase.execute(id, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Discount a selection of products",
+        description = "Applies a percentage discount to every product matching the status, name pattern and IDs given, " +
+            "or to the whole catalog when none are. Prices are computed exactly and rounded half-even to the cent; " +
+            "products are repriced in chunks, each committed on its own, with one price-changed event per product. " +
+            "Retrying a failed request with the same repricing ID resumes after the last committed chunk."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Products repriced",
+            content = @Content(schema = @Schema(implementation = RepriceProductsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid selection, or a discount over 50% or with more than two decimals",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/repricing")
+    public ResponseEntity<RepriceProductsResponse> repriceProducts(
+            @Valid @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Selection and discount",
+                required = true
+            )
+            RepriceProductsRequest request) {
+        log.info("Received request to reprice products with {}% off", request.discountPercentage());
+        RepriceProductsResponse response = repriceProductsUseCase.execute(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "List active products",
+        description = "Retrieves one page of active products ordered by creation time. " +
+            "Pass the returned nextCursor to fetch the following page. Inactive and discontinued products are excluded."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of products retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ProductPageResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Catalog unchanged since the ETag given in If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Malformed pagination cursor",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> listProducts() {
-        log.debug("Received request to list all products");
-        List<ProductResponse> responses = listProductsUseCase.execute();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<ProductPageResponse> listProducts(
+            @Parameter(description = "Opaque cursor from a previous page's nextCursor; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of products per page (1-100, default 20)", example = "20")
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        log.debug("Received request to list products (cursor: {}, limit: {})", cursor, limit);
+        // Read the version before the page, so a concurrent change can only make the ETag older than the body
+        String eTag = eTag(getCatalogVersionUseCase.execute());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        ProductPageResponse response = listProductsUseCase.execute(cursor, limit);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(response);
+    }
+
+    @Operation(
+        summary = "Search products by name",
+        description = "Finds active products whose name contains the query or closely matches it, " +
+            "ordered by relevance. Results are paged; use hasMore to decide whether to request the next page."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Search results retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ProductSearchResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Blank query or page out of range",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @Parameter(description = "Text to search for in product names", required = true, example = "laptop")
+            @RequestParam("q") String query,
+            @Parameter(description = "Zero-based page number (0-100)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Maximum number of results per page (1-50)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Received request to search products: {}", query);
+        ProductSearchResponse response = searchProductsUseCase.execute(query, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Export the product catalog",
+        description = "Streams every product as newline-delimited JSON (one ProductResponse per line). " +
+            "The response is written while products are read, so it starts immediately and does not buffer the catalog."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Catalog export stream",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = ProductResponse.class))
+        )
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        log.info("Received request to export the product catalog");
+        StreamingResponseBody body = this::writeNdjson;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    // Strong ETag for a representation last changed at the given time
+    private static String eTag(Instant updatedAt) {
+        return "\"" + updatedAt.getEpochSecond() + "." + updatedAt.getNano() + "\"";
+    }
+
+    private void writeNdjson(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ProductResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            long[] written = {0};
+            exportProductsUseCase.execute(product -> {
+                try {
+                    writer.writeValue(generator, product);
+                    generator.writeRaw('\n');
+                    if (written[0]++ % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
     }
 }
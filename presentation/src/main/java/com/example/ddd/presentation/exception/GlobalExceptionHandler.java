@@ -3,6 +3,8 @@ package com.example.ddd.presentation.exception;
 import com.example.ddd.domain.exception.DomainException;
 import com.example.ddd.domain.exception.EntityNotFoundException;
 import com.example.ddd.domain.exception.InvalidDomainStateException;
+import com.example.ddd.domain.exception.InvalidIdentifierException;
+import com.example.ddd.domain.exception.StaleAggregateException;
 import com.example.ddd.presentation.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -48,6 +50,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(StaleAggregateException.class)
+    public ResponseEntity<ErrorResponse> handleStaleAggregate(StaleAggregateException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            "Concurrent modification",
+            ex.getMessage(),
+            Instant.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
         log.error("Domain exception: {}", ex.getMessage(), ex);
@@ -60,6 +74,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(InvalidIdentifierException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdentifier(InvalidIdentifierException ex) {
+        log.warn("Invalid identifier: {}", ex.getMessage());
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Invalid identifier",
+            ex.getMessage(),
+            Instant.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
         log.warn("Validation error: {}", ex.getMessage());
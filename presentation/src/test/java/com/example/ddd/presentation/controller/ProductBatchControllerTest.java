@@ -0,0 +1,93 @@
+package com.example.ddd.presentation.controller;
+
+import com.example.ddd.application.usecase.BatchProductsUseCase;
+import com.example.ddd.domain.repository.ProductRepository;
+import com.example.ddd.presentation.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("ProductBatchController Tests")
+@WebMvcTest
+@ContextConfiguration(classes = {
+    ProductBatchController.class,
+    GlobalExceptionHandler.class,
+    ProductBatchControllerTest.UseCases.class
+})
+class ProductBatchControllerTest {
+
+    @MockitoBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TestConfiguration
+    static class UseCases {
+
+        @Bean
+        BatchProductsUseCase batchProductsUseCase(ProductRepository productRepository) {
+            return new BatchProductsUseCase(productRepository);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findAllById(any())).thenReturn(List.of());
+        when(productRepository.findExistingNames(any())).thenReturn(Set.of("Laptop"));
+    }
+
+    @Test
+    @DisplayName("should answer 200 with the conflicting item rejected and the others created")
+    void shouldRejectConflictingItemOnly() throws Exception {
+        mockMvc.perform(post("/api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"create": [
+                      {"name": "Monitor", "price": 199.99, "currency": "USD", "initialStock": 5},
+                      {"name": "Laptop", "price": 999.99, "currency": "USD", "initialStock": 1},
+                      {"name": "Keyboard", "price": 49.99, "currency": "USD", "initialStock": 20}
+                    ]}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results.length()").value(3))
+            .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+            .andExpect(jsonPath("$.results[0].product.name").value("Monitor"))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].error").value("Product with name 'Laptop' already exists"))
+            .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("should answer 400 without touching the repository when an item fails validation")
+    void shouldRejectInvalidItem() throws Exception {
+        mockMvc.perform(post("/api/products:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"create": [{"name": "", "price": 10, "currency": "USD", "initialStock": 1}]}
+                    """))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Validation failed"))
+            .andExpect(jsonPath("$.validationErrors['create[0].name']").value("Product name is required"));
+        verify(productRepository, never()).saveAll(any());
+    }
+}